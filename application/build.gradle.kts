@@ -33,6 +33,9 @@ dependencies {
     implementation ("org.springframework.boot:spring-boot-starter-data-jpa")
 
 
+    // Metrics
+    implementation ("org.springframework.boot:spring-boot-starter-actuator")
+
     // Swagger
     implementation ("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.2.0")
 
@@ -45,6 +48,7 @@ dependencies {
 
     // Caching
     implementation ("org.springframework.boot:spring-boot-starter-cache")
+    implementation ("com.github.ben-manes.caffeine:caffeine")
     implementation ("org.springframework.boot:spring-boot-starter-data-redis")
 
     // JWT tokens
@@ -54,6 +58,7 @@ dependencies {
 
     // WebFlux
     implementation ("org.springframework.boot:spring-boot-starter-webflux")
+    testImplementation ("io.projectreactor:reactor-test")
 
     // Json
     implementation ("org.json:json:20211205")
@@ -105,3 +110,26 @@ allOpen {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+// KMDB 대역 서버를 이용한 부하 테스트 (gradle loadTest -Dkmdb.load.requests=...)
+tasks.register<Test>("loadTest") {
+    description = "Runs load tests against the fake KMDB server."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("kmdb.") }
+        .mapKeys { it.key.toString() })
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
+}
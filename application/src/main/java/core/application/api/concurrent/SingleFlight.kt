@@ -0,0 +1,76 @@
+package core.application.api.concurrent
+
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.function.Supplier
+
+/**
+ * 같은 키로 동시에 들어온 작업을 하나로 합치는 single-flight 구현
+ *
+ * 진행 중인 작업이 있으면 새 작업을 시작하지 않고 진행 중인 작업의 결과를 함께 받는다.
+ * 작업이 끝나면 키가 해제되므로, 이후 요청은 새 작업을 시작한다.
+ *
+ * `singleflight.calls` 지표의 `result` 태그로 실제 실행(`leader`)과 합쳐진 요청(`coalesced`) 수를 구분한다.
+ *
+ * @param name 지표에 붙는 이름
+ */
+class SingleFlight<K : Any, V>(name: String, meterRegistry: MeterRegistry) {
+
+    private val inFlight = ConcurrentHashMap<K, CompletableFuture<V>>()
+
+    private val leaderCounter: Counter = Counter.builder("singleflight.calls")
+        .tag("name", name)
+        .tag("result", "leader")
+        .register(meterRegistry)
+
+    private val coalescedCounter: Counter = Counter.builder("singleflight.calls")
+        .tag("name", name)
+        .tag("result", "coalesced")
+        .register(meterRegistry)
+
+    /**
+     * `key` 로 진행 중인 작업이 없을 때만 `call` 을 실행한다.
+     *
+     * @return 작업 결과. 호출자마다 별도의 future 를 반환하므로 취소가 다른 호출자에게 전파되지 않는다.
+     */
+    fun execute(key: K, call: Supplier<CompletableFuture<V>>): CompletableFuture<V> {
+        val promise = CompletableFuture<V>()
+        val existing = inFlight.putIfAbsent(key, promise)
+        if (existing != null) {
+            coalescedCounter.increment()
+            return existing.copy()
+        }
+
+        leaderCounter.increment()
+        try {
+            call.get().whenComplete { value, error ->
+                inFlight.remove(key, promise)
+                if (error != null) {
+                    promise.completeExceptionally(unwrap(error))
+                } else {
+                    promise.complete(value)
+                }
+            }
+        } catch (e: Throwable) {
+            inFlight.remove(key, promise)
+            promise.completeExceptionally(e)
+        }
+        return promise.copy()
+    }
+
+    fun isInFlight(key: K): Boolean = inFlight.containsKey(key)
+
+    /**
+     * 현재 진행 중인 작업 수
+     */
+    fun inFlightCount(): Int = inFlight.size
+
+    fun coalescedCount(): Long = coalescedCounter.count().toLong()
+
+    private fun unwrap(error: Throwable): Throwable {
+        return if (error is CompletionException && error.cause != null) error.cause!! else error
+    }
+}
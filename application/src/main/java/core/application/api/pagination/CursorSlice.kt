@@ -0,0 +1,30 @@
+package core.application.api.pagination
+
+/**
+ * 키셋 페이징으로 읽은 한 페이지
+ *
+ * @param nextCursor 다음 페이지를 읽을 [SeekCursor] 토큰, 마지막 페이지면 `null`
+ */
+data class CursorSlice<T>(
+    val content: List<T>,
+    val nextCursor: String?
+) {
+    val hasNext: Boolean
+        get() = nextCursor != null
+
+    companion object {
+        /**
+         * `num + 1` 개까지 읽은 [rows] 로 만든 페이지
+         * <br>
+         * 한 개를 더 읽어 다음 페이지가 있는지 확인하므로 전체 개수를 세지 않는다.
+         *
+         * @param cursorOf 행의 위치
+         */
+        @JvmStatic
+        fun <T> of(rows: List<T>, num: Int, cursorOf: (T) -> SeekCursor): CursorSlice<T> {
+            if (rows.size <= num) return CursorSlice(rows, null)
+            val content = rows.subList(0, num).toList()
+            return CursorSlice(content, cursorOf(content.last()).encode())
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package core.application.api.pagination
+
+import java.util.*
+
+/**
+ * 키셋 페이징에서 마지막으로 읽은 행의 위치
+ *
+ * 다음 페이지는 `(key, id)` 내림차순으로 이 위치보다 뒤의 행부터 읽는다.
+ * 식별자 순서로만 정렬하는 목록은 [of] 로 `key` 에도 식별자를 둔다.
+ *
+ * 클라이언트에는 [encode] 한 불투명한 토큰으로 전달한다.
+ */
+data class SeekCursor(val key: Long, val id: Long) {
+
+    /**
+     * `int` 컬럼과 비교할 정렬 기준 값
+     */
+    val intKey: Int
+        get() = key.coerceIn(Int.MIN_VALUE.toLong(), Int.MAX_VALUE.toLong()).toInt()
+
+    fun encode(): String {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString("$key:$id".toByteArray())
+    }
+
+    companion object {
+        /**
+         * 첫 페이지를 읽을 위치, 모든 행이 이 위치보다 뒤에 있다.
+         */
+        @JvmField
+        val FIRST = SeekCursor(Long.MAX_VALUE, Long.MAX_VALUE)
+
+        /**
+         * 식별자 순서로만 정렬하는 목록의 위치
+         */
+        @JvmStatic
+        fun of(id: Long): SeekCursor = SeekCursor(id, id)
+
+        /**
+         * [encode] 한 토큰의 위치, 토큰이 없으면 [FIRST]
+         *
+         * @throws IllegalArgumentException 올바르지 않은 토큰
+         */
+        @JvmStatic
+        fun decode(token: String?): SeekCursor {
+            if (token.isNullOrBlank()) return FIRST
+            val parts = try {
+                String(Base64.getUrlDecoder().decode(token)).split(":")
+            } catch (e: IllegalArgumentException) {
+                throw IllegalArgumentException("올바르지 않은 cursor : $token", e)
+            }
+            val key = parts.getOrNull(0)?.toLongOrNull()
+            val id = parts.getOrNull(1)?.toLongOrNull()
+            require(parts.size == 2 && key != null && id != null) { "올바르지 않은 cursor : $token" }
+            return SeekCursor(key, id)
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package core.application.api.response
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.http.CacheControl
+import org.springframework.http.HttpHeaders
+import org.springframework.http.HttpStatus
+import org.springframework.http.MediaType
+import org.springframework.http.ResponseEntity
+import org.springframework.stereotype.Component
+import java.io.ByteArrayOutputStream
+import java.lang.ref.WeakReference
+import java.security.MessageDigest
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicLong
+import java.util.zip.GZIPOutputStream
+
+/**
+ * 자주 조회되는 읽기 전용 응답을 `ApiResponse.onSuccess` 로 감싼 최종 JSON byte 로 보관하는 캐시
+ *
+ * - 응답마다 ETag 와 gzip 압축본을 미리 만들어 두어, 조회 시 직렬화 / 압축 없이 byte 를 그대로 응답한다.
+ * - `If-None-Match` 가 같으면 본문 없이 `304` 로 응답한다.
+ * - 메모리에 미리 만들어 둔 값은 [of] 로 같은 객체인 동안만, DB 에서 읽는 값은 [getAsync] 로 [evict] 될 때까지 재사용한다.
+ * - 재사용하지 않는 값은 [uncached] 로 ETag, 압축본 없이 직렬화만 한다.
+ * - 응답 크기 합계 기준의 메모리 상한 (`api.json-cache.max-weight`, byte) 과 TTL (`api.json-cache.ttl`) 을 둔다.
+ */
+@Component
+class JsonResponseCache(
+    private val objectMapper: ObjectMapper,
+    @Value("\${api.json-cache.max-weight:16777216}") maxWeight: Long,
+    @Value("\${api.json-cache.ttl:10m}") ttl: Duration,
+    meterRegistry: MeterRegistry
+) {
+    /**
+     * 직렬화된 응답
+     *
+     * @param source 직렬화한 값, [of] 로 만든 경우에만 기억한다.
+     * @param gzipBody gzip 압축본, 압축 이득이 없거나 [uncached] 로 만들었으면 `null`
+     * @param etag [uncached] 로 만들었으면 `null`
+     */
+    class Entry(
+        source: Any?,
+        val body: ByteArray,
+        val gzipBody: ByteArray?,
+        val etag: String?
+    ) {
+        // 보관된 응답이 무게에 포함되지 않는 원래 값을 붙잡아 두지 않도록 약하게 참조한다.
+        private val source = source?.let { WeakReference(it) }
+
+        fun isFrom(value: Any): Boolean = source?.get() === value
+    }
+
+    private val cache: Cache<String, Entry> = Caffeine.newBuilder()
+        .maximumWeight(maxWeight)
+        .weigher { key: String, entry: Entry -> key.length * 2 + entry.body.size + (entry.gzipBody?.size ?: 0) }
+        .expireAfterWrite(ttl)
+        .executor(Runnable::run)
+        .recordStats()
+        .build()
+
+    // 조회 중 무효화된 값을 다시 보관하지 않도록 키별로 무효화 횟수를 센다.
+    // 오래 쓰지 않은 키는 버리며, 조회 중 버려졌으면 무효화된 것으로 보고 보관하지 않는다.
+    private val versions: Cache<String, AtomicLong> = Caffeine.newBuilder()
+        .expireAfterAccess(ttl)
+        .maximumSize(MAX_VERSIONS)
+        .executor(Runnable::run)
+        .build()
+
+    init {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "api.json")
+    }
+
+    /**
+     * 메모리에 미리 만들어 둔 값의 응답, 보관된 응답이 같은 객체로 만든 것이면 재사용한다.
+     */
+    fun of(key: String, value: Any?): Entry {
+        if (value == null) return uncached(null)
+        cache.getIfPresent(key)?.takeIf { it.isFrom(value) }?.let { return it }
+        return serialize(value, value).also { cache.put(key, it) }
+    }
+
+    /**
+     * 보관된 응답, 없으면 `load` 의 결과로 만들어 [evict] 될 때까지 보관한다.
+     */
+    fun getAsync(key: String, load: () -> CompletableFuture<out Any?>): CompletableFuture<Entry> {
+        cache.getIfPresent(key)?.let { return CompletableFuture.completedFuture(it) }
+        val version = versions.get(key) { AtomicLong() }
+        val generation = version.get()
+        return load().thenApply { value ->
+            serialize(null, value).also { entry ->
+                // evict 는 횟수를 늘린 뒤 지우므로, 확인 후 보관한 값도 그 사이 무효화되었다면 지워진다.
+                cache.asMap().compute(key) { _, current ->
+                    if (versions.getIfPresent(key) === version && version.get() == generation) entry else current
+                }
+            }
+        }
+    }
+
+    /**
+     * 보관하지 않는 응답, 한 번만 쓰므로 ETag 와 압축본을 만들지 않는다.
+     */
+    fun uncached(value: Any?): Entry = Entry(null, objectMapper.writeValueAsBytes(ApiResponse.onSuccess(value)), null, null)
+
+    fun evict(key: String) {
+        versions.getIfPresent(key)?.incrementAndGet()
+        cache.invalidate(key)
+    }
+
+    /**
+     * 요청의 `If-None-Match` / `Accept-Encoding` 에 맞는 응답
+     */
+    fun response(entry: Entry, headers: HttpHeaders): ResponseEntity<ByteArray> {
+        if (entry.etag == null) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(entry.body)
+        }
+        val gzip = entry.gzipBody != null && acceptsGzip(headers)
+        val etag = if (gzip) gzipEtag(entry.etag) else entry.etag
+        val notModified = matches(headers.ifNoneMatch, entry.etag)
+        val builder = ResponseEntity.status(if (notModified) HttpStatus.NOT_MODIFIED else HttpStatus.OK)
+            .cacheControl(CacheControl.noCache())
+            .eTag(etag)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+
+        if (notModified) return builder.build()
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON).body(if (gzip) entry.gzipBody else entry.body)
+    }
+
+    private fun serialize(source: Any?, value: Any?): Entry {
+        val body = objectMapper.writeValueAsBytes(ApiResponse.onSuccess(value))
+        val digest = MessageDigest.getInstance("SHA-256").digest(body)
+        val etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.copyOf(ETAG_BYTES)) + "\""
+        return Entry(source, body, gzip(body), etag)
+    }
+
+    private fun gzip(body: ByteArray): ByteArray? {
+        if (body.size < MIN_GZIP_SIZE) return null
+        val out = ByteArrayOutputStream(body.size / 4)
+        GZIPOutputStream(out).use { it.write(body) }
+        return out.toByteArray().takeIf { it.size < body.size }
+    }
+
+    private fun acceptsGzip(headers: HttpHeaders): Boolean {
+        return headers[HttpHeaders.ACCEPT_ENCODING].orEmpty()
+            .flatMap { it.split(",") }
+            .any { it.trim().substringBefore(";").equals("gzip", ignoreCase = true) }
+    }
+
+    // 압축본과 원본은 같은 ETag 를 쓰지 않는다.
+    private fun gzipEtag(etag: String): String = etag.dropLast(1) + "-gzip\""
+
+    private fun matches(ifNoneMatch: List<String>, etag: String): Boolean {
+        return ifNoneMatch.any {
+            val tag = it.trim().removePrefix("W/")
+            tag == "*" || tag == etag || tag == gzipEtag(etag)
+        }
+    }
+
+    companion object {
+        private const val ETAG_BYTES = 12
+        private const val MIN_GZIP_SIZE = 256
+        private const val MAX_VERSIONS = 100_000L
+    }
+}
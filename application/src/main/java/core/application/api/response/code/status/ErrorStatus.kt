@@ -18,6 +18,7 @@ enum class ErrorStatus(val httpStatus: HttpStatus, val code: String) {
     // Movie-related errors
     NO_SEARCH_RESULT(HttpStatus.BAD_REQUEST, "MOVIE4000"),
     NO_MOVIE(HttpStatus.BAD_REQUEST, "MOVIE4001"),
+    KMDB_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "MOVIE5030"),
 
     // User-related errors
     DUPLICATE_EMAIL(HttpStatus.BAD_REQUEST, "USER4000"),
@@ -0,0 +1,13 @@
+package core.application.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 설정 클래스
+ * 검색 결과 영화 저장 등 백그라운드 작업을 위해 스케줄링을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -9,6 +9,9 @@ import core.application.security.oauth.CustomOAuthSuccessHandler;
 import core.application.security.service.JwtAuthenticationEntryPoint;
 import core.application.security.token.JwtTokenUtil;
 import core.application.security.token.TokenService;
+import core.application.users.models.entities.UserRole;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -150,6 +153,12 @@ public class SecurityConfig {
                 .requestMatchers("/swagger-ui/*", "/api-test", "/v3/api-docs/**")
                 .permitAll()
 
+                // 액추에이터
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class))
+                .permitAll() // 상태 확인
+                .requestMatchers(EndpointRequest.toAnyEndpoint())
+                .hasAuthority(UserRole.ADMIN.name()) // 지표 조회, 영화 순위 / 집계 재구성은 관리자만
+
                 // ETC
                 .requestMatchers("/error")
                 .permitAll() // handle 하지 못한 에러 처리되는 URL
@@ -1,19 +1,38 @@
 package core.application.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+
 @Configuration
 public class WebClientConfig {
 	@Value("${kmdb.api.url}")
 	private String apiUrl;
 
+	// KMDB 서버 연결 제한 시간
+	@Value("${kmdb.api.timeout.connect:2s}")
+	private Duration connectTimeout;
+
+	// KMDB 응답 제한 시간
+	@Value("${kmdb.api.timeout.response:5s}")
+	private Duration responseTimeout;
+
 	@Bean
 	public WebClient webClient() {
+		HttpClient httpClient = HttpClient.create()
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int)connectTimeout.toMillis())
+			.responseTimeout(responseTimeout);
+
 		return WebClient.builder()
 			.baseUrl(apiUrl)
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
 			.codecs(clientCodecConfigurer -> clientCodecConfigurer.defaultCodecs().maxInMemorySize(10*1024*1024))
 			.build();
 	}
@@ -16,7 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag
 import lombok.RequiredArgsConstructor
 import lombok.extern.slf4j.Slf4j
 import org.hibernate.query.sqm.tree.SqmNode.log
-import org.springframework.data.domain.Page
+import org.springframework.data.domain.Slice
 import org.springframework.security.core.annotation.AuthenticationPrincipal
 import org.springframework.validation.BindingResult
 import org.springframework.validation.annotation.Validated
@@ -33,24 +33,25 @@ class CommentController(private val commentService: CommentService) {
     @Operation(summary = "한줄평 조회")
     @Parameters(
         Parameter(name = "page", description = "페이지", example = "0"),
-        Parameter(name = "sortType", description = "정렬 타입", example = "LIKE")
+        Parameter(name = "sortType", description = "정렬 타입", example = "LIKE"),
+        Parameter(name = "withTotal", description = "전체 개수 포함 여부, false 면 다음 페이지 여부만 제공", example = "true")
     )
     @GetMapping("/{movieId}/comments")
     fun getComments(
         @PathVariable("movieId") movieId: String,
         @RequestParam("page") page: Int,
         @RequestParam("sortType") sortType: String,
+        @RequestParam(name = "withTotal", defaultValue = "true") withTotal: Boolean,
         @AuthenticationPrincipal userDetails: CustomUserDetails?
-    ): ApiResponse<Page<CommentRespDTO?>?>? {
+    ): ApiResponse<Slice<CommentRespDTO?>?>? {
         val userId: UUID? = userDetails?.userId
-        val comments: Page<CommentRespDTO?>?
 
         // 잘못된 정렬 타입은 좋아요 순으로 제공한다.
-        if (!CommentSort.isValid(sortType)) {
-            comments = commentService.getComments(movieId, page, CommentSort.LIKE, userId)
+        val sort = if (CommentSort.isValid(sortType)) CommentSort.valueOf(sortType) else CommentSort.LIKE
+        val comments: Slice<CommentRespDTO?>? = if (withTotal) {
+            commentService.getComments(movieId, page, sort, userId)
         } else {
-            val sort = CommentSort.valueOf(sortType)
-            comments = commentService.getComments(movieId, page, sort, userId)
+            commentService.getCommentSlice(movieId, page, sort, userId)
         }
         return ApiResponse.onSuccess(comments)
     }
@@ -0,0 +1,19 @@
+package core.application.movies.exception;
+
+public class KmdbUnavailableException extends RuntimeException {
+	public KmdbUnavailableException(String message) {
+		super(message);
+	}
+
+	public KmdbUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+	public KmdbUnavailableException(Throwable cause) {
+		super(cause);
+	}
+
+	public KmdbUnavailableException() {
+		super();
+	}
+}
@@ -48,6 +48,12 @@ public class MovieExceptionHandler {
 		return ApiResponse.onFailure(ErrorStatus.NO_SEARCH_RESULT.getCode(), e.getMessage(), null);
 	}
 
+	@ExceptionHandler(KmdbUnavailableException.class)
+	public ApiResponse<?> handleKmdbUnavailableException(KmdbUnavailableException e) {
+		log.error(e.getMessage());
+		return ApiResponse.onFailure(ErrorStatus.KMDB_UNAVAILABLE.getCode(), e.getMessage(), null);
+	}
+
 	@ExceptionHandler(NotCommentWriterException.class)
 	public ApiResponse<?> handleNotCommentWriterException(NotCommentWriterException e) {
 		log.error(e.getMessage());
@@ -1,10 +1,12 @@
 package core.application.movies.models.dto.response
 
+import com.fasterxml.jackson.annotation.JsonIgnore
 import core.application.movies.models.entities.CommentEntity
 import io.swagger.v3.oas.annotations.media.Schema
 import lombok.Builder
 import lombok.Data
 import java.time.Instant
+import java.util.*
 
 @Data
 @Builder
@@ -39,7 +41,21 @@ data class CommentRespDTO (
 
     @Schema(description = "현재 사용자가 해당 한줄평 싫어요 여부", example = "false")
     val isDisliked: Boolean = false,
+
+    // 작성자 닉네임을 채우는 데만 사용하며, 응답에는 포함하지 않는다.
+    @Schema(hidden = true)
+    @get:JsonIgnore
+    val userId: UUID? = null,
 ){
+    /**
+     * 작성자 닉네임과 좋아요 / 싫어요 여부 없이 조회할 때 사용
+     */
+    constructor(
+        commentId: Long?, cmtContent: String?, like: Int, dislike: Int, rating: Int,
+        movieId: String?, createdAt: Instant?, userId: UUID?
+    ) : this(commentId, cmtContent, like, dislike, rating, movieId, null, createdAt, false, false, userId)
+
+
     companion object {
         @JvmStatic
         fun of(comment: CommentEntity, userAlias: String?): CommentRespDTO {
@@ -53,7 +69,8 @@ data class CommentRespDTO (
                 rating = comment.rating,
                 createdAt = comment.createdAt,
                 isLiked = false,
-                isDisliked = false
+                isDisliked = false,
+                userId = comment.userId
             )
         }
     }
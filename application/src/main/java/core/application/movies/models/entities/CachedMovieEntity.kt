@@ -2,11 +2,16 @@ package core.application.movies.models.entities
 
 import jakarta.persistence.Entity
 import jakarta.persistence.Id
+import jakarta.persistence.Index
 import jakarta.persistence.Table
 import lombok.*
+import kotlin.math.roundToLong
 
 @Entity
-@Table(name = "cached_movie_table")
+@Table(
+    name = "cached_movie_table",
+    indexes = [Index(name = "cached_movie_table_avg_rating_index", columnList = "avg_rating")]
+)
 data class CachedMovieEntity (
     /**
      * `알파벳`-`숫자` 형태 `(KMDB 영화 ID 형태)`
@@ -27,35 +32,30 @@ data class CachedMovieEntity (
     var sumOfRating: Long = 0
 ) {
 
-    fun incrementDibCount() {
-        dibCount++
-    }
-
-    fun decrementDibCount() {
-        if (dibCount > 0) {
-            dibCount--
-        }
-    }
-
-    fun incrementReviewCount() {
-        reviewCount++
-    }
-
-    fun decrementReviewCount() {
-        if (reviewCount > 0) {
-            reviewCount--
-        }
-    }
+    /**
+     * 평균 평점 `round(sum_of_rating / comment_count, 1)`, 한줄평이 없으면 `null`
+     * <br>
+     * 평점순 조회가 인덱스를 사용하도록 한줄평 작성, 삭제 시 함께 저장한다.
+     */
+    var avgRating: Double? = averageRating(sumOfRating, commentCount)
 
-    fun isCommentedWithRating(rating: Int) {
-        commentCount++
-        sumOfRating += rating.toLong()
+    /**
+     * [genre] 를 쉼표와 `/` 로 나눈 장르 목록
+     * <br>
+     * KMDB 는 `멜로/로맨스` 처럼 `/` 로 묶은 장르도 쓰므로, `로맨스` 로도 찾을 수 있도록 함께 나눈다.
+     */
+    fun genres(): List<String> {
+        return genre.orEmpty().split(',', '/')
+            .map { it.trim() }
+            .filter { it.isNotEmpty() }
+            .distinct()
     }
 
-    fun deleteComment(rating: Int) {
-        if (commentCount > 0) {
-            commentCount--
-            sumOfRating -= rating.toLong()
+    companion object {
+        @JvmStatic
+        fun averageRating(sumOfRating: Long, commentCount: Long): Double? {
+            if (commentCount <= 0) return null
+            return (sumOfRating.toDouble() / commentCount * 10).roundToLong() / 10.0
         }
     }
 }
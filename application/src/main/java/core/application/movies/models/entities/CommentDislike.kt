@@ -5,7 +5,10 @@ import lombok.*
 import java.util.*
 
 @Entity
-@Table(name = "comment_dislike_table")
+@Table(
+    name = "comment_dislike_table",
+    uniqueConstraints = [UniqueConstraint(name = "comment_dislike_table_comment_id_user_id_uk", columnNames = ["comment_id", "user_id"])]
+)
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -8,7 +8,13 @@ import java.time.Instant
 import java.util.*
 
 @Entity
-@Table(name = "comment_table")
+@Table(
+    name = "comment_table",
+    indexes = [
+        Index(name = "comment_table_movie_id_like_index", columnList = "movie_id, `like`"),
+        Index(name = "comment_table_movie_id_dislike_index", columnList = "movie_id, dislike")
+    ]
+)
 data class CommentEntity(
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
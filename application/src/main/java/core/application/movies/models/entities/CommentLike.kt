@@ -4,7 +4,10 @@ import jakarta.persistence.*
 import java.util.*
 
 @Entity
-@Table(name = "comment_like_table")
+@Table(
+    name = "comment_like_table",
+    uniqueConstraints = [UniqueConstraint(name = "comment_like_table_comment_id_user_id_uk", columnNames = ["comment_id", "user_id"])]
+)
 data class CommentLike(
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,36 @@
+package core.application.movies.models.entities
+
+import jakarta.persistence.Entity
+import jakarta.persistence.Id
+import jakarta.persistence.IdClass
+import jakarta.persistence.Table
+import java.io.Serializable
+
+/**
+ * 영화와 장르의 매핑
+ * <br>
+ * [CachedMovieEntity.genres] 로 나눈 장르를 영화 등록 시 한 번 저장하여,
+ * 장르별 조회가 `(genre, movie_id)` 기본 키를 사용하도록 한다.
+ */
+@Entity
+@Table(name = "movie_genre_table")
+@IdClass(MovieGenreEntity.Key::class)
+data class MovieGenreEntity(
+    @Id
+    val genre: String? = null,
+
+    @Id
+    val movieId: String? = null
+) {
+    data class Key(
+        val genre: String? = null,
+        val movieId: String? = null
+    ) : Serializable
+
+    companion object {
+        @JvmStatic
+        fun of(movie: CachedMovieEntity): List<MovieGenreEntity> {
+            return movie.genres().map { MovieGenreEntity(it, movie.movieId) }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package core.application.movies.models.events
+
+import java.util.*
+
+/**
+ * 사용자의 한줄평 좋아요 / 싫어요가 등록 또는 삭제되었음을 알리는 이벤트
+ *
+ * 트랜잭션 안에서 발행되면 커밋 이후에 처리된다.
+ *
+ * @param active 등록되었으면 `true`, 삭제되었으면 `false`
+ */
+data class CommentReactionChangedEvent(
+    val commentId: Long,
+    val userId: UUID,
+    val reaction: CommentReaction,
+    val active: Boolean
+)
+
+enum class CommentReaction {
+    LIKE,
+    DISLIKE
+}
@@ -0,0 +1,23 @@
+package core.application.movies.models.events
+
+/**
+ * 영화의 찜 / 한줄평 / 리뷰 수가 바뀌었음을 알리는 이벤트
+ *
+ * 트랜잭션 안에서 발행되면 커밋 이후에 처리된다.
+ *
+ * @param movieId 변경된 영화 ID
+ * @param counter 변경된 항목
+ */
+data class MovieCounterChangedEvent(
+    val movieId: String,
+    val counter: MovieCounter
+)
+
+enum class MovieCounter {
+    DIB,
+
+    /** 한줄평 수와 평점 합계 */
+    COMMENT,
+
+    REVIEW
+}
@@ -3,9 +3,26 @@ package core.application.movies.repositories.comment
 import java.util.*
 
 interface CommentDislikeRepository {
-    fun saveCommentDislike(commentId: Long?, userId: UUID?)
+    /**
+     * 사용자의 '싫어요' 를 등록한다. `(comment_id, user_id)` 가 이미 있으면 등록하지 않는다.
+     *
+     * @return 새로 등록했는지 여부
+     */
+    fun saveCommentDislike(commentId: Long?, userId: UUID?): Boolean
 
     fun isExistDislike(commentId: Long?, userId: UUID?): Boolean
 
-    fun deleteCommentDislike(commentId: Long?, userId: UUID?)
+    /**
+     * 주어진 한줄평 중 사용자가 '싫어요' 를 누른 한줄평 ID 들을 검색한다.
+     *
+     * @param commentIds 확인할 한줄평 ID 들, 비어 있으면 검색하지 않는다.
+     */
+    fun findDislikedCommentIds(userId: UUID, commentIds: Collection<Long>): List<Long>
+
+    /**
+     * 사용자의 '싫어요' 를 삭제한다.
+     *
+     * @return 삭제했는지 여부
+     */
+    fun deleteCommentDislike(commentId: Long?, userId: UUID?): Boolean
 }
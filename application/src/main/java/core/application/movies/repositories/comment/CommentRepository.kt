@@ -1,8 +1,10 @@
 package core.application.movies.repositories.comment
 
+import core.application.api.pagination.CursorSlice
 import core.application.movies.models.dto.response.CommentRespDTO
 import core.application.movies.models.entities.CommentEntity
 import org.springframework.data.domain.Page
+import org.springframework.data.domain.Slice
 import java.util.*
 
 /**
@@ -46,7 +48,7 @@ interface CommentRepository {
      * @see .findByMovieIdOnLikeDescend
      * @see .findByMovieIdOnDislikeDescend
      */
-    fun findByMovieId(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>?
+    fun findByMovieId(movieId: String?, page: Int): Page<CommentRespDTO?>?
 
     /**
      * 특정 영화에 달린 한줄평 댓글을 최신순으로 검색
@@ -54,7 +56,7 @@ interface CommentRepository {
      * @param movieId 검색할 영화 ID
      * @return [List]`<`[CommentEntity]`>`
      */
-    fun findByMovieIdOnDateDescend(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>?
+    fun findByMovieIdOnDateDescend(movieId: String?, page: Int): Page<CommentRespDTO?>?
 
     /**
      * 특정 영화에 달린 한줄평 댓글을 좋아요 순으로 검색
@@ -62,7 +64,7 @@ interface CommentRepository {
      * @param movieId 검색할 영화 ID
      * @return [List]`<`[CommentEntity]`>`
      */
-    fun findByMovieIdOnLikeDescend(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>?
+    fun findByMovieIdOnLikeDescend(movieId: String?, page: Int): Page<CommentRespDTO?>?
 
     /**
      * 특정 영화에 달린 한줄평 댓글을 싫어요 순으로 검색
@@ -70,8 +72,63 @@ interface CommentRepository {
      * @param movieId 검색할 영화 ID
      * @return [List]`<`[CommentEntity]`>`
      */
-    fun findByMovieIdOnDislikeDescend(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>?
+    fun findByMovieIdOnDislikeDescend(movieId: String?, page: Int): Page<CommentRespDTO?>?
 
+    //<editor-fold desc="전체 개수 없이 검색">
+    /**
+     * 특정 영화에 달린 한줄평 댓글을 최신순으로 검색
+     * <br>
+     * 전체 개수를 세지 않고 다음 페이지가 있는지만 확인한다.
+     *
+     * @param movieId 검색할 영화 ID
+     * @return [Slice]`<`[CommentRespDTO]`>`
+     */
+    fun findSliceByMovieIdOnDateDescend(movieId: String?, page: Int): Slice<CommentRespDTO?>
+
+    /**
+     * 특정 영화에 달린 한줄평 댓글을 좋아요 순으로 검색
+     *
+     * @see findSliceByMovieIdOnDateDescend
+     */
+    fun findSliceByMovieIdOnLikeDescend(movieId: String?, page: Int): Slice<CommentRespDTO?>
+
+    /**
+     * 특정 영화에 달린 한줄평 댓글을 싫어요 순으로 검색
+     *
+     * @see findSliceByMovieIdOnDateDescend
+     */
+    fun findSliceByMovieIdOnDislikeDescend(movieId: String?, page: Int): Slice<CommentRespDTO?>
+
+    //</editor-fold>
+    //<editor-fold desc="키셋 페이징">
+    /**
+     * 특정 영화에 달린 한줄평 댓글을 최신순으로 `cursor` 다음부터 검색
+     * <br>
+     * 한줄평 ID 는 작성 순서대로 증가하므로 ID 내림차순으로 정렬한다.
+     *
+     * @param movieId 검색할 영화 ID
+     * @param cursor  이전 페이지의 [CursorSlice.nextCursor], 첫 페이지면 `null`
+     * @param num     가져올 한줄평 수
+     * @return [CursorSlice]`<`[CommentRespDTO]`>`
+     * @throws IllegalArgumentException 올바르지 않은 `cursor`
+     */
+    fun findByMovieIdOnDateDescendAfter(movieId: String?, cursor: String?, num: Int): CursorSlice<CommentRespDTO>
+
+    /**
+     * 특정 영화에 달린 한줄평 댓글을 `(좋아요, ID)` 내림차순으로 `cursor` 다음부터 검색
+     *
+     * @see findByMovieIdOnDateDescendAfter
+     */
+    fun findByMovieIdOnLikeDescendAfter(movieId: String?, cursor: String?, num: Int): CursorSlice<CommentRespDTO>
+
+    /**
+     * 특정 영화에 달린 한줄평 댓글을 `(싫어요, ID)` 내림차순으로 `cursor` 다음부터 검색
+     *
+     * @see findByMovieIdOnDateDescendAfter
+     */
+    fun findByMovieIdOnDislikeDescendAfter(movieId: String?, cursor: String?, num: Int): CursorSlice<CommentRespDTO>
+
+    //</editor-fold>
     /**
      * DB 의 모든 한줄평 댓글을 검색
      *
@@ -87,6 +144,22 @@ interface CommentRepository {
      */
     fun update(comment: CommentEntity?)
 
+    /**
+     * 한줄평의 좋아요 수에 `delta` 를 더한다. 좋아요 수는 `0` 보다 작아지지 않는다.
+     * <br>
+     * 한줄평을 읽지 않고 하나의 `UPDATE` 로 반영하므로 동시 요청에도 변경이 유실되지 않는다.
+     *
+     * @return 변경된 한줄평 수
+     */
+    fun addLikeCount(commentId: Long, delta: Int): Int
+
+    /**
+     * 한줄평의 싫어요 수에 `delta` 를 더한다.
+     *
+     * @see addLikeCount
+     */
+    fun addDislikeCount(commentId: Long, delta: Int): Int
+
     // DELETE
     /**
      * 특정 한줄평 댓글을 삭제
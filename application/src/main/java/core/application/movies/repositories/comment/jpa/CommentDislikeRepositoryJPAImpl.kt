@@ -13,15 +13,20 @@ class CommentDislikeRepositoryJPAImpl (
     private val jpaRepository: JpaCommentDislikeRepository
 ): CommentDislikeRepository {
 
-    override fun saveCommentDislike(commentId: Long?, userId: UUID?) {
-        jpaRepository.saveDisLike(commentId, userId)
+    override fun saveCommentDislike(commentId: Long?, userId: UUID?): Boolean {
+        return jpaRepository.saveDisLike(commentId, userId) > 0
     }
 
     override fun isExistDislike(commentId: Long?, userId: UUID?): Boolean {
         return jpaRepository.existsByComment_CommentIdAndUserId(commentId, userId)!!
     }
 
-    override fun deleteCommentDislike(commentId: Long?, userId: UUID?) {
-        jpaRepository.deleteByComment_CommentIdAndUserId(commentId, userId)
+    override fun findDislikedCommentIds(userId: UUID, commentIds: Collection<Long>): List<Long> {
+        if (commentIds.isEmpty()) return emptyList()
+        return jpaRepository.findCommentIdsByUserId(userId, commentIds)
+    }
+
+    override fun deleteCommentDislike(commentId: Long?, userId: UUID?): Boolean {
+        return jpaRepository.deleteDislike(commentId, userId) > 0
     }
 }
@@ -13,15 +13,20 @@ class CommentLikeRepositoryJPAImpl(
     private val jpaRepository: JpaCommentLikeRepository
 ) : CommentLikeRepository {
 
-    override fun saveCommentLike(commentId: Long?, userId: UUID?) {
-        jpaRepository.saveLike(commentId, userId)
+    override fun saveCommentLike(commentId: Long?, userId: UUID?): Boolean {
+        return jpaRepository.saveLike(commentId, userId) > 0
     }
 
     override fun isExistLike(commentId: Long?, userId: UUID?): Boolean {
         return jpaRepository.existsByComment_CommentIdAndUserId(commentId, userId)!!
     }
 
-    override fun deleteCommentLike(commentId: Long?, userId: UUID?) {
-        jpaRepository.deleteByComment_CommentIdAndUserId(commentId, userId)
+    override fun findLikedCommentIds(userId: UUID, commentIds: Collection<Long>): List<Long> {
+        if (commentIds.isEmpty()) return emptyList()
+        return jpaRepository.findCommentIdsByUserId(userId, commentIds)
+    }
+
+    override fun deleteCommentLike(commentId: Long?, userId: UUID?): Boolean {
+        return jpaRepository.deleteLike(commentId, userId) > 0
     }
 }
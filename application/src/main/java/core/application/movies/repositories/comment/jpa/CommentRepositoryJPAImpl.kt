@@ -1,5 +1,7 @@
 package core.application.movies.repositories.comment.jpa
 
+import core.application.api.pagination.CursorSlice
+import core.application.api.pagination.SeekCursor
 import core.application.movies.models.dto.response.CommentRespDTO
 import core.application.movies.models.entities.CommentEntity
 import core.application.movies.repositories.comment.CommentRepository
@@ -8,6 +10,7 @@ import org.springframework.context.annotation.Profile
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageRequest
 import org.springframework.data.domain.Pageable
+import org.springframework.data.domain.Slice
 import org.springframework.data.domain.Sort
 import org.springframework.stereotype.Repository
 import java.util.*
@@ -31,23 +34,60 @@ class CommentRepositoryJPAImpl(
         return jpaRepository.existsByMovieIdAndUserId(movieId, userId)
     }
 
-    override fun findByMovieId(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>? {
-        return jpaRepository.findByMovieId(movieId, userId, PageRequest.of(page, 10))
+    override fun findByMovieId(movieId: String?, page: Int): Page<CommentRespDTO?>? {
+        return jpaRepository.findByMovieId(movieId, PageRequest.of(page, 10))
     }
 
-    override fun findByMovieIdOnDateDescend(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>? {
+    override fun findByMovieIdOnDateDescend(movieId: String?, page: Int): Page<CommentRespDTO?>? {
         val pageable: Pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdAt"))
-        return jpaRepository.findByMovieIdOrderBy(movieId, userId, pageable)
+        return jpaRepository.findByMovieIdOrderBy(movieId, pageable)
     }
 
-    override fun findByMovieIdOnLikeDescend(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>? {
+    override fun findByMovieIdOnLikeDescend(movieId: String?, page: Int): Page<CommentRespDTO?>? {
         val pageable: Pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "like"))
-        return jpaRepository.findByMovieIdOrderBy(movieId, userId, pageable)
+        return jpaRepository.findByMovieIdOrderBy(movieId, pageable)
     }
 
-    override fun findByMovieIdOnDislikeDescend(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>? {
+    override fun findByMovieIdOnDislikeDescend(movieId: String?, page: Int): Page<CommentRespDTO?>? {
         val pageable: Pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "dislike"))
-        return jpaRepository.findByMovieIdOrderBy(movieId, userId, pageable)
+        return jpaRepository.findByMovieIdOrderBy(movieId, pageable)
+    }
+
+    override fun findSliceByMovieIdOnDateDescend(movieId: String?, page: Int): Slice<CommentRespDTO?> {
+        val pageable: Pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdAt"))
+        return jpaRepository.findSliceByMovieIdOrderBy(movieId, pageable)
+    }
+
+    override fun findSliceByMovieIdOnLikeDescend(movieId: String?, page: Int): Slice<CommentRespDTO?> {
+        val pageable: Pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "like"))
+        return jpaRepository.findSliceByMovieIdOrderBy(movieId, pageable)
+    }
+
+    override fun findSliceByMovieIdOnDislikeDescend(movieId: String?, page: Int): Slice<CommentRespDTO?> {
+        val pageable: Pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "dislike"))
+        return jpaRepository.findSliceByMovieIdOrderBy(movieId, pageable)
+    }
+
+    override fun findByMovieIdOnDateDescendAfter(movieId: String?, cursor: String?, num: Int): CursorSlice<CommentRespDTO> {
+        val after = SeekCursor.decode(cursor)
+        val rows = jpaRepository.findByMovieIdOnIdDescendAfter(movieId, after.id, PageRequest.of(0, num + 1))
+        return CursorSlice.of(rows, num) { SeekCursor.of(it.commentId!!) }
+    }
+
+    override fun findByMovieIdOnLikeDescendAfter(movieId: String?, cursor: String?, num: Int): CursorSlice<CommentRespDTO> {
+        val after = SeekCursor.decode(cursor)
+        val rows = jpaRepository.findByMovieIdOnLikeDescendAfter(
+            movieId, after.intKey, after.id, PageRequest.of(0, num + 1)
+        )
+        return CursorSlice.of(rows, num) { SeekCursor(it.like.toLong(), it.commentId!!) }
+    }
+
+    override fun findByMovieIdOnDislikeDescendAfter(movieId: String?, cursor: String?, num: Int): CursorSlice<CommentRespDTO> {
+        val after = SeekCursor.decode(cursor)
+        val rows = jpaRepository.findByMovieIdOnDislikeDescendAfter(
+            movieId, after.intKey, after.id, PageRequest.of(0, num + 1)
+        )
+        return CursorSlice.of(rows, num) { SeekCursor(it.dislike.toLong(), it.commentId!!) }
     }
 
     override fun selectAll(): List<CommentEntity?>? {
@@ -60,6 +100,14 @@ class CommentRepositoryJPAImpl(
         }
     }
 
+    override fun addLikeCount(commentId: Long, delta: Int): Int {
+        return jpaRepository.addLikeCount(commentId, delta)
+    }
+
+    override fun addDislikeCount(commentId: Long, delta: Int): Int {
+        return jpaRepository.addDislikeCount(commentId, delta)
+    }
+
     override fun deleteComment(commentId: Long?) {
         if (commentId != null) {
             jpaRepository.deleteById(commentId)
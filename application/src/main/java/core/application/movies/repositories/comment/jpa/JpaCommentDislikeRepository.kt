@@ -7,14 +7,23 @@ import org.springframework.data.jpa.repository.Query
 import java.util.*
 
 interface JpaCommentDislikeRepository : JpaRepository<CommentDislike?, Long?> {
+    // (comment_id, user_id) 유니크 키로 이미 있는 반응은 등록하지 않는다.
     @Modifying
     @Query(
-        value = "insert into comment_dislike_table(comment_id, user_id) values (:commentId, :userId)",
+        value = "insert ignore into comment_dislike_table(comment_id, user_id) values (:commentId, :userId)",
         nativeQuery = true
     )
-    fun saveDisLike(commentId: Long?, userId: UUID?)
+    fun saveDisLike(commentId: Long?, userId: UUID?): Int
 
     fun existsByComment_CommentIdAndUserId(commentId: Long?, userId: UUID?): Boolean?
 
-    fun deleteByComment_CommentIdAndUserId(commentId: Long?, userId: UUID?)
+    @Query("select r.comment.commentId from CommentDislike r where r.userId = :userId and r.comment.commentId in :commentIds")
+    fun findCommentIdsByUserId(userId: UUID, commentIds: Collection<Long>): List<Long>
+
+    @Modifying
+    @Query(
+        value = "delete from comment_dislike_table where comment_id = :commentId and user_id = :userId",
+        nativeQuery = true
+    )
+    fun deleteDislike(commentId: Long?, userId: UUID?): Int
 }
@@ -7,14 +7,23 @@ import org.springframework.data.jpa.repository.Query
 import java.util.*
 
 interface JpaCommentLikeRepository : JpaRepository<CommentLike?, Long?> {
+    // (comment_id, user_id) 유니크 키로 이미 있는 반응은 등록하지 않는다.
     @Modifying
     @Query(
-        value = "insert into comment_like_table(comment_id, user_id) values (:commentId, :userId)",
+        value = "insert ignore into comment_like_table(comment_id, user_id) values (:commentId, :userId)",
         nativeQuery = true
     )
-    fun saveLike(commentId: Long?, userId: UUID?)
+    fun saveLike(commentId: Long?, userId: UUID?): Int
 
     fun existsByComment_CommentIdAndUserId(commentId: Long?, userId: UUID?): Boolean?
 
-    fun deleteByComment_CommentIdAndUserId(commentId: Long?, userId: UUID?)
+    @Query("select r.comment.commentId from CommentLike r where r.userId = :userId and r.comment.commentId in :commentIds")
+    fun findCommentIdsByUserId(userId: UUID, commentIds: Collection<Long>): List<Long>
+
+    @Modifying
+    @Query(
+        value = "delete from comment_like_table where comment_id = :commentId and user_id = :userId",
+        nativeQuery = true
+    )
+    fun deleteLike(commentId: Long?, userId: UUID?): Int
 }
@@ -4,34 +4,66 @@ import core.application.movies.models.dto.response.CommentRespDTO
 import core.application.movies.models.entities.CommentEntity
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
+import org.springframework.data.domain.Slice
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
 import org.springframework.data.jpa.repository.Query
 import java.util.*
 
 interface JpaCommentRepository : JpaRepository<CommentEntity?, Long?> {
     fun existsByMovieIdAndUserId(movieId: String?, userId: UUID?): Boolean?
 
+    @Query(SELECT_BY_MOVIE_ID, countQuery = COUNT_BY_MOVIE_ID)
+    fun findByMovieId(movieId: String?, pageable: Pageable?): Page<CommentRespDTO?>?
+
+    @Query(SELECT_BY_MOVIE_ID, countQuery = COUNT_BY_MOVIE_ID)
+    fun findByMovieIdOrderBy(movieId: String?, pageable: Pageable?): Page<CommentRespDTO?>?
+
+    /**
+     * 전체 개수를 세지 않고, 한 개를 더 읽어 다음 페이지가 있는지만 확인한다.
+     */
+    @Query(SELECT_BY_MOVIE_ID)
+    fun findSliceByMovieIdOrderBy(movieId: String?, pageable: Pageable): Slice<CommentRespDTO?>
+
+    @Query(
+        SELECT_BY_MOVIE_ID + " AND c.commentId < :id " +
+                "ORDER BY c.commentId DESC"
+    )
+    fun findByMovieIdOnIdDescendAfter(movieId: String?, id: Long, pageable: Pageable): List<CommentRespDTO>
+
+    @Query(
+        SELECT_BY_MOVIE_ID + " AND (c.like < :key OR (c.like = :key AND c.commentId < :id)) " +
+                "ORDER BY c.like DESC, c.commentId DESC"
+    )
+    fun findByMovieIdOnLikeDescendAfter(movieId: String?, key: Int, id: Long, pageable: Pageable): List<CommentRespDTO>
+
     @Query(
-        ("SELECT new core.application.movies.models.dto.response.CommentRespDTO(c.commentId, c.content, c.like, c.dislike, c.rating, c.movieId, u.alias, c.createdAt, " +
-                "CASE WHEN l.commentLikeId IS NOT NULL THEN true ELSE false END, " +
-                "CASE WHEN d.commentDislikeId IS NOT NULL THEN true ELSE false END) " +
-                "FROM CommentEntity c " +
-                "LEFT JOIN CommentLike l ON c.commentId = l.comment.commentId AND l.userId = :userId " +
-                "LEFT JOIN CommentDislike d ON c.commentId = d.comment.commentId AND d.userId = :userId " +
-                "LEFT JOIN UserEntity u ON c.userId = u.userId " +
-                "WHERE c.movieId = :movieId")
+        SELECT_BY_MOVIE_ID + " AND (c.dislike < :key OR (c.dislike = :key AND c.commentId < :id)) " +
+                "ORDER BY c.dislike DESC, c.commentId DESC"
     )
-    fun findByMovieId(movieId: String?, userId: UUID?, pageable: Pageable?): Page<CommentRespDTO?>?
+    fun findByMovieIdOnDislikeDescendAfter(movieId: String?, key: Int, id: Long, pageable: Pageable): List<CommentRespDTO>
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(
-        ("SELECT new core.application.movies.models.dto.response.CommentRespDTO(c.commentId, c.content, c.like, c.dislike, c.rating, c.movieId, u.alias, c.createdAt, " +
-                "CASE WHEN l.commentLikeId IS NOT NULL THEN true ELSE false END, " +
-                "CASE WHEN d.commentDislikeId IS NOT NULL THEN true ELSE false END) " +
-                "FROM CommentEntity c " +
-                "LEFT JOIN CommentLike l ON c.commentId = l.comment.commentId AND l.userId = :userId " +
-                "LEFT JOIN CommentDislike d ON c.commentId = d.comment.commentId AND d.userId = :userId " +
-                "LEFT JOIN UserEntity u ON c.userId = u.userId " +
-                "WHERE c.movieId = :movieId")
+        value = "update comment_table set `like` = greatest(`like` + :delta, 0) where comment_id = :commentId",
+        nativeQuery = true
     )
-    fun findByMovieIdOrderBy(movieId: String?, userId: UUID?, pageable: Pageable?): Page<CommentRespDTO?>?
+    fun addLikeCount(commentId: Long, delta: Int): Int
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        value = "update comment_table set dislike = greatest(dislike + :delta, 0) where comment_id = :commentId",
+        nativeQuery = true
+    )
+    fun addDislikeCount(commentId: Long, delta: Int): Int
+
+    companion object {
+        // 작성자 닉네임은 UserAliasService 로, 사용자의 좋아요 / 싫어요 여부는 CommentReactionCache 로 채운다.
+        const val SELECT_BY_MOVIE_ID =
+            "SELECT new core.application.movies.models.dto.response.CommentRespDTO(c.commentId, c.content, c.like, c.dislike, c.rating, c.movieId, c.createdAt, c.userId) " +
+                    "FROM CommentEntity c " +
+                    "WHERE c.movieId = :movieId"
+
+        const val COUNT_BY_MOVIE_ID = "SELECT COUNT(c) FROM CommentEntity c WHERE c.movieId = :movieId"
+    }
 }
@@ -8,21 +8,25 @@ import java.util.UUID
 
 @Repository
 @Profile("mybatis")
-abstract class MybatisCommentDislikeRepository(
+class MybatisCommentDislikeRepository(
     private val commentDislikeMapper: CommentDislikeMapper
 ) : CommentDislikeRepository {
 
-    fun saveCommentDislike(commentId: Long, userId: UUID) {
-        commentDislikeMapper.save(commentId, userId)
+    override fun saveCommentDislike(commentId: Long?, userId: UUID?): Boolean {
+        return commentDislikeMapper.save(commentId, userId) > 0
     }
 
-    fun isExistDislike(commentId: Long, userId: UUID): Boolean {
+    override fun isExistDislike(commentId: Long?, userId: UUID?): Boolean {
         val count = commentDislikeMapper.countLikeByUser(commentId, userId)
         return count != 0
     }
 
-    fun deleteCommentDislike(commentId: Long, userId: UUID) {
-        commentDislikeMapper.delete(commentId, userId)
+    override fun findDislikedCommentIds(userId: UUID, commentIds: Collection<Long>): List<Long> {
+        if (commentIds.isEmpty()) return emptyList()
+        return commentDislikeMapper.findCommentIdsByUserId(userId, commentIds)
     }
-}
 
+    override fun deleteCommentDislike(commentId: Long?, userId: UUID?): Boolean {
+        return commentDislikeMapper.delete(commentId, userId) > 0
+    }
+}
@@ -14,8 +14,8 @@ class MybatisCommentLikeRepository(
     private val commentLikeMapper: CommentLikeMapper
 ) : CommentLikeRepository {
 
-    override fun saveCommentLike(commentId: Long?, userId: UUID?) {
-        commentLikeMapper.save(commentId, userId)
+    override fun saveCommentLike(commentId: Long?, userId: UUID?): Boolean {
+        return commentLikeMapper.save(commentId, userId) > 0
     }
 
     override fun isExistLike(commentId: Long?, userId: UUID?): Boolean {
@@ -23,7 +23,12 @@ class MybatisCommentLikeRepository(
         return count != 0
     }
 
-    override fun deleteCommentLike(commentId: Long?, userId: UUID?) {
-        commentLikeMapper.delete(commentId, userId)
+    override fun findLikedCommentIds(userId: UUID, commentIds: Collection<Long>): List<Long> {
+        if (commentIds.isEmpty()) return emptyList()
+        return commentLikeMapper.findCommentIdsByUserId(userId, commentIds)
+    }
+
+    override fun deleteCommentLike(commentId: Long?, userId: UUID?): Boolean {
+        return commentLikeMapper.delete(commentId, userId) > 0
     }
 }
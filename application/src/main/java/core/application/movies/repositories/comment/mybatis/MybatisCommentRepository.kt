@@ -1,5 +1,7 @@
 package core.application.movies.repositories.comment.mybatis
 
+import core.application.api.pagination.CursorSlice
+import core.application.api.pagination.SeekCursor
 import core.application.movies.models.dto.response.CommentRespDTO
 import core.application.movies.models.entities.CommentEntity
 import core.application.movies.repositories.comment.CommentRepository
@@ -10,6 +12,8 @@ import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.PageRequest
 import org.springframework.data.domain.Pageable
+import org.springframework.data.domain.Slice
+import org.springframework.data.domain.SliceImpl
 import org.springframework.stereotype.Repository
 import java.util.*
 
@@ -48,34 +52,64 @@ class MybatisCommentRepository(
         return commentMapper.findByMovieIdAndUserId(movieId, userId)?.isPresent
     }
 
-    override fun findByMovieId(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>? {
+    override fun findByMovieId(movieId: String?, page: Int): Page<CommentRespDTO?>? {
         val pageable: Pageable = PageRequest.of(page, 10)
         val total = commentMapper.countByMovieId(movieId)
-        val find: List<CommentRespDTO> = commentMapper.findByMovieId(movieId, userId, page * 10)?.mapNotNull { it } ?: emptyList()
+        val find: List<CommentRespDTO> = commentMapper.findByMovieId(movieId, page * 10)?.mapNotNull { it } ?: emptyList()
         return PageImpl(find, pageable, total.toLong())
     }
 
-    override fun findByMovieIdOnDateDescend(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>? {
+    override fun findByMovieIdOnDateDescend(movieId: String?, page: Int): Page<CommentRespDTO?>? {
         val pageable: Pageable = PageRequest.of(page, 10)
         val total = commentMapper.countByMovieId(movieId)
-        val find: List<CommentRespDTO> = commentMapper.findByMovieId(movieId, userId, page * 10)?.mapNotNull { it } ?: emptyList()
+        val find: List<CommentRespDTO> = commentMapper.findByMovieId(movieId, page * 10)?.mapNotNull { it } ?: emptyList()
         return PageImpl(find, pageable, total.toLong())
     }
 
-    override fun findByMovieIdOnLikeDescend(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>? {
+    override fun findByMovieIdOnLikeDescend(movieId: String?, page: Int): Page<CommentRespDTO?>? {
         val pageable: Pageable = PageRequest.of(page, 10)
         val total = commentMapper.countByMovieId(movieId)
-        val find: List<CommentRespDTO> = commentMapper.findByMovieId(movieId, userId, page * 10)?.mapNotNull { it } ?: emptyList()
+        val find: List<CommentRespDTO> = commentMapper.findByMovieId(movieId, page * 10)?.mapNotNull { it } ?: emptyList()
         return PageImpl(find, pageable, total.toLong())
     }
 
-    override fun findByMovieIdOnDislikeDescend(movieId: String?, userId: UUID?, page: Int): Page<CommentRespDTO?>? {
+    override fun findByMovieIdOnDislikeDescend(movieId: String?, page: Int): Page<CommentRespDTO?>? {
         val pageable: Pageable = PageRequest.of(page, 10)
         val total = commentMapper.countByMovieId(movieId)
-        val find: List<CommentRespDTO> = commentMapper.findByMovieId(movieId, userId, page * 10)?.mapNotNull { it } ?: emptyList()
+        val find: List<CommentRespDTO> = commentMapper.findByMovieId(movieId, page * 10)?.mapNotNull { it } ?: emptyList()
         return PageImpl(find, pageable, total.toLong())
     }
 
+    override fun findSliceByMovieIdOnDateDescend(movieId: String?, page: Int): Slice<CommentRespDTO?> {
+        return slice(page) { offset, num -> commentMapper.findByMovieIdOnDateDescend(movieId, offset, num) }
+    }
+
+    override fun findSliceByMovieIdOnLikeDescend(movieId: String?, page: Int): Slice<CommentRespDTO?> {
+        return slice(page) { offset, num -> commentMapper.findByMovieIdOnLikeDescend(movieId, offset, num) }
+    }
+
+    override fun findSliceByMovieIdOnDislikeDescend(movieId: String?, page: Int): Slice<CommentRespDTO?> {
+        return slice(page) { offset, num -> commentMapper.findByMovieIdOnDislikeDescend(movieId, offset, num) }
+    }
+
+    override fun findByMovieIdOnDateDescendAfter(movieId: String?, cursor: String?, num: Int): CursorSlice<CommentRespDTO> {
+        val after = SeekCursor.decode(cursor)
+        val rows = commentMapper.findByMovieIdOnIdDescendAfter(movieId, after.id, num + 1)
+        return CursorSlice.of(rows, num) { SeekCursor.of(it.commentId!!) }
+    }
+
+    override fun findByMovieIdOnLikeDescendAfter(movieId: String?, cursor: String?, num: Int): CursorSlice<CommentRespDTO> {
+        val after = SeekCursor.decode(cursor)
+        val rows = commentMapper.findByMovieIdOnLikeDescendAfter(movieId, after.key, after.id, num + 1)
+        return CursorSlice.of(rows, num) { SeekCursor(it.like.toLong(), it.commentId!!) }
+    }
+
+    override fun findByMovieIdOnDislikeDescendAfter(movieId: String?, cursor: String?, num: Int): CursorSlice<CommentRespDTO> {
+        val after = SeekCursor.decode(cursor)
+        val rows = commentMapper.findByMovieIdOnDislikeDescendAfter(movieId, after.key, after.id, num + 1)
+        return CursorSlice.of(rows, num) { SeekCursor(it.dislike.toLong(), it.commentId!!) }
+    }
+
     override fun selectAll(): List<CommentEntity?>? {
         return commentMapper.selectAll()
     }
@@ -84,7 +118,22 @@ class MybatisCommentRepository(
         commentMapper.update(comment)
     }
 
+    override fun addLikeCount(commentId: Long, delta: Int): Int {
+        return commentMapper.addLikeCount(commentId, delta)
+    }
+
+    override fun addDislikeCount(commentId: Long, delta: Int): Int {
+        return commentMapper.addDislikeCount(commentId, delta)
+    }
+
     override fun deleteComment(commentId: Long?) {
         commentMapper.delete(commentId)
     }
+
+    // 한 개를 더 읽어 다음 페이지가 있는지 확인한다.
+    private fun slice(page: Int, query: (offset: Int, num: Int) -> List<CommentRespDTO?>?): Slice<CommentRespDTO?> {
+        val pageable: Pageable = PageRequest.of(page, 10)
+        val find = query(page * 10, 10 + 1)?.filterNotNull() ?: emptyList()
+        return SliceImpl(find.take(10), pageable, find.size > 10)
+    }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package core.application.movies.repositories.mapper
 
 import core.application.movies.models.entities.CachedMovieEntity
+import core.application.movies.models.entities.MovieGenreEntity
+import core.application.movies.repositories.movie.MovieCounterDelta
+import core.application.movies.repositories.movie.MovieCounters
 import org.apache.ibatis.annotations.Mapper
 import org.apache.ibatis.annotations.Param
 import java.util.*
@@ -9,8 +12,25 @@ import java.util.*
 interface CachedMovieMapper {
     fun save(movie: CachedMovieEntity?)
 
+    fun saveAllIgnoreDuplicate(@Param("movies") movies: List<CachedMovieEntity>): Int
+
+    fun saveGenresIgnoreDuplicate(@Param("genres") genres: List<MovieGenreEntity>): Int
+
     fun findByMovieId(movieId: String?): Optional<CachedMovieEntity?>?
 
+    fun selectExistingMovieIds(@Param("movieIds") movieIds: Collection<String>): List<String>
+
+    fun selectByMovieIds(@Param("movieIds") movieIds: Collection<String>): List<CachedMovieEntity>
+
+    fun selectMoviesAfterMovieId(@Param("movieId") movieId: String?, @Param("num") num: Int): List<CachedMovieEntity>
+
+    fun selectCountersAfterMovieId(@Param("movieId") movieId: String?, @Param("num") num: Int): List<MovieCounters>
+
+    fun countCountersBetween(
+        @Param("fromMovieId") fromMovieId: String,
+        @Param("toMovieId") toMovieId: String
+    ): List<MovieCounters>
+
     fun selectOnDibOrderDescend(): List<CachedMovieEntity?>?
 
     fun selectOnDibOrderDescendLimit(num: Int): List<CachedMovieEntity?>?
@@ -25,6 +45,18 @@ interface CachedMovieMapper {
 
     fun selectGenreMovieCount(genre: String?): Int
 
+    fun addDibCount(@Param("movieId") movieId: String, @Param("delta") delta: Long): Int
+
+    fun addCommentRating(
+        @Param("movieId") movieId: String,
+        @Param("count") count: Long,
+        @Param("rating") rating: Long
+    ): Int
+
+    fun addCounters(@Param("deltas") deltas: List<MovieCounterDelta>): Int
+
+    fun repairCounters(@Param("expected") expected: MovieCounters, @Param("actual") actual: MovieCounters): Int
+
     fun update(@Param("movieId") movieId: String?, @Param("replacement") replacement: CachedMovieEntity?)
 
     fun delete(movieId: String?)
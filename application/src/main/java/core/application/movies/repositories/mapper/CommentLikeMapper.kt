@@ -1,13 +1,16 @@
 package core.application.movies.repositories.mapper
 
 import org.apache.ibatis.annotations.Mapper
+import org.apache.ibatis.annotations.Param
 import java.util.*
 
 @Mapper
 interface CommentLikeMapper {
-    fun save(commentId: Long?, userId: UUID?)
+    fun save(commentId: Long?, userId: UUID?): Int
 
     fun countLikeByUser(commentId: Long?, userId: UUID?): Int
 
-    fun delete(commentId: Long?, userId: UUID?)
+    fun findCommentIdsByUserId(@Param("userId") userId: UUID, @Param("commentIds") commentIds: Collection<Long>): List<Long>
+
+    fun delete(commentId: Long?, userId: UUID?): Int
 }
@@ -3,6 +3,7 @@ package core.application.movies.repositories.mapper
 import core.application.movies.models.dto.response.CommentRespDTO
 import core.application.movies.models.entities.CommentEntity
 import org.apache.ibatis.annotations.Mapper
+import org.apache.ibatis.annotations.Param
 import java.util.*
 
 @Mapper
@@ -13,13 +14,45 @@ interface CommentMapper {
 
     fun findByMovieIdAndUserId(movieId: String?, userId: UUID?): Optional<CommentEntity?>?
 
-    fun findByMovieId(movieId: String?, userId: UUID?, offset: Int): List<CommentRespDTO?>?
+    fun findByMovieId(movieId: String?, offset: Int): List<CommentRespDTO?>?
 
-    fun findByMovieIdOnDateDescend(movieId: String?, userId: UUID?, offset: Int): List<CommentRespDTO?>?
+    fun findByMovieIdOnDateDescend(
+        @Param("movieId") movieId: String?,
+        @Param("offset") offset: Int,
+        @Param("num") num: Int
+    ): List<CommentRespDTO?>?
 
-    fun findByMovieIdOnLikeDescend(movieId: String?, userId: UUID?, offset: Int): List<CommentRespDTO?>?
+    fun findByMovieIdOnLikeDescend(
+        @Param("movieId") movieId: String?,
+        @Param("offset") offset: Int,
+        @Param("num") num: Int
+    ): List<CommentRespDTO?>?
 
-    fun findByMovieIdOnDislikeDescend(movieId: String?, userId: UUID?, offset: Int): List<CommentRespDTO?>?
+    fun findByMovieIdOnDislikeDescend(
+        @Param("movieId") movieId: String?,
+        @Param("offset") offset: Int,
+        @Param("num") num: Int
+    ): List<CommentRespDTO?>?
+
+    fun findByMovieIdOnIdDescendAfter(
+        @Param("movieId") movieId: String?,
+        @Param("id") id: Long,
+        @Param("num") num: Int
+    ): List<CommentRespDTO>
+
+    fun findByMovieIdOnLikeDescendAfter(
+        @Param("movieId") movieId: String?,
+        @Param("key") key: Long,
+        @Param("id") id: Long,
+        @Param("num") num: Int
+    ): List<CommentRespDTO>
+
+    fun findByMovieIdOnDislikeDescendAfter(
+        @Param("movieId") movieId: String?,
+        @Param("key") key: Long,
+        @Param("id") id: Long,
+        @Param("num") num: Int
+    ): List<CommentRespDTO>
 
     fun selectAll(): List<CommentEntity?>?
 
@@ -27,5 +60,9 @@ interface CommentMapper {
 
     fun update(comment: CommentEntity?)
 
+    fun addLikeCount(@Param("commentId") commentId: Long, @Param("delta") delta: Int): Int
+
+    fun addDislikeCount(@Param("commentId") commentId: Long, @Param("delta") delta: Int): Int
+
     fun delete(commentId: Long?)
 }
@@ -17,6 +17,23 @@ interface CachedMovieRepository {
      */
     fun saveNewMovie(movie: CachedMovieEntity?): CachedMovieEntity?
 
+    /**
+     * 여러 영화 정보를 한 번에 DB 에 등록
+     * <br>
+     * 이미 등록된 영화는 건너뛴다.
+     *
+     * @param movies 새 영화 정보 목록
+     * @return 새로 등록된 영화 수
+     */
+    fun saveNewMovies(movies: List<CachedMovieEntity>): Int
+
+    /**
+     * 영화의 장르 매핑을 등록한다. 이미 등록된 매핑은 건너뛴다.
+     *
+     * @param movies 등록된 영화 목록
+     */
+    fun saveGenres(movies: List<CachedMovieEntity>)
+
     //<editor-fold desc="READ">
     /**
      * 영화 ID 로 검색
@@ -26,6 +43,49 @@ interface CachedMovieRepository {
      */
     fun findByMovieId(movieId: String?): Optional<CachedMovieEntity?>?
 
+    /**
+     * 주어진 영화 ID 중 이미 등록된 영화 ID 검색
+     *
+     * @param movieIds 영화 ID 목록
+     * @return [Set]`<`[String]`>` 등록된 영화 ID
+     */
+    fun findExistingMovieIds(movieIds: Collection<String>): Set<String>
+
+    /**
+     * 여러 영화 ID 로 검색
+     *
+     * @param movieIds 영화 ID 목록
+     * @return [List]`<`[CachedMovieEntity]`>` 등록된 영화, 순서는 보장하지 않는다.
+     */
+    fun findAllByMovieIds(movieIds: Collection<String>): List<CachedMovieEntity>
+
+    /**
+     * 영화 ID 순으로 `movieId` 다음 영화부터 `num` 개 검색
+     *
+     * @param movieId 이전에 읽은 마지막 영화 ID, 처음부터 읽으려면 `null`
+     * @param num 가져올 영화 개수
+     * @return [List]`<`[CachedMovieEntity]`>`
+     */
+    fun findMoviesAfterMovieId(movieId: String?, num: Int): List<CachedMovieEntity>
+
+    /**
+     * 영화 ID 순으로 `movieId` 다음 영화부터 `num` 개의 찜 / 한줄평 / 평점 합계 / 리뷰 수 검색
+     *
+     * @param movieId 이전에 읽은 마지막 영화 ID, 처음부터 읽으려면 `null`
+     * @param num 가져올 영화 개수
+     * @return [List]`<`[MovieCounters]`>` 영화 ID 순
+     */
+    fun findCountersAfterMovieId(movieId: String?, num: Int): List<MovieCounters>
+
+    /**
+     * `fromMovieId` 부터 `toMovieId` 까지의 영화에 대해 찜 / 한줄평 / 리뷰 테이블을 직접 세어 집계
+     *
+     * @param fromMovieId 시작 영화 ID (포함)
+     * @param toMovieId 끝 영화 ID (포함)
+     * @return [List]`<`[MovieCounters]`>` 찜 / 한줄평 / 리뷰가 하나라도 있는 영화만 포함한다.
+     */
+    fun countCountersBetween(fromMovieId: String, toMovieId: String): List<MovieCounters>
+
     /**
      * 캐시된 모든 영화를 찜 많은 순으로 검색
      *
@@ -75,6 +135,48 @@ interface CachedMovieRepository {
     fun findMoviesLikeGenreOrderByAvgRating(page: Int?, genre: String?): Page<CachedMovieEntity?>?
 
     // UPDATE
+    /**
+     * 영화의 찜 수를 `delta` 만큼 변경한다. 찜 수는 0 보다 작아지지 않는다.
+     * <br>
+     * 영화 정보를 읽지 않고 하나의 `UPDATE` 로 처리한다.
+     *
+     * @param movieId 변경할 영화 ID
+     * @param delta 찜 추가 시 `1`, 취소 시 `-1`
+     * @return 변경된 영화 수, 영화가 없으면 `0`
+     */
+    fun addDibCount(movieId: String, delta: Long): Int
+
+    /**
+     * 영화의 한줄평 수와 평점 합계를 함께 변경하고 평균 평점을 다시 계산한다.
+     * 한줄평 수는 0 보다 작아지지 않는다.
+     * <br>
+     * 영화 정보를 읽지 않고 하나의 `UPDATE` 로 처리한다.
+     *
+     * @param movieId 변경할 영화 ID
+     * @param count 한줄평 작성 시 `1`, 삭제 시 `-1`
+     * @param rating 더하거나 뺄 평점
+     * @return 변경된 영화 수, 영화가 없거나 한줄평 수가 0 보다 작아지면 `0`
+     */
+    fun addCommentRating(movieId: String, count: Long, rating: Long): Int
+
+    /**
+     * 여러 영화의 카운터 변경량을 하나의 `UPDATE` 로 반영하고 평균 평점을 다시 계산한다.
+     * 각 카운터는 0 보다 작아지지 않는다.
+     *
+     * @param deltas 영화별 변경량, 같은 영화는 한 번만 포함한다.
+     * @return 변경된 영화 수
+     */
+    fun addCounters(deltas: List<MovieCounterDelta>): Int
+
+    /**
+     * 영화의 카운터가 아직 `expected` 와 같을 때만 `actual` 로 바꾸고 평균 평점을 다시 계산한다.
+     *
+     * @param expected 읽었던 카운터
+     * @param actual 바꿀 카운터
+     * @return 변경된 영화 수, 그 사이 카운터가 바뀌었으면 `0`
+     */
+    fun repairCounters(expected: MovieCounters, actual: MovieCounters): Int
+
     /**
      * 특정 영화의 정보를 `replacement` 정보로 변경
      *
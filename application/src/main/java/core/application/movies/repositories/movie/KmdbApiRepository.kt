@@ -1,23 +1,236 @@
 package core.application.movies.repositories.movie
 
+import core.application.api.concurrent.SingleFlight
 import core.application.movies.constant.KmdbParameter
+import core.application.movies.exception.KmdbUnavailableException
+import core.application.movies.repositories.movie.kmdb.DataBufferInputStream
+import core.application.movies.repositories.movie.kmdb.KmdbCircuitBreaker
+import core.application.movies.repositories.movie.kmdb.KmdbPriority
+import core.application.movies.repositories.movie.kmdb.KmdbQueryKey
+import core.application.movies.repositories.movie.kmdb.KmdbQueryType
+import core.application.movies.repositories.movie.kmdb.KmdbRateLimiter
+import core.application.movies.repositories.movie.kmdb.KmdbResponseCache
+import core.application.movies.repositories.movie.kmdb.KmdbResponse
+import core.application.movies.repositories.movie.kmdb.KmdbResponseParser
+import core.application.movies.repositories.movie.kmdb.KmdbStaleResponseStore
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
 import lombok.RequiredArgsConstructor
-import org.json.JSONObject
+import org.slf4j.LoggerFactory
 import org.springframework.beans.factory.annotation.Value
+import org.springframework.core.io.buffer.DataBuffer
 import org.springframework.stereotype.Repository
 import org.springframework.web.reactive.function.client.WebClient
+import org.springframework.web.reactive.function.client.WebClientException
 import org.springframework.web.util.UriBuilder
+import reactor.core.Exceptions
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
+import java.time.Duration
+import java.util.NoSuchElementException
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeoutException
 
 @Repository
 @RequiredArgsConstructor
 class KmdbApiRepository (
-    private val webClient: WebClient
+    private val webClient: WebClient,
+    private val responseCache: KmdbResponseCache,
+    private val responseParser: KmdbResponseParser,
+    private val staleStore: KmdbStaleResponseStore,
+    @Value("\${kmdb.api.timeout.response:5s}") private val responseTimeout: Duration,
+    @Value("\${kmdb.api.max-outstanding:64}") private val maxOutstanding: Int,
+    @Value("\${kmdb.api.hedge-delay:1s}") private val hedgeDelay: Duration,
+    @Value("\${kmdb.stale.serve-after:1s}") private val staleServeAfter: Duration,
+    @Value("\${kmdb.circuit.failure-threshold:5}") failureThreshold: Int,
+    @Value("\${kmdb.circuit.open-duration:30s}") openDuration: Duration,
+    @Value("\${kmdb.circuit.half-open-probes:1}") halfOpenProbes: Int,
+    @Value("\${kmdb.ratelimit.permits-per-second:5}") permitsPerSecond: Double,
+    @Value("\${kmdb.ratelimit.burst:10}") burst: Int,
+    @Value("\${kmdb.ratelimit.max-queue:100}") maxQueue: Int,
+    @Value("\${kmdb.ratelimit.max-wait:2s}") maxWait: Duration,
+    meterRegistry: MeterRegistry
 ){
+    private val log = LoggerFactory.getLogger(KmdbApiRepository::class.java)
+
     @Value("\${kmdb.api.key}")
     private val apiKey: String? = null
 
-    fun getResponse(parameters: MutableMap<KmdbParameter, String?>): JSONObject {
-        val response = webClient.get()
+    // 동시에 KMDB 로 나가 있을 수 있는 요청 수
+    private val outstanding = Semaphore(maxOutstanding)
+
+    // 같은 파라미터로 동시에 들어온 요청은 하나의 KMDB 호출을 공유한다.
+    private val requestFlight = SingleFlight<KmdbQueryKey, KmdbResponse>("kmdb.request", meterRegistry)
+
+    private val circuitBreaker = KmdbCircuitBreaker(failureThreshold, openDuration, halfOpenProbes, meterRegistry)
+
+    // 모든 요청이 하나의 API 키를 나눠 쓰므로 초당 요청 수를 제한하고, 사용자 요청을 먼저 처리한다.
+    private val rateLimiter = KmdbRateLimiter(permitsPerSecond, burst, maxQueue, maxWait, meterRegistry)
+
+    private val hedgeCounter = Counter.builder("kmdb.hedge")
+        .register(meterRegistry)
+
+    // 요청 종류(search, genre)와 결과(stale: 보관된 응답 제공, none: 보관된 응답 없음)별 대체 응답 횟수
+    private val fallbackCounters = KmdbQueryType.entries.associateWith { type ->
+        listOf("stale", "none").associateWith { result ->
+            Counter.builder("kmdb.fallback")
+                .tag("type", type.name.lowercase())
+                .tag("result", result)
+                .register(meterRegistry)
+        }
+    }
+
+    // 미리 불러오기 결과 (started: 요청, skipped: 이미 캐시되었거나 요청 중, dropped: 여유가 없어 버림)
+    private val prefetchCounters = listOf("started", "skipped", "dropped").associateWith {
+        Counter.builder("kmdb.prefetch")
+            .tag("result", it)
+            .register(meterRegistry)
+    }
+
+    /**
+     * KMDB 응답을 동기적으로 조회한다.
+     *
+     * @see getResponseAsync
+     */
+    fun getResponse(parameters: MutableMap<KmdbParameter, String?>): KmdbResponse {
+        return getResponseAsync(parameters).block()!!
+    }
+
+    /**
+     * KMDB 응답을 비동기로 조회한다.
+     *
+     * 캐시에 있으면 바로 완료되고, 없으면 호출 스레드를 점유하지 않고 KMDB 응답을 기다린다.
+     * 검색 / 장르 요청은 KMDB 가 실패하거나 `kmdb.stale.serve-after` 안에 응답하지 않으면
+     * 마지막으로 성공한 응답을 대신 제공한다. 이 경우에도 KMDB 요청은 계속 진행되어 캐시를 갱신한다.
+     *
+     * @param parameters KMDB 요청 파라미터
+     * @param priority 요청 우선순위, 백그라운드 작업은 [KmdbPriority.BACKGROUND] 를 사용한다.
+     * @return 변환된 KMDB 응답
+     * @throws KmdbUnavailableException 요청 한도 초과, 동시 요청 수 초과, 서킷 열림, 제한 시간 초과, KMDB 통신 실패 시
+     */
+    @JvmOverloads
+    fun getResponseAsync(
+        parameters: Map<KmdbParameter, String?>,
+        priority: KmdbPriority = KmdbPriority.INTERACTIVE
+    ): Mono<KmdbResponse> {
+        val key = KmdbQueryKey.from(parameters)
+        responseCache.get(key)?.let { return Mono.just(it) }
+
+        val live = Mono.fromFuture { requestFlight.execute(key) { request(key, parameters, priority).toFuture() } }
+        if (!staleStore.supports(key)) return live
+
+        val stale = staleStore.get(key)
+        if (stale == null) {
+            return live.doOnError(KmdbUnavailableException::class.java) { fallbackCounters[key.type]!!["none"]!!.increment() }
+        }
+        return live
+            .timeout(staleServeAfter, Mono.fromCallable { serveStale(key, stale) })
+            .onErrorResume(KmdbUnavailableException::class.java) { Mono.just(serveStale(key, stale)) }
+    }
+
+    /**
+     * 캐시에 없는 응답을 백그라운드로 미리 불러와 캐시에 넣는다.
+     *
+     * [KmdbPriority.BACKGROUND] 요청 한도를 대기 없이 얻을 수 있고, 서킷이 닫혀 있으며,
+     * 동시 요청 수가 절반 이하일 때만 요청한다. 그 외에는 요청하지 않고 버린다.
+     *
+     * @return 요청을 보냈으면 `true`
+     */
+    fun prefetch(parameters: Map<KmdbParameter, String?>): Boolean {
+        val key = KmdbQueryKey.from(parameters)
+        if (responseCache.contains(key) || requestFlight.isInFlight(key)) {
+            prefetchCounters["skipped"]!!.increment()
+            return false
+        }
+        if (!circuitBreaker.isClosed()
+            || outstanding.availablePermits() < maxOutstanding / 2
+            || !rateLimiter.tryAcquire(KmdbPriority.BACKGROUND)
+        ) {
+            prefetchCounters["dropped"]!!.increment()
+            return false
+        }
+
+        prefetchCounters["started"]!!.increment()
+        Mono.fromFuture {
+            requestFlight.execute(key) {
+                request(key, parameters, KmdbPriority.BACKGROUND, Mono.empty()).toFuture()
+            }
+        }.subscribe({}, { log.debug("[KmdbApiRepository.prefetch] 미리 불러오기 실패 : {}", it.message) })
+        return true
+    }
+
+    private fun serveStale(key: KmdbQueryKey, stale: KmdbResponse): KmdbResponse {
+        fallbackCounters[key.type]!!["stale"]!!.increment()
+        return stale
+    }
+
+    /**
+     * @param permit 요청 한도 획득, 이미 얻은 경우 [Mono.empty]
+     */
+    private fun request(
+        key: KmdbQueryKey,
+        parameters: Map<KmdbParameter, String?>,
+        priority: KmdbPriority,
+        permit: Mono<Void> = rateLimiter.acquire(priority)
+    ): Mono<KmdbResponse> {
+        return permit.then(Mono.defer {
+            if (!outstanding.tryAcquire()) {
+                return@defer Mono.error(KmdbUnavailableException("영화 정보 요청이 많아 잠시 후 다시 시도해주세요."))
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                outstanding.release()
+                return@defer Mono.error(KmdbUnavailableException("영화 정보 서버에 연결할 수 없어 잠시 후 다시 시도해주세요."))
+            }
+            fetchHedged(parameters, priority)
+                .timeout(responseTimeout)
+                .doOnSuccess { circuitBreaker.onSuccess() }
+                .doOnError { circuitBreaker.onFailure() }
+                .doOnCancel { circuitBreaker.onCancel() }
+                .doFinally { outstanding.release() }
+        })
+            .onErrorMap({ it is TimeoutException || it is WebClientException || it is NoSuchElementException }) {
+                KmdbUnavailableException("영화 정보를 불러오지 못했습니다.", it)
+            }
+            .doOnNext { response ->
+                // 정상 응답만 캐시한다. (API 키 오류 등은 Data 가 없는 응답으로 내려온다.)
+                if (response.hasData) {
+                    responseCache.put(key, response)
+                    staleStore.put(key, response)
+                }
+            }
+    }
+
+    /**
+     * 첫 요청이 `kmdb.api.hedge-delay` 안에 응답하지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용한다.
+     * 조회 요청만 보내므로 중복 요청해도 안전하며, 서킷이 닫혀 있고 동시 요청 수와 요청 한도에 여유가 있을 때만 보낸다.
+     * 백그라운드 요청은 다시 보내지 않는다.
+     */
+    private fun fetchHedged(parameters: Map<KmdbParameter, String?>, priority: KmdbPriority): Mono<KmdbResponse> {
+        val primary = fetch(parameters)
+        if (priority == KmdbPriority.BACKGROUND || hedgeDelay.isZero || hedgeDelay >= responseTimeout
+            || !circuitBreaker.isClosed()
+        ) return primary
+
+        val hedge = Mono.delay(hedgeDelay)
+            .filter { tryAcquireHedge(priority) }
+            .flatMap {
+                hedgeCounter.increment()
+                fetch(parameters).doFinally { outstanding.release() }
+            }
+        return Mono.firstWithValue(primary, hedge)
+    }
+
+    private fun tryAcquireHedge(priority: KmdbPriority): Boolean {
+        if (!outstanding.tryAcquire()) return false
+        if (!rateLimiter.tryAcquire(priority)) {
+            outstanding.release()
+            return false
+        }
+        return true
+    }
+
+    private fun fetch(parameters: Map<KmdbParameter, String?>): Mono<KmdbResponse> {
+        val body = webClient.get()
             .uri { uriBuilder: UriBuilder ->
                 // 기본 파라미터 설정
                 uriBuilder.path("/search_json2.jsp")
@@ -34,9 +247,22 @@ class KmdbApiRepository (
                 uriBuilder.build()
             }
             .retrieve()
-            .bodyToMono(String::class.java)
-            .block()
+            .bodyToFlux(DataBuffer::class.java)
+
+        // 본문을 하나의 버퍼로 모으지 않고, 도착한 버퍼부터 파서가 읽는다.
+        // 파서는 다음 버퍼를 기다리며 블로킹되므로 네트워크 스레드가 아닌 별도 스레드에서 읽는다.
+        // 취소 (제한 시간 초과, 헤징) 되면 본문을 닫아 요청도 취소한다.
+        return Mono.using(
+            { DataBufferInputStream(body, BODY_PREFETCH) },
+            { input -> Mono.fromCallable { responseParser.parse(input) } },
+            { input -> input.close() }
+        )
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorMap { Exceptions.unwrap(it) }
+    }
 
-        return JSONObject(response)
+    companion object {
+        // 파서가 읽기 전에 미리 받아 둘 본문 버퍼 수
+        private const val BODY_PREFETCH = 4
     }
 }
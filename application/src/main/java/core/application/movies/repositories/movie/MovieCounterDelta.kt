@@ -0,0 +1,19 @@
+package core.application.movies.repositories.movie
+
+/**
+ * 영화 하나의 카운터 변경량
+ *
+ * @param dib 찜 수 변경량
+ * @param comment 한줄평 수 변경량
+ * @param rating 평점 합계 변경량
+ * @param review 리뷰 수 변경량
+ */
+data class MovieCounterDelta(
+    val movieId: String,
+    val dib: Long = 0,
+    val comment: Long = 0,
+    val rating: Long = 0,
+    val review: Long = 0
+) {
+    fun isEmpty(): Boolean = dib == 0L && comment == 0L && rating == 0L && review == 0L
+}
@@ -0,0 +1,33 @@
+package core.application.movies.repositories.movie
+
+import core.application.movies.models.entities.CachedMovieEntity
+
+/**
+ * 영화 하나의 찜 / 한줄평 / 평점 합계 / 리뷰 수
+ *
+ * @param dib 찜 수
+ * @param comment 한줄평 수
+ * @param rating 평점 합계
+ * @param review 리뷰 수
+ */
+data class MovieCounters(
+    val movieId: String,
+    val dib: Long = 0,
+    val comment: Long = 0,
+    val rating: Long = 0,
+    val review: Long = 0
+) {
+    /**
+     * `other` 에서 이 값이 되기 위한 변경량
+     */
+    operator fun minus(other: MovieCounters) = MovieCounterDelta(
+        movieId, dib - other.dib, comment - other.comment, rating - other.rating, review - other.review
+    )
+
+    companion object {
+        @JvmStatic
+        fun of(movie: CachedMovieEntity) = MovieCounters(
+            movie.movieId!!, movie.dibCount, movie.commentCount, movie.sumOfRating, movie.reviewCount
+        )
+    }
+}
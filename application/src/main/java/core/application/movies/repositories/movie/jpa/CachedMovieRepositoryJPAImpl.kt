@@ -1,36 +1,160 @@
 package core.application.movies.repositories.movie.jpa
 
 import core.application.movies.models.entities.CachedMovieEntity
+import core.application.movies.models.entities.MovieGenreEntity
 import core.application.movies.repositories.movie.CachedMovieRepository
+import core.application.movies.repositories.movie.MovieCounterDelta
+import core.application.movies.repositories.movie.MovieCounters
+import core.application.movies.repositories.movie.ranking.MovieRanking
+import core.application.movies.repositories.movie.ranking.MovieRankingStore
+import jakarta.persistence.EntityManager
 import lombok.RequiredArgsConstructor
 import org.springframework.context.annotation.Profile
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageRequest
 import org.springframework.data.domain.Sort
 import org.springframework.stereotype.Repository
+import org.springframework.transaction.annotation.Transactional
 import java.util.*
 
 @RequiredArgsConstructor
 @Repository
 @Profile("jpa")
 class CachedMovieRepositoryJPAImpl (
-    private val jpaCachedMovieRepository: JpaCachedMovieRepository
+    private val jpaCachedMovieRepository: JpaCachedMovieRepository,
+    private val rankingStore: MovieRankingStore,
+    private val entityManager: EntityManager
 ): CachedMovieRepository {
 
+    // ID 를 지정한 엔티티를 save 하면 merge 되어 행마다 SELECT 하고, 그 사이 저장된 영화는 카운터가 0 으로 덮어써진다.
+    // 그래서 새 영화는 persist 또는 INSERT 문으로만 저장한다.
+
+    @Transactional
     override fun saveNewMovie(movie: CachedMovieEntity?): CachedMovieEntity? {
-        return movie?.let { jpaCachedMovieRepository.save(it) }
+        if (movie == null) return null
+        // 이미 저장된 영화면 커밋 시 중복 키 오류가 발생한다.
+        entityManager.persist(movie)
+        insertGenresIgnoreDuplicate(MovieGenreEntity.of(movie))
+        rankingStore.update(movie)
+        return movie
+    }
+
+    @Transactional
+    override fun saveNewMovies(movies: List<CachedMovieEntity>): Int {
+        if (movies.isEmpty()) return 0
+        val existing = findExistingMovieIds(movies.mapNotNull { it.movieId })
+        val newMovies = movies.filter { it.movieId !in existing }.distinctBy { it.movieId }
+        if (newMovies.isEmpty()) return 0
+
+        // 확인 이후 다른 요청이 저장한 영화는 건너뛴다.
+        val inserted = insertMoviesIgnoreDuplicate(newMovies)
+        insertGenresIgnoreDuplicate(newMovies.flatMap { MovieGenreEntity.of(it) })
+        newMovies.forEach { rankingStore.update(it) }
+        return inserted
+    }
+
+    @Transactional
+    override fun saveGenres(movies: List<CachedMovieEntity>) {
+        insertGenresIgnoreDuplicate(movies.flatMap { MovieGenreEntity.of(it) })
+    }
+
+    private fun insertMoviesIgnoreDuplicate(movies: List<CachedMovieEntity>): Int {
+        val sql = "insert into cached_movie_table (movie_id, title, poster_url, genre, release_date, plot, " +
+                "running_time, actors, director, dib_count, review_count, comment_count, sum_of_rating, avg_rating) values " +
+                movies.joinToString(",") { "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, if(? > 0, round(? / ?, 1), null))" } +
+                " on duplicate key update movie_id = movie_id"
+
+        val query = entityManager.createNativeQuery(sql)
+        var position = 1
+        movies.forEach {
+            listOf(
+                it.movieId, it.title, it.posterUrl, it.genre, it.releaseDate, it.plot, it.runningTime, it.actors,
+                it.director, it.dibCount, it.reviewCount, it.commentCount, it.sumOfRating,
+                it.commentCount, it.sumOfRating, it.commentCount
+            ).forEach { param -> query.setParameter(position++, param) }
+        }
+        return query.executeUpdate()
+    }
+
+    private fun insertGenresIgnoreDuplicate(genres: List<MovieGenreEntity>) {
+        if (genres.isEmpty()) return
+        val sql = "insert into movie_genre_table (genre, movie_id) values " +
+                genres.joinToString(",") { "(?, ?)" } +
+                " on duplicate key update movie_id = movie_id"
+
+        val query = entityManager.createNativeQuery(sql)
+        genres.forEachIndexed { i, genre ->
+            query.setParameter(i * 2 + 1, genre.genre)
+            query.setParameter(i * 2 + 2, genre.movieId)
+        }
+        query.executeUpdate()
     }
 
     override fun findByMovieId(movieId: String?): Optional<CachedMovieEntity?>? {
         return movieId?.let { jpaCachedMovieRepository.findById(it) }
     }
 
+    override fun findExistingMovieIds(movieIds: Collection<String>): Set<String> {
+        if (movieIds.isEmpty()) return emptySet()
+        return jpaCachedMovieRepository.findMovieIdsIn(movieIds).toSet()
+    }
+
+    override fun findAllByMovieIds(movieIds: Collection<String>): List<CachedMovieEntity> {
+        if (movieIds.isEmpty()) return emptyList()
+        return jpaCachedMovieRepository.findAllById(movieIds).filterNotNull()
+    }
+
+    override fun findMoviesAfterMovieId(movieId: String?, num: Int): List<CachedMovieEntity> {
+        val pageable = PageRequest.of(0, num)
+        return if (movieId == null) {
+            jpaCachedMovieRepository.findAllByOrderByMovieId(pageable)
+        } else {
+            jpaCachedMovieRepository.findByMovieIdGreaterThanOrderByMovieId(movieId, pageable)
+        }
+    }
+
+    override fun findCountersAfterMovieId(movieId: String?, num: Int): List<MovieCounters> {
+        return jpaCachedMovieRepository.findCountersAfterMovieId(movieId ?: "", PageRequest.of(0, num))
+    }
+
+    override fun countCountersBetween(fromMovieId: String, toMovieId: String): List<MovieCounters> {
+        // 각 테이블의 movie_id 인덱스 범위만 읽어 영화별로 집계한다.
+        val sql = "select movie_id, cast(sum(dib) as signed), cast(sum(comment) as signed), " +
+                "cast(sum(rating) as signed), cast(sum(review) as signed) from (" +
+                "select movie_id, count(*) as dib, 0 as comment, 0 as rating, 0 as review from dib_table " +
+                "where movie_id between :from and :to group by movie_id " +
+                "union all " +
+                "select movie_id, 0, count(*), coalesce(sum(rating), 0), 0 from comment_table " +
+                "where movie_id between :from and :to group by movie_id " +
+                "union all " +
+                "select movie_id, 0, 0, 0, count(*) from review_table " +
+                "where movie_id between :from and :to group by movie_id" +
+                ") counters group by movie_id"
+
+        val rows = entityManager.createNativeQuery(sql)
+            .setParameter("from", fromMovieId)
+            .setParameter("to", toMovieId)
+            .resultList
+        return rows.map {
+            val row = it as Array<*>
+            MovieCounters(
+                row[0] as String,
+                (row[1] as Number).toLong(),
+                (row[2] as Number).toLong(),
+                (row[3] as Number).toLong(),
+                (row[4] as Number).toLong()
+            )
+        }
+    }
+
     override fun selectOnDibOrderDescend(): List<CachedMovieEntity?>? {
         return jpaCachedMovieRepository.findAllOrderBy(Sort.by(Sort.Direction.DESC, "dibCount"))
     }
 
     override fun selectOnDibOrderDescend(num: Int): List<CachedMovieEntity?>? {
-        return jpaCachedMovieRepository.findOrderBy(PageRequest.of(0, num, Sort.by(Sort.Direction.DESC, "dibCount")))
+        return rankingStore.top(MovieRanking.DIB, num, ::findAllByMovieIds) {
+            jpaCachedMovieRepository.findOrderBy(PageRequest.of(0, num, Sort.by(Sort.Direction.DESC, "dibCount")))
+        }
     }
 
     override fun selectOnAVGRatingDescend(): List<CachedMovieEntity?>? {
@@ -38,30 +162,99 @@ class CachedMovieRepositoryJPAImpl (
     }
 
     override fun selectOnAVGRatingDescend(num: Int): List<CachedMovieEntity?>? {
-        return jpaCachedMovieRepository.findTopXOrderByAvgRating(PageRequest.of(0, num))
+        return rankingStore.top(MovieRanking.RATING, num, ::findAllByMovieIds) {
+            jpaCachedMovieRepository.findTopXOrderByAvgRating(PageRequest.of(0, num))
+        }
     }
 
     override fun selectOnReviewCountDescend(num: Int): List<CachedMovieEntity?>? {
-        return jpaCachedMovieRepository.findOrderBy(
-            PageRequest.of(
-                0,
-                num,
-                Sort.by(Sort.Direction.DESC, "reviewCount")
+        return rankingStore.top(MovieRanking.REVIEW, num, ::findAllByMovieIds) {
+            jpaCachedMovieRepository.findOrderBy(
+                PageRequest.of(
+                    0,
+                    num,
+                    Sort.by(Sort.Direction.DESC, "reviewCount")
+                )
             )
-        )
+        }
     }
 
     override fun findMoviesLikeGenreOrderByAvgRating(page: Int?, genre: String?): Page<CachedMovieEntity?>? {
         return jpaCachedMovieRepository.findByGenreOrderByAvgRating(genre, page?.let { PageRequest.of(it, 10) })
     }
 
+    override fun addDibCount(movieId: String, delta: Long): Int {
+        val updated = jpaCachedMovieRepository.addDibCount(movieId, delta)
+        if (updated > 0) {
+            rankingStore.incrementScore(MovieRanking.DIB, movieId, delta.toDouble())
+        }
+        return updated
+    }
+
+    override fun addCommentRating(movieId: String, count: Long, rating: Long): Int {
+        val updated = jpaCachedMovieRepository.addCommentRating(movieId, count, rating)
+        if (updated > 0) {
+            rankingStore.addRating(movieId, count, rating)
+        }
+        return updated
+    }
+
+    @Transactional
+    override fun addCounters(deltas: List<MovieCounterDelta>): Int {
+        if (deltas.isEmpty()) return 0
+        entityManager.flush()
+
+        // 단일 테이블 UPDATE 이므로 SET 절이 왼쪽부터 적용되어 avg_rating 은 변경된 값으로 계산된다.
+        val params = ArrayList<Any>()
+        val sql = "update cached_movie_table set " +
+                "dib_count = greatest(dib_count + ${deltaCase(deltas, params) { it.dib }}, 0), " +
+                "review_count = greatest(review_count + ${deltaCase(deltas, params) { it.review }}, 0), " +
+                "comment_count = greatest(comment_count + ${deltaCase(deltas, params) { it.comment }}, 0), " +
+                "sum_of_rating = sum_of_rating + ${deltaCase(deltas, params) { it.rating }}, " +
+                "avg_rating = if(comment_count > 0, round(sum_of_rating / comment_count, 1), null) " +
+                "where movie_id in (${deltas.joinToString(",") { "?" }})"
+        deltas.forEach { params.add(it.movieId) }
+
+        val query = entityManager.createNativeQuery(sql)
+        params.forEachIndexed { i, param -> query.setParameter(i + 1, param) }
+        val updated = query.executeUpdate()
+        entityManager.clear()
+
+        findAllByMovieIds(deltas.map { it.movieId }).forEach { rankingStore.update(it) }
+        return updated
+    }
+
+    /**
+     * `case movie_id when ? then ? ... else 0 end`
+     */
+    private fun deltaCase(
+        deltas: List<MovieCounterDelta>,
+        params: MutableList<Any>,
+        value: (MovieCounterDelta) -> Long
+    ): String {
+        deltas.forEach {
+            params.add(it.movieId)
+            params.add(value(it))
+        }
+        return "case movie_id " + deltas.joinToString(" ") { "when ? then ?" } + " else 0 end"
+    }
+
+    override fun repairCounters(expected: MovieCounters, actual: MovieCounters): Int {
+        val updated = jpaCachedMovieRepository.repairCounters(expected, actual)
+        if (updated > 0) {
+            rankingStore.refresh(actual.movieId) { jpaCachedMovieRepository.findById(actual.movieId).orElse(null) }
+        }
+        return updated
+    }
+
     override fun editMovie(movieId: String?, replacement: CachedMovieEntity?): CachedMovieEntity? {
-        return replacement?.let { jpaCachedMovieRepository.save(it) }
+        return replacement?.let { jpaCachedMovieRepository.save(it) }?.also { rankingStore.update(it) }
     }
 
     override fun deleteMovie(movieId: String?) {
         if (movieId != null) {
             jpaCachedMovieRepository.deleteById(movieId)
+            rankingStore.remove(movieId)
         }
     }
 }
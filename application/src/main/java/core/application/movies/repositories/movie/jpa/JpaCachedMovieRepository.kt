@@ -1,23 +1,83 @@
 package core.application.movies.repositories.movie.jpa
 
 import core.application.movies.models.entities.CachedMovieEntity
+import core.application.movies.repositories.movie.MovieCounters
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
 import org.springframework.data.domain.Sort
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
 import org.springframework.data.jpa.repository.Query
+import org.springframework.transaction.annotation.Transactional
 
 interface JpaCachedMovieRepository : JpaRepository<CachedMovieEntity?, String?> {
+    @Query("select m.movieId from CachedMovieEntity m where m.movieId in :movieIds")
+    fun findMovieIdsIn(movieIds: Collection<String>): List<String>
+
+    fun findByMovieIdGreaterThanOrderByMovieId(movieId: String, pageable: Pageable): List<CachedMovieEntity>
+
+    fun findAllByOrderByMovieId(pageable: Pageable): List<CachedMovieEntity>
+
+    @Query(
+        "select new core.application.movies.repositories.movie.MovieCounters(" +
+                "m.movieId, m.dibCount, m.commentCount, m.sumOfRating, m.reviewCount) " +
+                "from CachedMovieEntity m where m.movieId > :movieId order by m.movieId"
+    )
+    fun findCountersAfterMovieId(movieId: String, pageable: Pageable): List<MovieCounters>
+
     fun findAllOrderBy(sort: Sort?): List<CachedMovieEntity?>?
 
     fun findOrderBy(pageable: Pageable?): List<CachedMovieEntity?>?
 
-    @Query("select m from CachedMovieEntity m order by (m.sumOfRating / m.commentCount) desc")
+    @Query("select m from CachedMovieEntity m order by m.avgRating desc, m.movieId desc")
     fun findAllOrderByAvgRating(): List<CachedMovieEntity?>?
 
-    @Query("select m from CachedMovieEntity m order by (m.sumOfRating / m.commentCount) desc")
+    @Query("select m from CachedMovieEntity m order by m.avgRating desc, m.movieId desc")
     fun findTopXOrderByAvgRating(pageable: Pageable?): List<CachedMovieEntity?>?
 
-    @Query("select m from CachedMovieEntity m where m.genre like %:genre% order by (m.sumOfRating / m.commentCount) desc")
+    @Query(
+        value = "select m from MovieGenreEntity g join CachedMovieEntity m on m.movieId = g.movieId " +
+                "where g.genre = :genre order by m.avgRating desc, m.movieId desc",
+        countQuery = "select count(g) from MovieGenreEntity g where g.genre = :genre"
+    )
     fun findByGenreOrderByAvgRating(genre: String?, pageable: Pageable?): Page<CachedMovieEntity?>?
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        value = "update cached_movie_table set dib_count = greatest(dib_count + :delta, 0) where movie_id = :movieId",
+        nativeQuery = true
+    )
+    fun addDibCount(movieId: String, delta: Long): Int
+
+    // MySQL 은 SET 절을 왼쪽부터 적용하므로 avg_rating 은 변경된 값으로 계산된다.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        value = "update cached_movie_table " +
+                "set comment_count = comment_count + :count, " +
+                "sum_of_rating = sum_of_rating + :rating, " +
+                "avg_rating = if(comment_count > 0, round(sum_of_rating / comment_count, 1), null) " +
+                "where movie_id = :movieId and comment_count + :count >= 0",
+        nativeQuery = true
+    )
+    fun addCommentRating(movieId: String, count: Long, rating: Long): Int
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        value = "update cached_movie_table " +
+                "set dib_count = :#{#actual.dib}, " +
+                "review_count = :#{#actual.review}, " +
+                "comment_count = :#{#actual.comment}, " +
+                "sum_of_rating = :#{#actual.rating}, " +
+                "avg_rating = if(comment_count > 0, round(sum_of_rating / comment_count, 1), null) " +
+                "where movie_id = :#{#expected.movieId} " +
+                "and dib_count = :#{#expected.dib} " +
+                "and review_count = :#{#expected.review} " +
+                "and comment_count = :#{#expected.comment} " +
+                "and sum_of_rating = :#{#expected.rating}",
+        nativeQuery = true
+    )
+    fun repairCounters(expected: MovieCounters, actual: MovieCounters): Int
 }
@@ -0,0 +1,111 @@
+package core.application.movies.repositories.movie.kmdb
+
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscription
+import org.springframework.core.io.buffer.DataBuffer
+import org.springframework.core.io.buffer.DataBufferUtils
+import reactor.core.Exceptions
+import reactor.core.publisher.BaseSubscriber
+import java.io.IOException
+import java.io.InputStream
+import java.util.concurrent.LinkedBlockingQueue
+
+/**
+ * 응답 본문 [DataBuffer] 들을 도착하는 대로 읽는 [InputStream]
+ *
+ * - 한 번에 `prefetch` 개 버퍼만 요청하고, 다 읽은 버퍼만큼 다시 요청하므로 본문 전체를 메모리에 모으지 않는다.
+ * - 다음 버퍼가 아직 도착하지 않았으면 기다린다. 네트워크 스레드가 아닌 곳에서 읽어야 한다.
+ * - 본문 수신 중 오류는 [IOException] 이 아닌 원래 예외로 던져, 응답 형식 오류와 구분한다.
+ * - 닫으면 (다른 스레드에서 닫아도) 구독을 취소하고 남은 버퍼를 해제한다.
+ */
+class DataBufferInputStream(body: Publisher<DataBuffer>, private val prefetch: Int = 4) : InputStream() {
+
+    private class Failure(val error: Throwable)
+
+    // DataBuffer, Failure, COMPLETE, CLOSED
+    private val signals = LinkedBlockingQueue<Any>()
+
+    // closed, current 와 버퍼 해제는 lock 안에서만 다룬다. 다음 버퍼를 기다리는 동안에는 잡지 않는다.
+    private val lock = Any()
+
+    private var closed = false
+    private var finished = false
+    private var current: DataBuffer? = null
+
+    private val subscriber = object : BaseSubscriber<DataBuffer>() {
+        override fun hookOnSubscribe(subscription: Subscription) = subscription.request(prefetch.toLong())
+
+        override fun hookOnNext(value: DataBuffer) {
+            synchronized(lock) {
+                if (closed) DataBufferUtils.release(value) else signals.put(value)
+            }
+        }
+
+        override fun hookOnComplete() = signals.put(COMPLETE)
+
+        override fun hookOnError(throwable: Throwable) = signals.put(Failure(throwable))
+    }
+
+    init {
+        body.subscribe(subscriber)
+    }
+
+    override fun read(): Int {
+        val one = ByteArray(1)
+        return if (read(one, 0, 1) == -1) -1 else one[0].toInt() and 0xFF
+    }
+
+    override fun read(b: ByteArray, off: Int, len: Int): Int {
+        if (len == 0) return 0
+        while (true) {
+            synchronized(lock) {
+                if (closed) throw IOException("닫힌 응답 본문입니다.")
+                current?.let {
+                    if (it.readableByteCount() > 0) {
+                        val count = minOf(len, it.readableByteCount())
+                        it.read(b, off, count)
+                        return count
+                    }
+                    DataBufferUtils.release(it)
+                    current = null
+                    subscriber.request(1)
+                }
+                if (finished) return -1
+            }
+
+            val signal = signals.take()
+            synchronized(lock) {
+                when (signal) {
+                    is DataBuffer -> if (closed) DataBufferUtils.release(signal) else current = signal
+                    is Failure -> {
+                        finished = true
+                        throw Exceptions.propagate(signal.error)
+                    }
+                    COMPLETE -> finished = true
+                    else -> throw IOException("닫힌 응답 본문입니다.")
+                }
+            }
+        }
+    }
+
+    override fun close() {
+        synchronized(lock) {
+            if (closed) return
+            closed = true
+            current?.let { DataBufferUtils.release(it) }
+            current = null
+            while (true) {
+                val signal = signals.poll() ?: break
+                if (signal is DataBuffer) DataBufferUtils.release(signal)
+            }
+        }
+        subscriber.dispose()
+        // 다음 버퍼를 기다리는 스레드를 깨운다.
+        signals.put(CLOSED)
+    }
+
+    companion object {
+        private val COMPLETE = Any()
+        private val CLOSED = Any()
+    }
+}
@@ -0,0 +1,120 @@
+package core.application.movies.repositories.movie.kmdb
+
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import java.time.Duration
+import java.util.function.LongSupplier
+
+/**
+ * KMDB 호출을 보호하는 서킷 브레이커
+ *
+ * - `CLOSED` : 모든 호출 허용, 연속 실패가 `failureThreshold` 에 도달하면 `OPEN`
+ * - `OPEN` : 모든 호출 거부, `openDuration` 이 지나면 `HALF_OPEN`
+ * - `HALF_OPEN` : `halfOpenProbes` 개의 시험 호출만 허용, 성공하면 `CLOSED`, 실패하면 다시 `OPEN`
+ *
+ * `kmdb.circuit.state` 지표로 현재 상태(0: CLOSED, 1: OPEN, 2: HALF_OPEN)를,
+ * `kmdb.circuit.transitions` 지표의 `state` 태그로 상태별 전환 횟수를 집계한다.
+ */
+class KmdbCircuitBreaker(
+    private val failureThreshold: Int,
+    openDuration: Duration,
+    private val halfOpenProbes: Int,
+    meterRegistry: MeterRegistry,
+    private val ticker: LongSupplier = LongSupplier { System.nanoTime() }
+) {
+    enum class State { CLOSED, OPEN, HALF_OPEN }
+
+    private val log = LoggerFactory.getLogger(KmdbCircuitBreaker::class.java)
+
+    private val openNanos = openDuration.toNanos()
+
+    private var state = State.CLOSED
+    private var consecutiveFailures = 0
+    private var openedAt = 0L
+    private var probesInFlight = 0
+
+    private val transitionCounters = State.entries.associateWith {
+        Counter.builder("kmdb.circuit.transitions")
+            .tag("state", it.name.lowercase())
+            .register(meterRegistry)
+    }
+
+    private val rejectedCounter = Counter.builder("kmdb.circuit.rejected")
+        .register(meterRegistry)
+
+    init {
+        Gauge.builder("kmdb.circuit.state", this) { it.state().ordinal.toDouble() }
+            .register(meterRegistry)
+    }
+
+    /**
+     * 호출 허용 여부를 확인한다. 허용된 호출은 끝난 뒤 반드시
+     * [onSuccess], [onFailure], [onCancel] 중 하나를 호출해야 한다.
+     */
+    @Synchronized
+    fun tryAcquire(): Boolean {
+        if (state == State.OPEN && ticker.asLong - openedAt >= openNanos) {
+            transitionTo(State.HALF_OPEN)
+        }
+        val allowed = when (state) {
+            State.CLOSED -> true
+            State.OPEN -> false
+            State.HALF_OPEN -> if (probesInFlight < halfOpenProbes) {
+                probesInFlight++
+                true
+            } else {
+                false
+            }
+        }
+        if (!allowed) rejectedCounter.increment()
+        return allowed
+    }
+
+    @Synchronized
+    fun onSuccess() {
+        consecutiveFailures = 0
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED)
+        }
+    }
+
+    @Synchronized
+    fun onFailure() {
+        when (state) {
+            State.CLOSED -> if (++consecutiveFailures >= failureThreshold) open()
+            State.HALF_OPEN -> open()
+            State.OPEN -> {}
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 호출. 시험 호출 자리만 반납한다.
+     */
+    @Synchronized
+    fun onCancel() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--
+        }
+    }
+
+    @Synchronized
+    fun state(): State = state
+
+    fun isClosed(): Boolean = state() == State.CLOSED
+
+    private fun open() {
+        openedAt = ticker.asLong
+        transitionTo(State.OPEN)
+    }
+
+    private fun transitionTo(next: State) {
+        if (state == next) return
+        log.warn("[KmdbCircuitBreaker] KMDB 서킷 상태 변경 : {} -> {}", state, next)
+        state = next
+        consecutiveFailures = 0
+        probesInFlight = 0
+        transitionCounters[next]!!.increment()
+    }
+}
@@ -0,0 +1,61 @@
+package core.application.movies.repositories.movie.kmdb
+
+import core.application.movies.constant.KmdbParameter
+
+/**
+ * KMDB 요청 파라미터를 정규화한 캐시 키
+ *
+ * 파라미터 순서, 값 앞뒤 공백, 연속 공백, 영문 대소문자 차이는 같은 요청으로 취급한다.
+ *
+ * @param type 요청 종류 (TTL 결정에 사용)
+ * @param canonical 정규화된 파라미터 문자열 (`name=value&...`)
+ */
+data class KmdbQueryKey(
+    val type: KmdbQueryType,
+    val canonical: String
+) {
+    companion object {
+        private val WHITESPACE = Regex("\\s+")
+
+        @JvmStatic
+        fun from(parameters: Map<KmdbParameter, String?>): KmdbQueryKey {
+            val normalized = parameters.entries
+                .mapNotNull { (parameter, value) -> normalize(parameter, value)?.let { parameter to it } }
+                .sortedBy { it.first.ordinal }
+
+            val canonical = normalized.joinToString("&") { (parameter, value) -> "${parameter.PARAMETER}=$value" }
+            return KmdbQueryKey(KmdbQueryType.of(normalized.map { it.first }.toSet()), canonical)
+        }
+
+        private fun normalize(parameter: KmdbParameter, value: String?): String? {
+            val trimmed = value?.trim()?.replace(WHITESPACE, " ")
+            if (trimmed.isNullOrEmpty()) return null
+
+            return if (parameter == KmdbParameter.QUERY) trimmed.lowercase() else trimmed
+        }
+    }
+}
+
+/**
+ * KMDB 요청 종류
+ */
+enum class KmdbQueryType {
+    /** 검색어 기반 통합 검색 */
+    SEARCH,
+
+    /** 장르별 최신순 목록 */
+    GENRE,
+
+    /** 영화 ID, 영화 Seq 기반 상세 조회 */
+    DETAIL;
+
+    companion object {
+        fun of(parameters: Set<KmdbParameter>): KmdbQueryType {
+            return when {
+                KmdbParameter.MOVIE_ID in parameters -> DETAIL
+                KmdbParameter.QUERY !in parameters && KmdbParameter.GENRE in parameters -> GENRE
+                else -> SEARCH
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package core.application.movies.repositories.movie.kmdb
+
+import core.application.movies.exception.KmdbUnavailableException
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import java.util.function.LongSupplier
+
+/**
+ * KMDB 요청 우선순위
+ */
+enum class KmdbPriority {
+    /** 사용자 요청 (검색, 상세 조회 등) */
+    INTERACTIVE,
+
+    /** 미리 불러오기, 주기적 갱신 등 백그라운드 작업 */
+    BACKGROUND
+}
+
+/**
+ * 하나의 KMDB API 키를 나눠 쓰기 위한 토큰 버킷 기반 요청 제한기
+ *
+ * - 초당 `permitsPerSecond` 개의 토큰이 쌓이며, 최대 `burst` 개까지 보관한다.
+ * - 토큰이 없으면 대기열에서 기다리며, 대기열에서는 [KmdbPriority.INTERACTIVE] 요청이 항상 먼저 처리된다.
+ * - 대기열이 `maxQueue` 만큼 찼거나 예상 대기 시간이 `maxWait` 를 넘으면 바로 실패한다.
+ *
+ * `kmdb.ratelimit` 지표의 `priority`, `result`(granted, queued, rejected) 태그로 우선순위별 처리량을 집계한다.
+ */
+class KmdbRateLimiter(
+    permitsPerSecond: Double,
+    private val burst: Int,
+    private val maxQueue: Int,
+    maxWait: Duration,
+    meterRegistry: MeterRegistry,
+    private val ticker: LongSupplier = LongSupplier { System.nanoTime() },
+    private val scheduler: Scheduler = Schedulers.parallel()
+) {
+    private class Waiter(val priority: KmdbPriority, val enqueuedAt: Long) {
+        val future = CompletableFuture<Void?>()
+    }
+
+    private val nanosPerPermit = (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond).toLong()
+    private val maxWaitNanos = maxWait.toNanos()
+
+    private var tokens = burst.toDouble()
+    private var lastRefill = ticker.asLong
+    private var drainScheduled = false
+
+    private val queues = KmdbPriority.entries.associateWith { ArrayDeque<Waiter>() }
+
+    private val counters = KmdbPriority.entries.associateWith { priority ->
+        listOf("granted", "queued", "rejected").associateWith { result ->
+            Counter.builder("kmdb.ratelimit")
+                .tag("priority", priority.name.lowercase())
+                .tag("result", result)
+                .register(meterRegistry)
+        }
+    }
+
+    private val waitTimers = KmdbPriority.entries.associateWith { priority ->
+        Timer.builder("kmdb.ratelimit.wait")
+            .tag("priority", priority.name.lowercase())
+            .register(meterRegistry)
+    }
+
+    init {
+        KmdbPriority.entries.forEach { priority ->
+            Gauge.builder("kmdb.ratelimit.queue", this) { it.queuedCount(priority).toDouble() }
+                .tag("priority", priority.name.lowercase())
+                .register(meterRegistry)
+        }
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 기다린다.
+     *
+     * @throws KmdbUnavailableException 대기열이 가득 찼거나 제한 시간 안에 토큰을 얻을 수 없을 때
+     */
+    fun acquire(priority: KmdbPriority): Mono<Void> {
+        return Mono.defer {
+            val waiter = Waiter(priority, ticker.asLong)
+            val queued = synchronized(this) { offer(waiter) }
+            if (queued) scheduleDrain()
+            Mono.fromFuture(waiter.future).then()
+        }
+    }
+
+    /**
+     * 대기 없이 토큰을 바로 얻을 수 있을 때만 얻는다.
+     */
+    fun tryAcquire(priority: KmdbPriority): Boolean {
+        val granted = synchronized(this) {
+            refill()
+            if (hasWaitersAhead(priority) || tokens < 1) {
+                false
+            } else {
+                tokens -= 1
+                true
+            }
+        }
+        if (granted) counters[priority]!!["granted"]!!.increment()
+        return granted
+    }
+
+    @Synchronized
+    fun queuedCount(priority: KmdbPriority): Int = queues[priority]!!.size
+
+    /**
+     * @return 대기열에 추가되었으면 `true`, 바로 처리(허용 / 거부)되었으면 `false`
+     */
+    private fun offer(waiter: Waiter): Boolean {
+        val priority = waiter.priority
+        refill()
+        if (!hasWaitersAhead(priority) && tokens >= 1) {
+            tokens -= 1
+            grant(waiter)
+            return false
+        }
+
+        val ahead = waitersAhead(priority)
+        val estimatedWait = ((ahead + 1) - tokens) * nanosPerPermit
+        if (queues.values.sumOf { it.size } >= maxQueue || estimatedWait > maxWaitNanos) {
+            reject(waiter)
+            return false
+        }
+
+        queues[priority]!!.addLast(waiter)
+        counters[priority]!!["queued"]!!.increment()
+        return true
+    }
+
+    private fun drain() {
+        val granted = ArrayList<Waiter>()
+        val expired = ArrayList<Waiter>()
+        synchronized(this) {
+            drainScheduled = false
+            refill()
+            val now = ticker.asLong
+            for (priority in KmdbPriority.entries) {
+                val queue = queues[priority]!!
+                // 취소되었거나 대기 시간을 넘긴 요청은 토큰을 쓰지 않고 제거한다.
+                queue.removeAll { waiter ->
+                    val timedOut = !waiter.future.isDone && now - waiter.enqueuedAt > maxWaitNanos
+                    if (timedOut) expired.add(waiter)
+                    waiter.future.isDone || timedOut
+                }
+            }
+            while (tokens >= 1) {
+                val next = KmdbPriority.entries.firstNotNullOfOrNull { queues[it]!!.removeFirstOrNull() } ?: break
+                tokens -= 1
+                granted.add(next)
+            }
+        }
+        // 대기하던 요청의 후속 작업이 잠금 안에서 실행되지 않도록 잠금 밖에서 완료한다.
+        expired.forEach { reject(it) }
+        granted.forEach { grant(it) }
+        scheduleDrain()
+    }
+
+    private fun scheduleDrain() {
+        val delay = synchronized(this) {
+            if (drainScheduled || queues.values.all { it.isEmpty() }) return
+            drainScheduled = true
+            refill()
+            ((1 - tokens) * nanosPerPermit).toLong().coerceAtLeast(0)
+        }
+        scheduler.schedule({ drain() }, delay, TimeUnit.NANOSECONDS)
+    }
+
+    private fun refill() {
+        val now = ticker.asLong
+        val elapsed = now - lastRefill
+        if (elapsed > 0) {
+            tokens = (tokens + elapsed.toDouble() / nanosPerPermit).coerceAtMost(burst.toDouble())
+            lastRefill = now
+        }
+    }
+
+    private fun hasWaitersAhead(priority: KmdbPriority): Boolean = waitersAhead(priority) > 0
+
+    /**
+     * 같은 우선순위 이상의 대기 요청 수
+     */
+    private fun waitersAhead(priority: KmdbPriority): Int {
+        return KmdbPriority.entries.filter { it.ordinal <= priority.ordinal }.sumOf { queues[it]!!.size }
+    }
+
+    private fun grant(waiter: Waiter) {
+        counters[waiter.priority]!!["granted"]!!.increment()
+        waitTimers[waiter.priority]!!.record(ticker.asLong - waiter.enqueuedAt, TimeUnit.NANOSECONDS)
+        waiter.future.complete(null)
+    }
+
+    private fun reject(waiter: Waiter) {
+        counters[waiter.priority]!!["rejected"]!!.increment()
+        waiter.future.completeExceptionally(KmdbUnavailableException("영화 정보 요청이 많아 잠시 후 다시 시도해주세요."))
+    }
+}
@@ -0,0 +1,62 @@
+package core.application.movies.repositories.movie.kmdb
+
+/**
+ * KMDB 검색 응답 중 서비스에서 사용하는 부분
+ *
+ * @param totalCount 전체 검색 결과 수 (`TotalCount`)
+ * @param movies `Data[0].Result` 의 영화 목록, 응답에 결과 목록이 없으면 `null`
+ * @param hasData 응답에 `Data` 가 있었는지 여부 (정상 응답 여부)
+ */
+data class KmdbResponse(
+    val totalCount: Int = 0,
+    val movies: List<KmdbMovie>? = null,
+    val hasData: Boolean = false
+) {
+    /**
+     * 캐시 용량 계산에 사용하는 대략적인 메모리 크기 (byte)
+     */
+    fun estimatedSize(): Int {
+        return 64 + (movies?.sumOf { it.estimatedSize() } ?: 0)
+    }
+
+    companion object {
+        @JvmField
+        val EMPTY = KmdbResponse()
+    }
+}
+
+/**
+ * KMDB `Result` 항목 하나에서 필요한 값만 추린 영화 정보
+ *
+ * 값이 없는 항목은 빈 문자열로 둔다.
+ */
+data class KmdbMovie(
+    val movieId: String = "",
+    val movieSeq: String = "",
+    /** `!HS`, `!HE` 검색어 강조 표시를 제거한 제목 */
+    val title: String = "",
+    /** 여러 포스터 중 첫 번째 포스터 URL */
+    val posterUrl: String = "",
+    val genre: String = "",
+    val prodYear: String = "",
+    val repRlsDate: String = "",
+    val runtime: String = "",
+    /** 한국어 줄거리 */
+    val plot: String = "",
+    /** 앞에서부터 5명의 배우 이름, `, ` 로 구분 */
+    val actors: String = "",
+    /** 첫 번째 감독 이름 */
+    val director: String = ""
+) {
+    /**
+     * `movieId-movieSeq` 형태의 영화 ID (DOCID)
+     */
+    val docId: String
+        get() = "$movieId-$movieSeq"
+
+    fun estimatedSize(): Int {
+        val chars = movieId.length + movieSeq.length + title.length + posterUrl.length + genre.length +
+                prodYear.length + repRlsDate.length + runtime.length + plot.length + actors.length + director.length
+        return 48 + chars * 2
+    }
+}
@@ -0,0 +1,89 @@
+package core.application.movies.repositories.movie.kmdb
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.Expiry
+import com.github.benmanes.caffeine.cache.stats.CacheStats
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.time.Duration
+
+/**
+ * 변환된 KMDB 응답을 JVM 내부에 보관하는 캐시
+ *
+ * - 빈도 기반(W-TinyLFU) 제거 정책
+ * - 응답 크기 추정치 합계 기준의 메모리 상한 (`kmdb.cache.max-weight`, byte)
+ * - 요청 종류별 TTL (`kmdb.cache.ttl.search`, `kmdb.cache.ttl.genre`, `kmdb.cache.ttl.detail`)
+ * - `kmdb.response` 이름으로 hit / miss / eviction 지표 등록
+ */
+@Component
+class KmdbResponseCache(
+    @Value("\${kmdb.cache.max-weight:33554432}") maxWeight: Long,
+    @Value("\${kmdb.cache.ttl.search:10m}") private val searchTtl: Duration,
+    @Value("\${kmdb.cache.ttl.genre:30m}") private val genreTtl: Duration,
+    @Value("\${kmdb.cache.ttl.detail:6h}") private val detailTtl: Duration,
+    meterRegistry: MeterRegistry
+) {
+    private val cache: Cache<KmdbQueryKey, KmdbResponse> = Caffeine.newBuilder()
+        .maximumWeight(maxWeight)
+        .weigher { key: KmdbQueryKey, response: KmdbResponse -> weightOf(key, response) }
+        .expireAfter(object : Expiry<KmdbQueryKey, KmdbResponse> {
+            override fun expireAfterCreate(key: KmdbQueryKey, response: KmdbResponse, currentTime: Long): Long =
+                ttlOf(key.type).toNanos()
+
+            override fun expireAfterUpdate(
+                key: KmdbQueryKey, response: KmdbResponse, currentTime: Long, currentDuration: Long
+            ): Long = ttlOf(key.type).toNanos()
+
+            override fun expireAfterRead(
+                key: KmdbQueryKey, response: KmdbResponse, currentTime: Long, currentDuration: Long
+            ): Long = currentDuration
+        })
+        .executor(Runnable::run)
+        .recordStats()
+        .build()
+
+    init {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kmdb.response")
+    }
+
+    /**
+     * 캐시된 응답 조회
+     *
+     * @return 캐시된 응답, 없거나 만료되었으면 `null`
+     */
+    fun get(key: KmdbQueryKey): KmdbResponse? = cache.getIfPresent(key)
+
+    /**
+     * 조회 통계에 포함하지 않고 캐시 여부만 확인
+     */
+    fun contains(key: KmdbQueryKey): Boolean = cache.asMap().containsKey(key)
+
+    fun put(key: KmdbQueryKey, response: KmdbResponse) {
+        cache.put(key, response)
+    }
+
+    fun invalidateAll() {
+        cache.invalidateAll()
+    }
+
+    fun stats(): CacheStats = cache.stats()
+
+    fun weightedSize(): Long = cache.policy().eviction().map { it.weightedSize().orElse(0L) }.orElse(0L)
+
+    private fun ttlOf(type: KmdbQueryType): Duration {
+        return when (type) {
+            KmdbQueryType.SEARCH -> searchTtl
+            KmdbQueryType.GENRE -> genreTtl
+            KmdbQueryType.DETAIL -> detailTtl
+        }
+    }
+
+    private fun weightOf(key: KmdbQueryKey, response: KmdbResponse): Int {
+        // Java String 은 문자당 최대 2 byte 를 차지한다.
+        val bytes = key.canonical.length.toLong() * 2 + response.estimatedSize()
+        return bytes.coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+    }
+}
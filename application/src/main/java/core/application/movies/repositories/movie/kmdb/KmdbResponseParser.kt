@@ -0,0 +1,233 @@
+package core.application.movies.repositories.movie.kmdb
+
+import com.fasterxml.jackson.core.JsonFactory
+import com.fasterxml.jackson.core.JsonParser
+import com.fasterxml.jackson.core.JsonToken
+import org.slf4j.LoggerFactory
+import org.springframework.stereotype.Component
+import java.io.IOException
+import java.io.InputStream
+
+/**
+ * KMDB 응답을 트리로 만들지 않고 스트리밍으로 읽어 [KmdbResponse] 로 변환한다.
+ *
+ * 응답 중 `TotalCount` 와 `Data[0].Result[*]` 의 필요한 필드만 읽고, 나머지는 건너뛴다.
+ */
+@Component
+class KmdbResponseParser {
+
+    private val log = LoggerFactory.getLogger(KmdbResponseParser::class.java)
+
+    private val jsonFactory = JsonFactory()
+
+    /**
+     * @param input KMDB 응답 본문, 읽은 뒤 닫는다.
+     * @return 변환 결과, 형식이 잘못된 응답이면 [KmdbResponse.EMPTY]
+     */
+    fun parse(input: InputStream): KmdbResponse {
+        return try {
+            jsonFactory.createParser(input).use { parseRoot(it) }
+        } catch (e: IOException) {
+            log.warn("[KmdbResponseParser.parse] KMDB 응답 형식이 올바르지 않음 : {}", e.message)
+            KmdbResponse.EMPTY
+        }
+    }
+
+    fun parse(body: ByteArray): KmdbResponse = parse(body.inputStream())
+
+    private fun parseRoot(parser: JsonParser): KmdbResponse {
+        if (parser.nextToken() != JsonToken.START_OBJECT) return KmdbResponse.EMPTY
+
+        var totalCount = 0
+        var movies: List<KmdbMovie>? = null
+        var hasData = false
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            val field = parser.currentName()
+            parser.nextToken()
+            when (field) {
+                "TotalCount" -> totalCount = parser.getValueAsInt(0)
+                "Data" -> {
+                    hasData = true
+                    movies = parseData(parser)
+                }
+                else -> parser.skipChildren()
+            }
+        }
+        return KmdbResponse(totalCount, movies, hasData)
+    }
+
+    /**
+     * `Data` 배열 중 첫 번째 컬렉션의 `Result` 만 읽는다.
+     */
+    private fun parseData(parser: JsonParser): List<KmdbMovie>? {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren()
+            return null
+        }
+
+        var movies: List<KmdbMovie>? = null
+        var first = true
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (!first || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren()
+                continue
+            }
+            first = false
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                val field = parser.currentName()
+                parser.nextToken()
+                if (field == "Result" && parser.currentToken() == JsonToken.START_ARRAY) {
+                    movies = parseResult(parser)
+                } else {
+                    parser.skipChildren()
+                }
+            }
+        }
+        return movies
+    }
+
+    private fun parseResult(parser: JsonParser): List<KmdbMovie> {
+        val movies = ArrayList<KmdbMovie>(10)
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                movies.add(parseMovie(parser))
+            } else {
+                parser.skipChildren()
+            }
+        }
+        return movies
+    }
+
+    private fun parseMovie(parser: JsonParser): KmdbMovie {
+        var movieId = ""
+        var movieSeq = ""
+        var title = ""
+        var posterUrl = ""
+        var genre = ""
+        var prodYear = ""
+        var repRlsDate = ""
+        var runtime = ""
+        var plot = ""
+        var actors = ""
+        var director = ""
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            val field = parser.currentName()
+            parser.nextToken()
+            when (field) {
+                "movieId" -> movieId = text(parser)
+                "movieSeq" -> movieSeq = text(parser)
+                "title" -> title = cleanTitle(text(parser))
+                "posters" -> posterUrl = text(parser).substringBefore("|")
+                "genre" -> genre = text(parser)
+                "prodYear" -> prodYear = text(parser)
+                "repRlsDate" -> repRlsDate = text(parser)
+                "runtime" -> runtime = text(parser)
+                "plots" -> plot = parseNested(parser, "plot") { parseKoreanPlot(it) }
+                "actors" -> actors = parseNested(parser, "actor") { parseActors(it) }
+                "directors" -> director = parseNested(parser, "director") { parseFirstDirector(it) }
+                else -> parser.skipChildren()
+            }
+        }
+        return KmdbMovie(
+            movieId, movieSeq, title, posterUrl, genre, prodYear, repRlsDate, runtime, plot, actors, director
+        )
+    }
+
+    /**
+     * `{ "name": [ ... ] }` 형태의 객체에서 배열 하나만 읽는다.
+     */
+    private fun parseNested(parser: JsonParser, arrayName: String, reader: (JsonParser) -> String): String {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren()
+            return ""
+        }
+
+        var result = ""
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            val field = parser.currentName()
+            parser.nextToken()
+            if (field == arrayName && parser.currentToken() == JsonToken.START_ARRAY) {
+                result = reader(parser)
+            } else {
+                parser.skipChildren()
+            }
+        }
+        return result
+    }
+
+    private fun parseKoreanPlot(parser: JsonParser): String {
+        var plot = ""
+        forEachObject(parser, PLOT_FIELDS) { fields ->
+            if (plot.isEmpty() && fields["plotLang"] == "한국어") {
+                plot = fields["plotText"] ?: ""
+            }
+        }
+        return plot
+    }
+
+    private fun parseActors(parser: JsonParser): String {
+        val actors = ArrayList<String>(MAX_ACTORS)
+        forEachObject(parser, ACTOR_FIELDS) { fields ->
+            if (actors.size < MAX_ACTORS) {
+                actors.add(fields["actorNm"] ?: "")
+            }
+        }
+        return actors.joinToString(", ")
+    }
+
+    private fun parseFirstDirector(parser: JsonParser): String {
+        var director: String? = null
+        forEachObject(parser, DIRECTOR_FIELDS) { fields ->
+            if (director == null) {
+                director = fields["directorNm"] ?: ""
+            }
+        }
+        return director ?: ""
+    }
+
+    /**
+     * 배열의 각 객체에서 `wanted` 에 해당하는 값 필드만 모아 전달한다.
+     */
+    private fun forEachObject(parser: JsonParser, wanted: Set<String>, consumer: (Map<String, String>) -> Unit) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren()
+                continue
+            }
+            val fields = HashMap<String, String>(4)
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                val field = parser.currentName()
+                parser.nextToken()
+                if (field in wanted && parser.currentToken().isScalarValue) {
+                    fields[field] = text(parser)
+                } else {
+                    parser.skipChildren()
+                }
+            }
+            consumer(fields)
+        }
+    }
+
+    private fun text(parser: JsonParser): String {
+        if (!parser.currentToken().isScalarValue) {
+            parser.skipChildren()
+            return ""
+        }
+        return parser.getValueAsString("")
+    }
+
+    private fun cleanTitle(title: String): String {
+        return title.replace("!HS", "")
+            .replace("!HE", "")
+            .trim()
+    }
+
+    companion object {
+        private const val MAX_ACTORS = 5
+        private val PLOT_FIELDS = setOf("plotLang", "plotText")
+        private val ACTOR_FIELDS = setOf("actorNm")
+        private val DIRECTOR_FIELDS = setOf("directorNm")
+    }
+}
@@ -0,0 +1,52 @@
+package core.application.movies.repositories.movie.kmdb
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.time.Duration
+
+/**
+ * 마지막으로 성공한 검색 / 장르 응답 보관소
+ *
+ * [KmdbResponseCache] 보다 오래 보관하며, KMDB 가 응답하지 않거나 느릴 때 대신 제공한다.
+ * 상세 조회 응답은 DB 에 저장되므로 보관하지 않는다.
+ *
+ * - 응답 크기 추정치 합계 기준의 메모리 상한 (`kmdb.stale.max-weight`, byte)
+ * - 보관 기간 (`kmdb.stale.ttl`)
+ */
+@Component
+class KmdbStaleResponseStore(
+    @Value("\${kmdb.stale.max-weight:16777216}") maxWeight: Long,
+    @Value("\${kmdb.stale.ttl:24h}") ttl: Duration,
+    meterRegistry: MeterRegistry
+) {
+    private val cache: Cache<KmdbQueryKey, KmdbResponse> = Caffeine.newBuilder()
+        .maximumWeight(maxWeight)
+        .weigher { key: KmdbQueryKey, response: KmdbResponse ->
+            (key.canonical.length.toLong() * 2 + response.estimatedSize()).coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+        }
+        .expireAfterWrite(ttl)
+        .executor(Runnable::run)
+        .recordStats()
+        .build()
+
+    init {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kmdb.stale")
+    }
+
+    fun get(key: KmdbQueryKey): KmdbResponse? {
+        if (!supports(key)) return null
+        return cache.getIfPresent(key)
+    }
+
+    fun put(key: KmdbQueryKey, response: KmdbResponse) {
+        if (supports(key)) {
+            cache.put(key, response)
+        }
+    }
+
+    fun supports(key: KmdbQueryKey): Boolean = key.type != KmdbQueryType.DETAIL
+}
@@ -1,8 +1,13 @@
 package core.application.movies.repositories.movie.mybatis
 
 import core.application.movies.models.entities.CachedMovieEntity
+import core.application.movies.models.entities.MovieGenreEntity
 import core.application.movies.repositories.mapper.CachedMovieMapper
 import core.application.movies.repositories.movie.CachedMovieRepository
+import core.application.movies.repositories.movie.MovieCounterDelta
+import core.application.movies.repositories.movie.MovieCounters
+import core.application.movies.repositories.movie.ranking.MovieRanking
+import core.application.movies.repositories.movie.ranking.MovieRankingStore
 import org.springframework.context.annotation.Profile
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageImpl
@@ -10,29 +15,81 @@ import org.springframework.data.domain.PageRequest
 import org.springframework.data.domain.Pageable
 import org.springframework.stereotype.Repository
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.transaction.annotation.Transactional
 import java.util.*
 
 @Repository
 @Profile("mybatis")
 class MybatisCachedMovieRepository @Autowired constructor(
-    private val mapper: CachedMovieMapper
+    private val mapper: CachedMovieMapper,
+    private val rankingStore: MovieRankingStore
 ) : CachedMovieRepository {
 
+    @Transactional
     override fun saveNewMovie(movie: CachedMovieEntity?): CachedMovieEntity? {
         mapper.save(movie)
+        movie?.let {
+            saveGenreMappings(MovieGenreEntity.of(it))
+            rankingStore.update(it)
+        }
         return movie
     }
 
+    @Transactional
+    override fun saveNewMovies(movies: List<CachedMovieEntity>): Int {
+        if (movies.isEmpty()) return 0
+        val existing = findExistingMovieIds(movies.mapNotNull { it.movieId })
+        val newMovies = movies.filter { it.movieId !in existing }
+        if (newMovies.isEmpty()) return 0
+        // 확인 이후 다른 요청이 먼저 등록한 영화는 SQL 에서 건너뛴다.
+        mapper.saveAllIgnoreDuplicate(newMovies)
+        saveGenreMappings(newMovies.flatMap { MovieGenreEntity.of(it) })
+        newMovies.forEach { rankingStore.update(it) }
+        return newMovies.size
+    }
+
+    override fun saveGenres(movies: List<CachedMovieEntity>) {
+        saveGenreMappings(movies.flatMap { MovieGenreEntity.of(it) })
+    }
+
+    private fun saveGenreMappings(genres: List<MovieGenreEntity>) {
+        if (genres.isNotEmpty()) {
+            mapper.saveGenresIgnoreDuplicate(genres)
+        }
+    }
+
     override fun findByMovieId(movieId: String?): Optional<CachedMovieEntity?>? {
         return mapper.findByMovieId(movieId)
     }
 
+    override fun findExistingMovieIds(movieIds: Collection<String>): Set<String> {
+        if (movieIds.isEmpty()) return emptySet()
+        return mapper.selectExistingMovieIds(movieIds).toSet()
+    }
+
+    override fun findAllByMovieIds(movieIds: Collection<String>): List<CachedMovieEntity> {
+        if (movieIds.isEmpty()) return emptyList()
+        return mapper.selectByMovieIds(movieIds)
+    }
+
+    override fun findMoviesAfterMovieId(movieId: String?, num: Int): List<CachedMovieEntity> {
+        return mapper.selectMoviesAfterMovieId(movieId, num)
+    }
+
+    override fun findCountersAfterMovieId(movieId: String?, num: Int): List<MovieCounters> {
+        return mapper.selectCountersAfterMovieId(movieId, num)
+    }
+
+    override fun countCountersBetween(fromMovieId: String, toMovieId: String): List<MovieCounters> {
+        return mapper.countCountersBetween(fromMovieId, toMovieId)
+    }
+
     override fun selectOnDibOrderDescend(): List<CachedMovieEntity?>? {
         return mapper.selectOnDibOrderDescend()
     }
 
     override fun selectOnDibOrderDescend(num: Int): List<CachedMovieEntity?>? {
-        return mapper.selectOnDibOrderDescendLimit(num)
+        return rankingStore.top(MovieRanking.DIB, num, ::findAllByMovieIds) { mapper.selectOnDibOrderDescendLimit(num) }
     }
 
     override fun selectOnAVGRatingDescend(): List<CachedMovieEntity?>? {
@@ -40,11 +97,11 @@ class MybatisCachedMovieRepository @Autowired constructor(
     }
 
     override fun selectOnAVGRatingDescend(num: Int): List<CachedMovieEntity?>? {
-        return mapper.selectOnAVGRatingDescendLimit(num)
+        return rankingStore.top(MovieRanking.RATING, num, ::findAllByMovieIds) { mapper.selectOnAVGRatingDescendLimit(num) }
     }
 
     override fun selectOnReviewCountDescend(num: Int): List<CachedMovieEntity?>? {
-        return mapper.selectOnReviewCountDescend(num)
+        return rankingStore.top(MovieRanking.REVIEW, num, ::findAllByMovieIds) { mapper.selectOnReviewCountDescend(num) }
     }
 
     override fun findMoviesLikeGenreOrderByAvgRating(page: Int?, genre: String?): Page<CachedMovieEntity?>? {
@@ -55,12 +112,46 @@ class MybatisCachedMovieRepository @Autowired constructor(
         return PageImpl(find, pageable, total.toLong())
     }
 
+    override fun addDibCount(movieId: String, delta: Long): Int {
+        val updated = mapper.addDibCount(movieId, delta)
+        if (updated > 0) {
+            rankingStore.incrementScore(MovieRanking.DIB, movieId, delta.toDouble())
+        }
+        return updated
+    }
+
+    override fun addCommentRating(movieId: String, count: Long, rating: Long): Int {
+        val updated = mapper.addCommentRating(movieId, count, rating)
+        if (updated > 0) {
+            rankingStore.addRating(movieId, count, rating)
+        }
+        return updated
+    }
+
+    @Transactional
+    override fun addCounters(deltas: List<MovieCounterDelta>): Int {
+        if (deltas.isEmpty()) return 0
+        val updated = mapper.addCounters(deltas)
+        findAllByMovieIds(deltas.map { it.movieId }).forEach { rankingStore.update(it) }
+        return updated
+    }
+
+    override fun repairCounters(expected: MovieCounters, actual: MovieCounters): Int {
+        val updated = mapper.repairCounters(expected, actual)
+        if (updated > 0) {
+            rankingStore.refresh(actual.movieId) { mapper.findByMovieId(actual.movieId)?.orElse(null) }
+        }
+        return updated
+    }
+
     override fun editMovie(movieId: String?, replacement: CachedMovieEntity?): CachedMovieEntity? {
         mapper.update(movieId, replacement)
+        replacement?.let { rankingStore.update(it) }
         return replacement
     }
 
     override fun deleteMovie(movieId: String?) {
         mapper.delete(movieId)
+        movieId?.let { rankingStore.remove(it) }
     }
 }
@@ -0,0 +1,34 @@
+package core.application.movies.repositories.movie.ranking
+
+import core.application.movies.models.entities.CachedMovieEntity
+
+/**
+ * 메인 페이지 영화 순위 종류와 Redis sorted set 키
+ *
+ * @param key 순위를 저장하는 sorted set 키, 여러 키를 한 스크립트에서 다루므로 같은 hash tag 를 사용한다.
+ */
+enum class MovieRanking(val key: String) {
+    /** 찜 많은 순 */
+    DIB("{movie:ranking}:dib") {
+        override fun score(movie: CachedMovieEntity): Double = movie.dibCount.toDouble()
+    },
+
+    /** 평점 높은 순, DB 의 `avg_rating` 과 같다. */
+    RATING("{movie:ranking}:rating") {
+        override fun score(movie: CachedMovieEntity): Double {
+            return CachedMovieEntity.averageRating(movie.sumOfRating, movie.commentCount) ?: NO_RATING
+        }
+    },
+
+    /** 리뷰 많은 순 */
+    REVIEW("{movie:ranking}:review") {
+        override fun score(movie: CachedMovieEntity): Double = movie.reviewCount.toDouble()
+    };
+
+    abstract fun score(movie: CachedMovieEntity): Double
+
+    companion object {
+        /** 한줄평이 없는 영화의 평점 점수, 평점 순위의 가장 뒤로 보낸다. */
+        const val NO_RATING = -1.0
+    }
+}
@@ -0,0 +1,335 @@
+package core.application.movies.repositories.movie.ranking
+
+import core.application.movies.models.entities.CachedMovieEntity
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ZSetOperations
+import org.springframework.data.redis.core.script.RedisScript
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.util.*
+
+/**
+ * 메인 페이지 영화 순위를 Redis sorted set 으로 관리한다.
+ *
+ * 여러 애플리케이션 서버가 같은 순위를 보도록 [MovieRanking] 별 sorted set 에 영화 ID 와 점수를 저장한다.
+ *
+ * - 영화 정보가 바뀌면 트랜잭션 커밋 이후 세 순위의 점수를 하나의 스크립트로 함께 갱신한다.
+ * - 찜 수처럼 변경량만 아는 경우 커밋 이후 점수에 변경량을 더한다.
+ * - 평점 순위를 위해 영화별 한줄평 수와 평점 합을 hash ([RATING_STATS_KEY]) 에 함께 두고,
+ *   한줄평 변경 시 영화를 다시 읽지 않고 스크립트 안에서 평균 평점을 계산한다.
+ * - 아직 구성되지 않은 순위는 갱신하지 않으며, 조회 시 DB 로 대신한다.
+ * - Redis 오류는 조회, 갱신을 실패시키지 않는다. 어긋난 점수는 [rebuild] 로 다시 맞춘다.
+ */
+@Component
+class MovieRankingStore(
+    private val redisTemplate: StringRedisTemplate,
+    @Value("\${movie.ranking.redis.enabled:true}") private val enabled: Boolean,
+    meterRegistry: MeterRegistry
+) {
+    private val log = LoggerFactory.getLogger(MovieRankingStore::class.java)
+
+    private val keys = MovieRanking.entries.map { it.key }
+
+    // 순위 키와 평점 통계 키
+    private val allKeys = keys + RATING_STATS_KEY
+
+    private val redisReadCounter = readCounter(meterRegistry, "redis")
+    private val dbReadCounter = readCounter(meterRegistry, "db")
+
+    private val errorCounter = Counter.builder("movie.ranking.redis.error")
+        .register(meterRegistry)
+
+    /**
+     * 순위 상위 `num` 개 영화
+     *
+     * @param loadByIds 영화 ID 목록으로 영화 정보 조회
+     * @param fallback 순위가 구성되지 않았거나 Redis 를 사용할 수 없을 때 DB 조회
+     */
+    fun top(
+        ranking: MovieRanking,
+        num: Int,
+        loadByIds: (List<String>) -> List<CachedMovieEntity>,
+        fallback: () -> List<CachedMovieEntity?>?
+    ): List<CachedMovieEntity?>? {
+        val movieIds = topMovieIds(ranking, num)
+        if (movieIds.isNullOrEmpty()) {
+            dbReadCounter.increment()
+            return fallback()
+        }
+
+        redisReadCounter.increment()
+        val movies = loadByIds(movieIds).associateBy { it.movieId }
+        return movieIds.mapNotNull { movies[it] }
+    }
+
+    private fun topMovieIds(ranking: MovieRanking, num: Int): List<String>? {
+        if (!enabled) return null
+        return try {
+            redisTemplate.opsForZSet().reverseRange(ranking.key, 0, num - 1L)?.toList()
+        } catch (e: Exception) {
+            onError("top", e)
+            null
+        }
+    }
+
+    /**
+     * 모든 순위와 평점 통계가 구성되어 있는지 여부, Redis 를 사용할 수 없으면 `true`
+     */
+    fun isBuilt(): Boolean {
+        if (!enabled) return true
+        return try {
+            allKeys.all { redisTemplate.hasKey(it) }
+        } catch (e: Exception) {
+            onError("isBuilt", e)
+            true
+        }
+    }
+
+    /**
+     * 영화의 세 순위 점수를 커밋 이후 함께 갱신한다.
+     */
+    fun update(movie: CachedMovieEntity) {
+        movie.movieId ?: return
+        val args = updateArgs(movie)
+        afterCommit("update") {
+            redisTemplate.execute(UPDATE_SCRIPT, allKeys, *args)
+        }
+    }
+
+    /**
+     * 커밋 이후 순위 점수에 `delta` 를 더한다.
+     */
+    fun incrementScore(ranking: MovieRanking, movieId: String, delta: Double) {
+        afterCommit("incrementScore") {
+            redisTemplate.execute(INCREMENT_SCRIPT, listOf(ranking.key), movieId, delta.toString())
+        }
+    }
+
+    /**
+     * 커밋 이후 영화의 한줄평 수와 평점 합에 변경량을 더하고 평점 순위 점수를 다시 계산한다.
+     * <br>
+     * 평점 통계가 없는 영화는 갱신하지 않으며, 다음 [update] 또는 [rebuild] 때 맞춰진다.
+     */
+    fun addRating(movieId: String, count: Long, rating: Long) {
+        afterCommit("addRating") {
+            redisTemplate.execute(
+                RATING_SCRIPT, listOf(MovieRanking.RATING.key, RATING_STATS_KEY),
+                movieId, count.toString(), rating.toString(), MovieRanking.NO_RATING.toString()
+            )
+        }
+    }
+
+    /**
+     * 커밋 이후 영화 정보를 다시 읽어 세 순위의 점수를 갱신한다.
+     * <br>
+     * 평균 평점처럼 변경량만으로 점수를 알 수 없을 때 사용한다.
+     *
+     * @param loader 영화 정보 조회, 영화가 없으면 `null`
+     */
+    fun refresh(movieId: String, loader: () -> CachedMovieEntity?) {
+        afterCommit("refresh") {
+            val movie = loader()
+            if (movie == null) {
+                redisTemplate.execute(REMOVE_SCRIPT, allKeys, movieId)
+            } else {
+                redisTemplate.execute(UPDATE_SCRIPT, allKeys, *updateArgs(movie))
+            }
+        }
+    }
+
+    /**
+     * 영화를 모든 순위에서 커밋 이후 제거한다.
+     */
+    fun remove(movieId: String) {
+        afterCommit("remove") {
+            redisTemplate.execute(REMOVE_SCRIPT, allKeys, movieId)
+        }
+    }
+
+    /**
+     * 모든 순위를 새로 구성한다.
+     *
+     * 임시 키에 나눠 채운 뒤 한 번에 교체하므로, 구성하는 동안에도 이전 순위를 조회할 수 있다.
+     * 구성 도중 [update] 된 점수는 교체 시 덮어쓰일 수 있다.
+     *
+     * @param chunks 나눠 읽은 영화 목록
+     * @return 순위에 넣은 영화 수
+     */
+    fun rebuild(chunks: Iterator<List<CachedMovieEntity>>): Int {
+        check(enabled) { "Redis 영화 순위를 사용하지 않도록 설정되어 있습니다." }
+
+        val suffix = ":rebuild:" + UUID.randomUUID()
+        val tempKeys = allKeys.map { it + suffix }
+        var total = 0
+        try {
+            for (chunk in chunks) {
+                if (chunk.isEmpty()) continue
+                MovieRanking.entries.forEachIndexed { i, ranking ->
+                    val tuples = chunk.filter { it.movieId != null }
+                        .mapTo(HashSet()) { ZSetOperations.TypedTuple.of(it.movieId!!, ranking.score(it)) }
+                    redisTemplate.opsForZSet().add(tempKeys[i], tuples)
+                }
+                redisTemplate.opsForHash<String, String>().putAll(tempKeys.last(), ratingStats(chunk))
+                total += chunk.size
+            }
+            redisTemplate.execute(REPLACE_SCRIPT, allKeys + tempKeys)
+        } catch (e: Exception) {
+            redisTemplate.delete(tempKeys)
+            throw e
+        }
+        log.info("[MovieRankingStore.rebuild] 영화 순위 {}개 영화로 재구성", total)
+        return total
+    }
+
+    /**
+     * 영화 ID, 순위별 점수, 한줄평 수, 평점 합
+     */
+    private fun updateArgs(movie: CachedMovieEntity): Array<String> {
+        return (listOf(movie.movieId!!) + MovieRanking.entries.map { it.score(movie).toString() } +
+                movie.commentCount.toString() + movie.sumOfRating.toString()).toTypedArray()
+    }
+
+    private fun ratingStats(movies: List<CachedMovieEntity>): Map<String, String> {
+        return movies.filter { it.movieId != null }.flatMap {
+            listOf(it.movieId + COUNT_SUFFIX to it.commentCount.toString(), it.movieId + SUM_SUFFIX to it.sumOfRating.toString())
+        }.toMap()
+    }
+
+    private fun afterCommit(operation: String, action: () -> Unit) {
+        if (!enabled) return
+        val guarded = {
+            try {
+                action()
+            } catch (e: Exception) {
+                onError(operation, e)
+            }
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+                override fun afterCommit() = guarded()
+            })
+        } else {
+            guarded()
+        }
+    }
+
+    private fun onError(operation: String, e: Exception) {
+        errorCounter.increment()
+        log.warn("[MovieRankingStore.{}] Redis 영화 순위 처리 실패 : {}", operation, e.message)
+    }
+
+    private fun readCounter(meterRegistry: MeterRegistry, source: String): Counter {
+        return Counter.builder("movie.ranking.read")
+            .tag("source", source)
+            .register(meterRegistry)
+    }
+
+    companion object {
+        /**
+         * 영화별 한줄평 수 (`<영화 ID>:count`) 와 평점 합 (`<영화 ID>:sum`) 을 저장하는 hash 키
+         */
+        const val RATING_STATS_KEY = "{movie:ranking}:rating-stats"
+
+        private const val COUNT_SUFFIX = ":count"
+        private const val SUM_SUFFIX = ":sum"
+
+        /**
+         * KEYS : 순위 키 n 개, 평점 통계 키, ARGV : 영화 ID, 순위별 점수 n 개, 한줄평 수, 평점 합
+         * <br>
+         * 구성된 순위와 평점 통계만 갱신한다.
+         */
+        private val UPDATE_SCRIPT = RedisScript.of<Long>(
+            """
+            local n = #KEYS - 1
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('ZADD', KEYS[i], ARGV[i + 1], ARGV[1])
+                end
+            end
+            if redis.call('EXISTS', KEYS[n + 1]) == 1 then
+                redis.call('HSET', KEYS[n + 1], ARGV[1] .. ':count', ARGV[n + 2], ARGV[1] .. ':sum', ARGV[n + 3])
+            end
+            return 0
+            """.trimIndent(), Long::class.java
+        )
+
+        /**
+         * KEYS : 평점 순위 키, 평점 통계 키, ARGV : 영화 ID, 한줄평 수 변경량, 평점 변경량, 한줄평이 없을 때의 점수
+         * <br>
+         * 영화가 순위에 있고 평점 통계가 있을 때만 더하며, DB 와 같이 한줄평 수는 0 보다 작아지지 않고
+         * 평균 평점은 소수 첫째 자리까지 반올림한다.
+         */
+        private val RATING_SCRIPT = RedisScript.of<Long>(
+            """
+            local countField = ARGV[1] .. ':count'
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) and redis.call('HEXISTS', KEYS[2], countField) == 1 then
+                local count = redis.call('HINCRBY', KEYS[2], countField, ARGV[2])
+                if count < 0 then
+                    count = 0
+                    redis.call('HSET', KEYS[2], countField, 0)
+                end
+                local sum = redis.call('HINCRBY', KEYS[2], ARGV[1] .. ':sum', ARGV[3])
+                local score = ARGV[4]
+                if count > 0 then
+                    score = tostring(math.floor(sum / count * 10 + 0.5) / 10)
+                end
+                redis.call('ZADD', KEYS[1], score, ARGV[1])
+            end
+            return 0
+            """.trimIndent(), Long::class.java
+        )
+
+        /**
+         * KEYS : 순위 키, ARGV : 영화 ID, 변경량
+         * <br>
+         * 순위가 구성되어 있고 영화가 순위에 있을 때만 더하며, DB 와 같이 0 보다 작아지지 않는다.
+         */
+        private val INCREMENT_SCRIPT = RedisScript.of<Long>(
+            """
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                local score = tonumber(redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]))
+                if score < 0 then
+                    redis.call('ZADD', KEYS[1], 0, ARGV[1])
+                end
+            end
+            return 0
+            """.trimIndent(), Long::class.java
+        )
+
+        /** KEYS : 순위 키 n 개, 평점 통계 키, ARGV : 영화 ID */
+        private val REMOVE_SCRIPT = RedisScript.of<Long>(
+            """
+            local n = #KEYS - 1
+            for i = 1, n do
+                redis.call('ZREM', KEYS[i], ARGV[1])
+            end
+            redis.call('HDEL', KEYS[n + 1], ARGV[1] .. ':count', ARGV[1] .. ':sum')
+            return 0
+            """.trimIndent(), Long::class.java
+        )
+
+        /**
+         * KEYS : 순위 / 평점 통계 키 n 개, 임시 키 n 개
+         * <br>
+         * 임시 키가 없으면 (영화가 없으면) 순위 키를 삭제한다.
+         */
+        private val REPLACE_SCRIPT = RedisScript.of<Long>(
+            """
+            local n = #KEYS / 2
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[n + i]) == 1 then
+                    redis.call('RENAME', KEYS[n + i], KEYS[i])
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            return 0
+            """.trimIndent(), Long::class.java
+        )
+    }
+}
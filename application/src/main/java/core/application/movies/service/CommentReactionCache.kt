@@ -0,0 +1,211 @@
+package core.application.movies.service
+
+import core.application.movies.models.dto.response.CommentRespDTO
+import core.application.movies.models.events.CommentReaction
+import core.application.movies.models.events.CommentReactionChangedEvent
+import core.application.movies.repositories.comment.CommentDislikeRepository
+import core.application.movies.repositories.comment.CommentLikeRepository
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.Slice
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.script.RedisScript
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.Duration
+import java.util.*
+
+/**
+ * 사용자가 한줄평에 좋아요 / 싫어요를 눌렀는지 보관하는 캐시
+ *
+ * 한줄평 목록은 반응 테이블과 조인하지 않고 조회한 뒤, 이 캐시로 [CommentRespDTO.isLiked] / [CommentRespDTO.isDisliked] 를 채운다.
+ *
+ * 모든 서버가 같은 값을 보도록 사용자별 반응을 Redis hash (`{comment:reaction}:<사용자 ID>`) 에 보관한다.
+ * - 한줄평마다 좋아요 / 싫어요 여부를 반응이 없는 경우까지 보관하므로, 한 번 확인한 한줄평은 다시 조회하지 않는다.
+ * - 보관되지 않은 한줄평은 반응 테이블마다 한 번의 `IN` 조회로 불러와, 아직 보관되지 않은 경우에만 보관한다.
+ * - 반응이 바뀌면 커밋 이후 [CommentReactionChangedEvent] 의 값으로 덮어쓴다.
+ *   그래서 반응 변경 전에 읽은 값이 변경 이후의 값을 덮어쓰지 않는다.
+ * - 사용자의 반응은 마지막으로 보관한 뒤 `comment.reaction-cache.ttl` 동안 쓰이지 않으면 제거된다.
+ * - Redis 오류는 조회를 실패시키지 않으며, 반응 테이블에서 불러온 값을 그대로 사용한다.
+ */
+@Component
+class CommentReactionCache(
+    private val likeRepository: CommentLikeRepository,
+    private val dislikeRepository: CommentDislikeRepository,
+    private val redisTemplate: StringRedisTemplate,
+    @Value("\${comment.reaction-cache.ttl:30m}") ttl: Duration,
+    meterRegistry: MeterRegistry
+) {
+    private val log = LoggerFactory.getLogger(CommentReactionCache::class.java)
+
+    private val ttlMillis = ttl.toMillis().toString()
+
+    private val hitCounter = counter(meterRegistry, "hit")
+    private val missCounter = counter(meterRegistry, "miss")
+
+    private val errorCounter = Counter.builder("comment.reaction.cache.error")
+        .register(meterRegistry)
+
+    /**
+     * 사용자의 좋아요 / 싫어요 여부를 채운 한줄평 목록, 로그인하지 않은 사용자면 그대로 반환한다.
+     */
+    fun decorate(userId: UUID?, page: Page<CommentRespDTO?>?): Page<CommentRespDTO?>? {
+        if (userId == null || page == null || page.isEmpty) return page
+        val reactions = reactionsOf(userId, page.content)
+        return page.map { it?.let(reactions) }
+    }
+
+    /**
+     * @see decorate
+     */
+    fun decorate(userId: UUID?, slice: Slice<CommentRespDTO?>): Slice<CommentRespDTO?> {
+        if (userId == null || slice.isEmpty) return slice
+        val reactions = reactionsOf(userId, slice.content)
+        return slice.map { it?.let(reactions) }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    fun onReactionChanged(event: CommentReactionChangedEvent) {
+        val field = field(event.reaction, event.commentId)
+        try {
+            redisTemplate.execute(SAVE_SCRIPT, listOf(key(event.userId)), field, value(event.active), ttlMillis)
+        } catch (e: Exception) {
+            // 바뀌기 전 값이 남지 않도록 사용자의 반응을 모두 제거한다.
+            onError("onReactionChanged", e)
+            evictQuietly(event.userId)
+        }
+    }
+
+    private fun reactionsOf(userId: UUID, comments: List<CommentRespDTO?>): (CommentRespDTO) -> CommentRespDTO {
+        val commentIds = comments.mapNotNull { it?.commentId }.distinct()
+        val fields = commentIds.map { field(CommentReaction.LIKE, it) } +
+                commentIds.map { field(CommentReaction.DISLIKE, it) }
+        val cached = cached(userId, fields)
+
+        val likedIds = HashSet<Long>()
+        val dislikedIds = HashSet<Long>()
+        val missingLikes = ArrayList<Long>()
+        val missingDislikes = ArrayList<Long>()
+        commentIds.forEachIndexed { i, commentId ->
+            when (cached[i]) {
+                null -> missingLikes.add(commentId)
+                TRUE -> likedIds.add(commentId)
+            }
+            when (cached[commentIds.size + i]) {
+                null -> missingDislikes.add(commentId)
+                TRUE -> dislikedIds.add(commentId)
+            }
+        }
+        hitCounter.increment((fields.size - missingLikes.size - missingDislikes.size).toDouble())
+        missCounter.increment((missingLikes.size + missingDislikes.size).toDouble())
+
+        if (missingLikes.isNotEmpty() || missingDislikes.isNotEmpty()) {
+            val loaded = ArrayList<String>()
+            load(CommentReaction.LIKE, missingLikes, likedIds, loaded) { likeRepository.findLikedCommentIds(userId, it) }
+            load(CommentReaction.DISLIKE, missingDislikes, dislikedIds, loaded) {
+                dislikeRepository.findDislikedCommentIds(userId, it)
+            }
+            saveIfAbsent(userId, loaded)
+        }
+        return { it.copy(isLiked = it.commentId in likedIds, isDisliked = it.commentId in dislikedIds) }
+    }
+
+    /**
+     * [missing] 한줄평의 반응을 불러와 [active] 에 더하고, 보관할 `field, value` 를 [loaded] 에 더한다.
+     */
+    private fun load(
+        reaction: CommentReaction,
+        missing: List<Long>,
+        active: MutableSet<Long>,
+        loaded: MutableList<String>,
+        find: (List<Long>) -> List<Long>
+    ) {
+        if (missing.isEmpty()) return
+        val found = find(missing).toHashSet()
+        for (commentId in missing) {
+            val reacted = commentId in found
+            if (reacted) active.add(commentId)
+            loaded.add(field(reaction, commentId))
+            loaded.add(value(reacted))
+        }
+    }
+
+    /**
+     * @return [fields] 순서대로 보관된 값, 보관되지 않았거나 Redis 를 사용할 수 없으면 `null`
+     */
+    private fun cached(userId: UUID, fields: List<String>): List<String?> {
+        return try {
+            redisTemplate.opsForHash<String, String>().multiGet(key(userId), fields)
+        } catch (e: Exception) {
+            onError("decorate", e)
+            fields.map { null }
+        }
+    }
+
+    private fun saveIfAbsent(userId: UUID, loaded: List<String>) {
+        try {
+            redisTemplate.execute(SAVE_IF_ABSENT_SCRIPT, listOf(key(userId)), *loaded.toTypedArray(), ttlMillis)
+        } catch (e: Exception) {
+            onError("decorate", e)
+        }
+    }
+
+    private fun evictQuietly(userId: UUID) {
+        try {
+            redisTemplate.delete(key(userId))
+        } catch (e: Exception) {
+            onError("evict", e)
+        }
+    }
+
+    private fun onError(operation: String, e: Exception) {
+        errorCounter.increment()
+        log.warn("[CommentReactionCache.{}] Redis 한줄평 반응 처리 실패 : {}", operation, e.message)
+    }
+
+    private fun counter(meterRegistry: MeterRegistry, result: String): Counter {
+        return Counter.builder("comment.reaction.cache")
+            .tag("result", result)
+            .register(meterRegistry)
+    }
+
+    companion object {
+        private const val TRUE = "1"
+        private const val FALSE = "0"
+
+        private fun key(userId: UUID) = "{comment:reaction}:$userId"
+
+        private fun field(reaction: CommentReaction, commentId: Long): String {
+            return (if (reaction == CommentReaction.LIKE) "like:" else "dislike:") + commentId
+        }
+
+        private fun value(active: Boolean) = if (active) TRUE else FALSE
+
+        /** KEYS : 사용자 키, ARGV : field, value, TTL (ms) */
+        private val SAVE_SCRIPT = RedisScript.of<Long>(
+            """
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 0
+            """.trimIndent(), Long::class.java
+        )
+
+        /**
+         * KEYS : 사용자 키, ARGV : field, value 쌍들, TTL (ms)
+         * <br>
+         * 이미 보관된 field 는 덮어쓰지 않는다.
+         */
+        private val SAVE_IF_ABSENT_SCRIPT = RedisScript.of<Long>(
+            """
+            for i = 1, #ARGV - 1, 2 do
+                redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[#ARGV])
+            return 0
+            """.trimIndent(), Long::class.java
+        )
+    }
+}
@@ -6,35 +6,61 @@ import core.application.movies.models.dto.request.CommentWriteReqDTO
 import core.application.movies.models.dto.response.CommentRespDTO
 import core.application.movies.models.dto.response.CommentRespDTO.Companion.of
 import core.application.movies.models.entities.CommentEntity.Companion.of
+import core.application.movies.models.events.CommentReaction
+import core.application.movies.models.events.CommentReactionChangedEvent
 import core.application.movies.repositories.comment.CommentDislikeRepository
 import core.application.movies.repositories.comment.CommentLikeRepository
 import core.application.movies.repositories.comment.CommentRepository
 import core.application.movies.repositories.movie.CachedMovieRepository
 import core.application.users.models.entities.UserEntity
+import core.application.users.service.UserAliasService
 import java.util.UUID
 import org.slf4j.LoggerFactory
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.data.domain.Page
+import org.springframework.data.domain.Slice
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import java.util.function.Supplier
 
 @Service
 class CommentService(
-    private val movieRepository: CachedMovieRepository,
     private val commentRepository: CommentRepository,
+    private val movieRepository: CachedMovieRepository,
     private val likeRepository: CommentLikeRepository,
-    private val dislikeRepository: CommentDislikeRepository
+    private val dislikeRepository: CommentDislikeRepository,
+    private val counterBuffer: MovieCounterBuffer,
+    private val reactionCache: CommentReactionCache,
+    private val userAliasService: UserAliasService,
+    private val eventPublisher: ApplicationEventPublisher
 ) {
 
     private val log = LoggerFactory.getLogger(CommentService::class.java)
 
+    /**
+     * 한줄평 조회, 작성자 닉네임은 [UserAliasService] 로, 사용자의 좋아요 / 싫어요 여부는 [CommentReactionCache] 로 채운다.
+     */
     @Transactional(readOnly = true)
     fun getComments(movieId: String?, page: Int, sort: CommentSort, userId: UUID?): Page<CommentRespDTO?>? {
-        return when (sort) {
-            CommentSort.LIKE -> commentRepository.findByMovieIdOnLikeDescend(movieId, userId, page)
-            CommentSort.LATEST -> commentRepository.findByMovieIdOnDateDescend(movieId, userId, page)
-            else -> commentRepository.findByMovieIdOnDislikeDescend(movieId, userId, page)
+        val comments = when (sort) {
+            CommentSort.LIKE -> commentRepository.findByMovieIdOnLikeDescend(movieId, page)
+            CommentSort.LATEST -> commentRepository.findByMovieIdOnDateDescend(movieId, page)
+            else -> commentRepository.findByMovieIdOnDislikeDescend(movieId, page)
         }
+        return reactionCache.decorate(userId, comments?.let { withAliases(it) })
+    }
+
+    /**
+     * 전체 개수 없이 다음 페이지가 있는지만 확인하는 한줄평 조회
+     */
+    @Transactional(readOnly = true)
+    fun getCommentSlice(movieId: String?, page: Int, sort: CommentSort, userId: UUID?): Slice<CommentRespDTO?> {
+        val comments = when (sort) {
+            CommentSort.LIKE -> commentRepository.findSliceByMovieIdOnLikeDescend(movieId, page)
+            CommentSort.LATEST -> commentRepository.findSliceByMovieIdOnDateDescend(movieId, page)
+            else -> commentRepository.findSliceByMovieIdOnDislikeDescend(movieId, page)
+        }
+        return reactionCache.decorate(userId, withAliases(comments))
     }
 
     @Transactional
@@ -45,20 +71,15 @@ class CommentService(
         if (commentRepository.existsByMovieIdAndUserId(movieId, user.userId) == true) {
             throw InvalidWriteCommentException("한줄평은 1회 작성만 가능합니다.")
         }
+        // 영화 행은 읽지 않고 존재 여부만 확인한다. 검색 결과로 저장 대기 중인 영화도 아직 없는 영화다.
+        if (movieRepository.findExistingMovieIds(listOf(movieId)).isEmpty()) {
+            throw NoMovieException("해당하는 영화가 존재하지 않습니다.")
+        }
         val newComment = of(writeReqDTO, movieId, user.userId)
         val save = commentRepository.saveNewComment(movieId, user.userId, newComment)
 
-        val movie = movieRepository.findByMovieId(movieId)
-            ?.orElseThrow(Supplier { NoMovieException("존재하지 않는 영화입니다.") })
-
-        if (movie != null) {
-            log.info("수정 전 영화 총 평점 : {}, 수정 전 영화 한줄평 개수 : {}", movie.sumOfRating, movie.commentCount)
-        }
-        movie?.isCommentedWithRating(newComment.rating)
-        if (movie != null) {
-            log.info("수정된 영화 총 평점 : {}, 수정된 영화 한줄평 개수 : {}", movie.sumOfRating, movie.commentCount)
-        }
-        movieRepository.editMovie(movieId, movie)
+        // 영화의 한줄평 수와 평점은 커밋 이후 모아서 한 번에 반영한다.
+        counterBuffer.addComment(movieId, 1, newComment.rating.toLong())
         return of(save!!, user.alias)
     }
 
@@ -74,66 +95,70 @@ class CommentService(
         }
 
         commentRepository.deleteComment(commentId)
-        val movie = movieRepository.findByMovieId(movieId)
-            ?.orElseThrow(Supplier { NoMovieException("존재하는 영화가 아닙니다.") })!!
         log.info("[MovieService.deleteCommentOnMovie] 영화 정보 수정")
-        log.info(
-            "[MovieService.deleteCommentOnMovie] before rating : {}, commentCount : {}", movie.sumOfRating,
-            movie.commentCount
-        )
-        movie.deleteComment(comment.rating)
-        log.info(
-            "[MovieService.deleteCommentOnMovie] before rating : {}, commentCount : {}", movie.sumOfRating,
-            movie.commentCount
-        )
-        movieRepository.editMovie(movieId, movie)
+        counterBuffer.addComment(movieId, -1, -comment.rating.toLong())
     }
 
+    // 반응은 (comment_id, user_id) 유니크 키로 한 번만 등록되고, 등록 / 삭제된 경우에만 한줄평의 반응 수를 바꾼다.
     @Transactional
     fun incrementCommentLike(commentId: Long?, userId: UUID?) {
-        val comment = commentRepository.findByCommentId(commentId)
-            ?.orElseThrow(Supplier { NotFoundCommentException("존재하지 않는 한줄평입니다.") })
-        if (likeRepository.isExistLike(commentId, userId)) {
-            throw InvalidReactionException("이미 '좋아요'를 누른 한줄평입니다.")
+        if (!likeRepository.saveCommentLike(commentId, userId)) {
+            throw reactionFailure(commentId, "이미 '좋아요'를 누른 한줄평입니다.")
         }
-        comment!!.isLiked()
-        commentRepository.update(comment)
-        likeRepository.saveCommentLike(commentId, userId)
+        commentRepository.addLikeCount(commentId!!, 1)
+        publishReaction(commentId, userId, CommentReaction.LIKE, true)
     }
 
     @Transactional
     fun decrementCommentLike(commentId: Long?, userId: UUID?) {
-        val comment = commentRepository.findByCommentId(commentId)
-            ?.orElseThrow(Supplier { NotFoundCommentException("존재하지 않는 한줄평입니다.") })
-        if (!likeRepository.isExistLike(commentId, userId)) {
-            throw InvalidReactionException("'좋아요'를 누르지 않은 한줄평입니다.")
+        if (!likeRepository.deleteCommentLike(commentId, userId)) {
+            throw reactionFailure(commentId, "'좋아요'를 누르지 않은 한줄평입니다.")
         }
-        comment!!.cancelLike()
-        commentRepository.update(comment)
-        likeRepository.deleteCommentLike(commentId, userId)
+        commentRepository.addLikeCount(commentId!!, -1)
+        publishReaction(commentId, userId, CommentReaction.LIKE, false)
     }
 
     @Transactional
     fun incrementCommentDislike(commentId: Long?, userId: UUID?) {
-        val comment = commentRepository.findByCommentId(commentId)
-            ?.orElseThrow(Supplier { NotFoundCommentException("존재하지 않는 한줄평입니다.") })
-        if (dislikeRepository.isExistDislike(commentId, userId)) {
-            throw InvalidReactionException("이미 '싫어요'를 누른 한줄평입니다.")
+        if (!dislikeRepository.saveCommentDislike(commentId, userId)) {
+            throw reactionFailure(commentId, "이미 '싫어요'를 누른 한줄평입니다.")
         }
-        comment!!.isDisliked()
-        commentRepository.update(comment)
-        dislikeRepository.saveCommentDislike(commentId, userId)
+        commentRepository.addDislikeCount(commentId!!, 1)
+        publishReaction(commentId, userId, CommentReaction.DISLIKE, true)
     }
 
     @Transactional
     fun decrementCommentDislike(commentId: Long, userId: UUID?) {
-        val comment = commentRepository.findByCommentId(commentId)
-            ?.orElseThrow(Supplier { NotFoundCommentException("존재하지 않는 한줄평입니다.") })
-        if (!dislikeRepository.isExistDislike(commentId, userId)) {
-            throw InvalidReactionException("'싫어요'를 누르지 않은 한줄평입니다.")
+        if (!dislikeRepository.deleteCommentDislike(commentId, userId)) {
+            throw reactionFailure(commentId, "'싫어요'를 누르지 않은 한줄평입니다.")
+        }
+        commentRepository.addDislikeCount(commentId, -1)
+        publishReaction(commentId, userId, CommentReaction.DISLIKE, false)
+    }
+
+    // 한 페이지의 작성자 닉네임은 한 번에 조회한다.
+    private fun withAliases(comments: Page<CommentRespDTO?>): Page<CommentRespDTO?> =
+        comments.map(aliasesOf(comments.content))
+
+    private fun withAliases(comments: Slice<CommentRespDTO?>): Slice<CommentRespDTO?> =
+        comments.map(aliasesOf(comments.content))
+
+    private fun aliasesOf(comments: List<CommentRespDTO?>): (CommentRespDTO?) -> CommentRespDTO? {
+        val aliases = userAliasService.getAliases(comments.map { it?.userId })
+        return { it?.copy(alias = aliases[it.userId]) }
+    }
+
+    private fun publishReaction(commentId: Long, userId: UUID?, reaction: CommentReaction, active: Boolean) {
+        if (userId != null) {
+            eventPublisher.publishEvent(CommentReactionChangedEvent(commentId, userId, reaction, active))
+        }
+    }
+
+    // 반응을 등록 / 삭제하지 못한 경우에만 한줄평이 있는지 확인한다.
+    private fun reactionFailure(commentId: Long?, message: String): RuntimeException {
+        if (commentRepository.findByCommentId(commentId)?.isPresent != true) {
+            return NotFoundCommentException("존재하지 않는 한줄평입니다.")
         }
-        comment!!.cancelDislike()
-        commentRepository.update(comment)
-        dislikeRepository.deleteCommentDislike(commentId, userId)
+        return InvalidReactionException(message)
     }
 }
@@ -0,0 +1,40 @@
+package core.application.movies.service
+
+import core.application.movies.constant.Genre
+import core.application.movies.constant.MovieSearch
+import core.application.movies.models.dto.response.MovieSearchRespDTO
+import org.springframework.data.domain.Page
+import org.springframework.stereotype.Component
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 미리 만들어 둔 장르별 영화 목록 페이지
+ *
+ * [GenrePageWarmer] 가 전체 페이지를 새로 만든 뒤 한 번에 교체하므로,
+ * 조회하는 쪽은 항상 같은 시점에 만들어진 페이지 묶음을 본다.
+ */
+@Component
+class GenrePageSnapshot {
+
+    /**
+     * @param order [MovieSearch.LATEST] (KMDB 최신순) 또는 [MovieSearch.RATING] (DB 평점순)
+     */
+    data class Key(val genre: Genre, val order: MovieSearch, val page: Int)
+
+    private val pages = AtomicReference<Map<Key, Page<MovieSearchRespDTO?>>>(emptyMap())
+
+    /**
+     * @return 미리 만들어 둔 페이지, 없으면 `null`
+     */
+    fun get(genre: Genre, order: MovieSearch, page: Int?): Page<MovieSearchRespDTO?>? {
+        return pages.get()[Key(genre, order, page ?: 0)]
+    }
+
+    fun replace(next: Map<Key, Page<MovieSearchRespDTO?>>) {
+        pages.set(next.toMap())
+    }
+
+    fun current(): Map<Key, Page<MovieSearchRespDTO?>> = pages.get()
+
+    fun size(): Int = pages.get().size
+}
@@ -0,0 +1,88 @@
+package core.application.movies.service
+
+import core.application.movies.constant.Genre
+import core.application.movies.constant.MovieSearch
+import core.application.movies.models.dto.response.MovieSearchRespDTO
+import core.application.movies.repositories.movie.kmdb.KmdbPriority
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.domain.Page
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.util.concurrent.CompletionException
+
+/**
+ * 모든 장르의 앞쪽 `movie.genre-warmup.pages` 페이지를 최신순, 평점순으로 미리 만들어
+ * [GenrePageSnapshot] 에 넣는다.
+ *
+ * 시작 후 `movie.genre-warmup.initial-delay` 가 지난 뒤와 `movie.genre-warmup.interval` 마다
+ * 전체를 새로 만들어 교체한다. 시작 직후의 KMDB 요청이 기동과 겹치지 않도록 처음에는 기다린다.
+ * 최신순 페이지는 KMDB 를 백그라운드 우선순위로 한 페이지씩 요청하며,
+ * 만들지 못한 페이지는 이전에 만든 페이지를 유지한다.
+ */
+@Component
+class GenrePageWarmer(
+    private val movieService: MovieService,
+    private val snapshot: GenrePageSnapshot,
+    @Value("\${movie.genre-warmup.enabled:true}") private val enabled: Boolean,
+    @Value("\${movie.genre-warmup.pages:3}") private val pages: Int,
+    meterRegistry: MeterRegistry
+) {
+    private val log = LoggerFactory.getLogger(GenrePageWarmer::class.java)
+
+    private val successCounter = Counter.builder("movie.genre.warmup")
+        .tag("result", "success")
+        .register(meterRegistry)
+
+    private val failureCounter = Counter.builder("movie.genre.warmup")
+        .tag("result", "failure")
+        .register(meterRegistry)
+
+    init {
+        Gauge.builder("movie.genre.warmup.pages", snapshot) { it.size().toDouble() }
+            .register(meterRegistry)
+    }
+
+    @Scheduled(
+        initialDelayString = "\${movie.genre-warmup.initial-delay:1m}",
+        fixedDelayString = "\${movie.genre-warmup.interval:10m}"
+    )
+    fun refresh() {
+        if (!enabled) return
+
+        val previous = snapshot.current()
+        val next = HashMap<GenrePageSnapshot.Key, Page<MovieSearchRespDTO?>>()
+        for (genre in Genre.entries) {
+            for (page in 0 until pages) {
+                warm(GenrePageSnapshot.Key(genre, MovieSearch.LATEST, page), previous, next) {
+                    movieService.loadMoviesWithGenreLatestOrder(page, genre, KmdbPriority.BACKGROUND).join()
+                }
+                warm(GenrePageSnapshot.Key(genre, MovieSearch.RATING, page), previous, next) {
+                    movieService.loadMoviesWithGenreRatingOrder(page, genre)
+                }
+            }
+        }
+        snapshot.replace(next)
+        log.info("[GenrePageWarmer.refresh] 장르별 영화 목록 {}개 페이지 갱신", next.size)
+    }
+
+    private fun warm(
+        key: GenrePageSnapshot.Key,
+        previous: Map<GenrePageSnapshot.Key, Page<MovieSearchRespDTO?>>,
+        next: MutableMap<GenrePageSnapshot.Key, Page<MovieSearchRespDTO?>>,
+        loader: () -> Page<MovieSearchRespDTO?>?
+    ) {
+        try {
+            loader()?.let { next[key] = it }
+            successCounter.increment()
+        } catch (e: Exception) {
+            val cause = if (e is CompletionException && e.cause != null) e.cause!! else e
+            failureCounter.increment()
+            log.debug("[GenrePageWarmer.refresh] '{}' 페이지 갱신 실패 : {}", key, cause.message)
+            previous[key]?.let { next[key] = it }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package core.application.movies.service
+
+import core.application.movies.models.dto.response.MainPageMovieRespDTO
+import core.application.movies.models.entities.CachedMovieEntity
+import core.application.movies.models.dto.response.MainPageMoviesRespDTO
+import core.application.movies.models.events.MovieCounterChangedEvent
+import core.application.movies.repositories.movie.CachedMovieRepository
+import core.application.movies.repositories.movie.ranking.MovieRanking
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 메인 페이지의 찜 많은 순, 평점 높은 순, 리뷰 많은 순 영화 목록
+ *
+ * 세 순위는 각각의 스레드 (각각의 커넥션) 에서 동시에 조회하며, `movie.leaderboard.query-timeout` 안에 조회하지 못한
+ * 순위는 이전 목록을 유지한다. 메인 페이지 응답은 미리 만들어 두고, 조회 시 DB / Redis 에 접근하지 않는다.
+ *
+ * Redis 영화 순위를 사용하면 (`movie.ranking.redis.enabled`) 모든 서버가 같은 순위를 보도록
+ * `movie.leaderboard.shared-refresh-interval` 마다 공유 순위
+ * ([core.application.movies.repositories.movie.ranking.MovieRankingStore]) 의 상위 영화를 읽어 응답을 다시 만든다.
+ * 순위가 그대로면 이전 응답 객체를 유지하여 직렬화된 응답을 재사용할 수 있게 한다.
+ *
+ * 사용하지 않으면 (단일 서버) 메모리에서 순위를 관리한다.
+ * - [MovieCounterChangedEvent] 를 받으면 별도 스레드에서 해당 영화만 다시 읽어 순위에 반영한다.
+ *   반영 대기열 (`movie.leaderboard.update-queue`) 이 가득 차면 버리고 다음 재구성 때 반영한다.
+ * - `movie.leaderboard.rebuild-interval` 마다, 또는 순위를 보장할 수 없게 되면 DB 에서 다시 구성한다.
+ */
+@Component
+class MainPageLeaderboard(
+    private val movieRepository: CachedMovieRepository,
+    @Value("\${movie.leaderboard.size:10}") private val size: Int,
+    @Value("\${movie.leaderboard.capacity:50}") private val capacity: Int,
+    @Value("\${movie.leaderboard.query-timeout:2s}") private val queryTimeout: Duration,
+    @Value("\${movie.leaderboard.update-queue:1000}") updateQueue: Int,
+    @Value("\${movie.ranking.redis.enabled:true}") private val shared: Boolean,
+    private val meterRegistry: MeterRegistry
+) {
+    private val log = LoggerFactory.getLogger(MainPageLeaderboard::class.java)
+
+    private val dibBoard = MovieLeaderboard(size, capacity, MovieRanking.DIB::score)
+    private val ratingBoard = MovieLeaderboard(size, capacity, MovieRanking.RATING::score)
+    private val reviewBoard = MovieLeaderboard(size, capacity, MovieRanking.REVIEW::score)
+    private val boards = listOf(dibBoard, ratingBoard, reviewBoard)
+
+    private class Branch(
+        val ranking: MovieRanking,
+        val board: MovieLeaderboard,
+        val query: (Int) -> List<CachedMovieEntity?>?
+    )
+
+    private val branches = listOf(
+        Branch(MovieRanking.DIB, dibBoard) { movieRepository.selectOnDibOrderDescend(it) },
+        Branch(MovieRanking.RATING, ratingBoard) { movieRepository.selectOnAVGRatingDescend(it) },
+        Branch(MovieRanking.REVIEW, reviewBoard) { movieRepository.selectOnReviewCountDescend(it) }
+    )
+
+    // 재구성은 한 번에 하나만 수행하므로 순위 수만큼의 스레드면 충분하다.
+    private val threadSequence = AtomicInteger()
+    private val executor: ExecutorService = Executors.newFixedThreadPool(branches.size) { runnable ->
+        Thread(runnable, "main-page-ranking-${threadSequence.incrementAndGet()}").apply { isDaemon = true }
+    }
+
+    // 순위 반영은 요청 스레드가 아닌 하나의 스레드에서 순서대로 수행한다.
+    private val updateExecutor = ThreadPoolExecutor(
+        1, 1, 0, TimeUnit.MILLISECONDS, LinkedBlockingQueue(updateQueue)
+    ) { runnable -> Thread(runnable, "main-page-ranking-update").apply { isDaemon = true } }
+
+    private val response = AtomicReference<MainPageMoviesRespDTO?>()
+
+    private val rebuildCounter = Counter.builder("movie.leaderboard.rebuild")
+        .register(meterRegistry)
+
+    private val droppedCounter = Counter.builder("movie.leaderboard.update.dropped")
+        .register(meterRegistry)
+
+    /**
+     * 메인 페이지 영화 목록, 아직 만들지 않았으면 순위를 조회해 만든다.
+     */
+    fun mainPageMovies(): MainPageMoviesRespDTO {
+        response.get()?.let { return it }
+        synchronized(this) {
+            response.get()?.let { return it }
+            if (shared) refreshShared() else rebuild()
+        }
+        return response.get()!!
+    }
+
+    /**
+     * 공유 순위의 상위 영화를 읽어 메인 페이지 응답을 다시 만든다.
+     */
+    @Scheduled(
+        initialDelayString = "\${movie.leaderboard.shared-refresh-interval:1s}",
+        fixedDelayString = "\${movie.leaderboard.shared-refresh-interval:1s}"
+    )
+    @Synchronized
+    fun refreshShared() {
+        if (!shared) return
+        val previous = response.get()
+        val lists = load(size).map { (branch, movies) ->
+            movies?.map { MainPageMovieRespDTO.from(it) } ?: previous?.listOf(branch.ranking).orEmpty()
+        }
+        val next = MainPageMoviesRespDTO.of(lists[0], lists[1], lists[2])
+        if (previous != next) response.set(next)
+    }
+
+    private fun MainPageMoviesRespDTO.listOf(ranking: MovieRanking): List<MainPageMovieRespDTO?>? {
+        return when (ranking) {
+            MovieRanking.DIB -> dibMovieList
+            MovieRanking.RATING -> ratingMovieList
+            MovieRanking.REVIEW -> reviewMovieList
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    fun onCounterChanged(event: MovieCounterChangedEvent) {
+        if (shared) return
+        try {
+            updateExecutor.execute { applyChange(event) }
+        } catch (e: RejectedExecutionException) {
+            droppedCounter.increment()
+            log.debug("[MainPageLeaderboard.onCounterChanged] 반영 대기열이 가득 차 '{}' 영화 순위 반영 생략", event.movieId)
+        }
+    }
+
+    private fun applyChange(event: MovieCounterChangedEvent) {
+        try {
+            val movie = movieRepository.findByMovieId(event.movieId)?.orElse(null)
+            if (movie == null) {
+                boards.forEach { it.remove(event.movieId) }
+            } else {
+                boards.forEach { it.update(movie) }
+            }
+            if (boards.any { it.needsRebuild() }) {
+                rebuild()
+            } else {
+                publish()
+            }
+        } catch (e: Exception) {
+            // 순위 반영 실패가 요청을 실패시키지 않도록 한다. 다음 재구성 때 반영된다.
+            log.warn("[MainPageLeaderboard.onCounterChanged] '{}' 영화 순위 반영 실패 : {}", event.movieId, e.message)
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "\${movie.leaderboard.rebuild-interval:10m}",
+        fixedDelayString = "\${movie.leaderboard.rebuild-interval:10m}"
+    )
+    @Synchronized
+    fun rebuild() {
+        if (shared) return
+        rebuildCounter.increment()
+        for ((branch, movies) in load(capacity)) {
+            movies?.let { branch.board.rebuild(it) }
+        }
+        publish()
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        updateExecutor.shutdownNow()
+        executor.shutdownNow()
+    }
+
+    /**
+     * 세 순위의 상위 [num] 개 영화를 동시에 조회한다.
+     *
+     * @return 순위별 조회한 영화 목록, 시간 안에 조회하지 못했거나 실패하면 `null`
+     */
+    private fun load(num: Int): List<Pair<Branch, List<CachedMovieEntity>?>> {
+        val deadline = System.nanoTime() + queryTimeout.toNanos()
+        val loads = branches.map { branch ->
+            branch to CompletableFuture.supplyAsync({ branch.query(num).orEmpty().filterNotNull() }, executor)
+        }
+        return loads.map { (branch, load) -> branch to await(branch, load, deadline) }
+    }
+
+    /**
+     * @return 조회한 영화 목록, 시간 안에 조회하지 못했거나 실패하면 `null`
+     */
+    private fun await(
+        branch: Branch,
+        load: CompletableFuture<List<CachedMovieEntity>>,
+        deadline: Long
+    ): List<CachedMovieEntity>? {
+        try {
+            return load.get(maxOf(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)
+        } catch (e: TimeoutException) {
+            load.cancel(true)
+            failed(branch, "timeout")
+            log.warn("[MainPageLeaderboard.load] {} 순위 조회 시간 초과, 이전 목록 유지", branch.ranking)
+        } catch (e: ExecutionException) {
+            failed(branch, "error")
+            log.warn("[MainPageLeaderboard.load] {} 순위 조회 실패, 이전 목록 유지 : {}", branch.ranking, e.cause?.message)
+        }
+        return null
+    }
+
+    private fun failed(branch: Branch, result: String) {
+        Counter.builder("movie.leaderboard.query.failure")
+            .tag("ranking", branch.ranking.name.lowercase())
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment()
+    }
+
+    private fun publish() {
+        response.set(
+            MainPageMoviesRespDTO.of(
+                dibBoard.top().map { MainPageMovieRespDTO.from(it) },
+                ratingBoard.top().map { MainPageMovieRespDTO.from(it) },
+                reviewBoard.top().map { MainPageMovieRespDTO.from(it) }
+            )
+        )
+    }
+}
@@ -0,0 +1,238 @@
+package core.application.movies.service
+
+import core.application.movies.models.entities.CachedMovieEntity
+import core.application.movies.models.events.MovieCounter
+import core.application.movies.models.events.MovieCounterChangedEvent
+import core.application.movies.repositories.movie.CachedMovieRepository
+import core.application.movies.repositories.movie.MovieCounterDelta
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.dao.DataAccessException
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * 영화별 찜 / 한줄평 / 평점 / 리뷰 수 변경량을 메모리에 모아 두었다가 주기적으로 한 번에 DB 에 반영한다.
+ *
+ * 인기 영화에 요청이 몰려도 같은 `cached_movie_table` 행의 잠금을 요청마다 잡지 않도록 한다.
+ *
+ * - 변경량은 영화별 [LongAdder] 에 더하므로 같은 영화에 대한 동시 요청이 행 잠금을 기다리지 않는다.
+ * - 트랜잭션 안에서 더한 변경량은 커밋 이후에 모으므로, 롤백된 변경은 반영되지 않는다.
+ * - `movie.counter-buffer.flush-interval` 마다 `movie.counter-buffer.batch-size` 개 영화씩 하나의 `UPDATE` 로 반영하고,
+ *   종료 시에도 반영한다. 반영에 실패한 변경량은 다음 주기에 다시 반영한다.
+ * - 반영 이후 [MovieCounterChangedEvent] 를 발행한다.
+ * - 영화 정보를 제공할 때 [merge] 로 반영 대기 중인 변경량을 더해, 사용자가 자신의 변경을 바로 볼 수 있도록 한다.
+ *
+ * 비정상 종료 시 반영하지 못한 변경량은 유실될 수 있다.
+ */
+@Component
+class MovieCounterBuffer(
+    private val movieRepository: CachedMovieRepository,
+    private val eventPublisher: ApplicationEventPublisher,
+    @Value("\${movie.counter-buffer.enabled:true}") private val enabled: Boolean,
+    @Value("\${movie.counter-buffer.batch-size:200}") private val batchSize: Int,
+    meterRegistry: MeterRegistry
+) {
+    private val log = LoggerFactory.getLogger(MovieCounterBuffer::class.java)
+
+    private class Pending {
+        val dib = LongAdder()
+        val comment = LongAdder()
+        val rating = LongAdder()
+        val review = LongAdder()
+
+        @Volatile
+        var idleFlushes = 0
+
+        fun drain(movieId: String) = MovieCounterDelta(
+            movieId, dib.sumThenReset(), comment.sumThenReset(), rating.sumThenReset(), review.sumThenReset()
+        )
+
+        fun snapshot(movieId: String) = MovieCounterDelta(
+            movieId, dib.sum(), comment.sum(), rating.sum(), review.sum()
+        )
+    }
+
+    private val pending = ConcurrentHashMap<String, Pending>()
+
+    private val flushLock = ReentrantLock()
+
+    private val flushedCounter = counter(meterRegistry, "success")
+    private val failedCounter = counter(meterRegistry, "failure")
+
+    init {
+        Gauge.builder("movie.counter.pending", pending) { it.size.toDouble() }
+            .register(meterRegistry)
+    }
+
+    fun addDib(movieId: String, delta: Long) {
+        if (!enabled) {
+            movieRepository.addDibCount(movieId, delta)
+            publish(MovieCounterDelta(movieId, dib = delta))
+            return
+        }
+        afterCommit { add(movieId) { it.dib.add(delta) } }
+    }
+
+    /**
+     * @param count 한줄평 작성 시 `1`, 삭제 시 `-1`
+     * @param rating 더하거나 뺄 평점
+     */
+    fun addComment(movieId: String, count: Long, rating: Long) {
+        if (!enabled) {
+            movieRepository.addCommentRating(movieId, count, rating)
+            publish(MovieCounterDelta(movieId, comment = count, rating = rating))
+            return
+        }
+        afterCommit {
+            add(movieId) {
+                it.comment.add(count)
+                it.rating.add(rating)
+            }
+        }
+    }
+
+    fun addReview(movieId: String, delta: Long) {
+        if (!enabled) {
+            movieRepository.addCounters(listOf(MovieCounterDelta(movieId, review = delta)))
+            publish(MovieCounterDelta(movieId, review = delta))
+            return
+        }
+        afterCommit { add(movieId) { it.review.add(delta) } }
+    }
+
+    /**
+     * 반영 대기 중인 변경량을 더한 영화 정보
+     * <br>
+     * 반영 중인 변경량은 반영이 끝날 때까지 잠시 보이지 않을 수 있다.
+     */
+    fun merge(movie: CachedMovieEntity): CachedMovieEntity {
+        val movieId = movie.movieId ?: return movie
+        val delta = pending[movieId]?.snapshot(movieId) ?: return movie
+        if (delta.isEmpty()) return movie
+        return movie.copy(
+            dibCount = maxOf(movie.dibCount + delta.dib, 0),
+            reviewCount = maxOf(movie.reviewCount + delta.review, 0),
+            commentCount = maxOf(movie.commentCount + delta.comment, 0),
+            sumOfRating = movie.sumOfRating + delta.rating
+        )
+    }
+
+    fun pendingCount(): Int = pending.size
+
+    /**
+     * 영화에 반영 대기 중인 변경량이 있는지 확인한다.
+     */
+    fun hasPending(movieId: String): Boolean = pending[movieId]?.snapshot(movieId)?.isEmpty() == false
+
+    /**
+     * 변경량을 반영하지 않는 동안 [action] 을 실행한다.
+     * <br>
+     * [action] 안에서 [hasPending] 이 `false` 인 영화는 꺼냈지만 아직 반영하지 못한 변경량도 없다.
+     */
+    fun <T> withoutFlush(action: () -> T): T = flushLock.withLock(action)
+
+    @Scheduled(fixedDelayString = "\${movie.counter-buffer.flush-interval:1s}")
+    fun flush() {
+        flushLock.withLock { flushPending() }
+    }
+
+    @PreDestroy
+    fun flushOnShutdown() {
+        flush()
+    }
+
+    private fun flushPending() {
+        val deltas = ArrayList<MovieCounterDelta>()
+        for ((movieId, entry) in pending) {
+            val delta = entry.drain(movieId)
+            if (!delta.isEmpty()) {
+                entry.idleFlushes = 0
+                deltas.add(delta)
+                continue
+            }
+            // 한동안 변경이 없는 영화는 제거한다. 변경량은 compute 안에서만 더하므로,
+            // 비어 있음을 확인하고 제거하는 사이에 더해지는 변경량은 없다.
+            if (++entry.idleFlushes >= EVICT_AFTER_IDLE_FLUSHES) {
+                pending.compute(movieId) { _, current ->
+                    if (current === entry && current.snapshot(movieId).isEmpty()) null else current
+                }
+            }
+        }
+        deltas.chunked(batchSize).forEach { write(it) }
+    }
+
+    private fun afterCommit(action: () -> Unit) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+                override fun afterCommit() = action()
+            })
+        } else {
+            action()
+        }
+    }
+
+    /**
+     * 영화의 [Pending] 에 변경량을 더한다.
+     * <br>
+     * 제거된 [Pending] 에 더해 유실되지 않도록 제거와 같은 compute 안에서 더한다.
+     */
+    private fun add(movieId: String, update: (Pending) -> Unit) {
+        pending.compute(movieId) { _, entry -> (entry ?: Pending()).also(update) }
+    }
+
+    private fun write(batch: List<MovieCounterDelta>) {
+        try {
+            movieRepository.addCounters(batch)
+            flushedCounter.increment(batch.size.toDouble())
+        } catch (e: DataAccessException) {
+            failedCounter.increment(batch.size.toDouble())
+            log.warn("[MovieCounterBuffer.flush] 영화 {}건 카운터 반영 실패, 다음 주기에 다시 반영 : {}", batch.size, e.message)
+            batch.forEach { restore(it) }
+            return
+        }
+        batch.forEach { publish(it) }
+    }
+
+    private fun restore(delta: MovieCounterDelta) {
+        add(delta.movieId) {
+            it.dib.add(delta.dib)
+            it.comment.add(delta.comment)
+            it.rating.add(delta.rating)
+            it.review.add(delta.review)
+        }
+    }
+
+    private fun publish(delta: MovieCounterDelta) {
+        if (delta.dib != 0L) {
+            eventPublisher.publishEvent(MovieCounterChangedEvent(delta.movieId, MovieCounter.DIB))
+        }
+        if (delta.comment != 0L || delta.rating != 0L) {
+            eventPublisher.publishEvent(MovieCounterChangedEvent(delta.movieId, MovieCounter.COMMENT))
+        }
+        if (delta.review != 0L) {
+            eventPublisher.publishEvent(MovieCounterChangedEvent(delta.movieId, MovieCounter.REVIEW))
+        }
+    }
+
+    private fun counter(meterRegistry: MeterRegistry, result: String): Counter {
+        return Counter.builder("movie.counter.flush")
+            .tag("result", result)
+            .register(meterRegistry)
+    }
+
+    companion object {
+        private const val EVICT_AFTER_IDLE_FLUSHES = 3
+    }
+}
@@ -0,0 +1,247 @@
+package core.application.movies.service
+
+import core.application.movies.repositories.movie.CachedMovieRepository
+import core.application.movies.repositories.movie.MovieCounterDelta
+import core.application.movies.repositories.movie.MovieCounters
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation
+import org.springframework.dao.DataAccessException
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicReference
+import kotlin.math.absoluteValue
+
+/**
+ * `cached_movie_table` 의 찜 / 한줄평 / 평점 합계 / 리뷰 수를 `dib_table`, `comment_table`, `review_table` 에서 다시 세어 맞춘다.
+ *
+ * - 영화 ID 순으로 `movie.counter-reconcile.chunk-size` 개씩 나눠 읽고, 같은 영화 ID 범위를 테이블별로 묶어 센다.
+ * - 값이 다른 영화만, 읽은 뒤 카운터가 바뀌지 않았을 때 고친다.
+ *   이 서버의 [MovieCounterBuffer] 에 반영 대기 중인 변경량이 있는 영화는 건너뛴다.
+ * - 다른 서버의 [MovieCounterBuffer] 에 남은 변경량은 알 수 없으므로, 값이 다른 영화는 `movie.counter-reconcile.settle`
+ *   (변경량 반영 주기보다 길게) 동안 기다린 뒤 다시 읽고 다시 세어, 같은 차이가 그대로 남아 있을 때만 고친다.
+ *   그 사이 다른 서버가 변경량을 반영했다면 값이 바뀌었으므로 건너뛴다.
+ *   다른 서버가 그보다 오래 반영하지 못하는 경우 (DB 장애 등) 까지 막지는 못한다.
+ * - 한 묶음을 처리한 시간만큼 (최소 `movie.counter-reconcile.min-pause`) 쉬어 DB 부하를 절반 이하로 유지한다.
+ * - 고친 영화의 카운터별 차이를 `movie.counter.reconcile.drift` 로 기록한다.
+ *
+ * `movie.counter-reconcile.cron` 에 실행하며, 운영 중에는 `POST /actuator/moviecounters` 로 실행한다. (관리자만)
+ * 보정은 전용 스레드에서 실행하므로, 스케줄러 스레드와 요청 스레드는 시작만 하고 바로 돌아간다.
+ * 마지막 결과는 `GET /actuator/moviecounters` 로 확인한다.
+ */
+@Component
+@Endpoint(id = "moviecounters")
+class MovieCounterReconciler(
+    private val movieRepository: CachedMovieRepository,
+    private val counterBuffer: MovieCounterBuffer,
+    @Value("\${movie.counter-reconcile.chunk-size:500}") private val chunkSize: Int,
+    @Value("\${movie.counter-reconcile.min-pause:100ms}") private val minPause: Duration,
+    @Value("\${movie.counter-reconcile.settle:5s}") private val settle: Duration,
+    meterRegistry: MeterRegistry
+) {
+    private val log = LoggerFactory.getLogger(MovieCounterReconciler::class.java)
+
+    /**
+     * 한 번 실행한 결과
+     *
+     * @param scanned 확인한 영화 수
+     * @param repaired 카운터를 고친 영화 수
+     * @param skipped 값이 달랐지만 반영 대기 중이거나 그 사이 바뀌어 건너뛴 영화 수
+     * @param drift 고친 영화들의 카운터별 차이 절댓값 합계
+     */
+    data class Result(
+        val scanned: Int,
+        val repaired: Int,
+        val skipped: Int,
+        val drift: Map<String, Long>
+    )
+
+    private val running = AtomicBoolean()
+
+    private val lastResult = AtomicReference<Result?>()
+
+    private val executor: ExecutorService = Executors.newSingleThreadExecutor { runnable ->
+        Thread(runnable, "movie-counter-reconcile").apply { isDaemon = true }
+    }
+
+    private val scannedCounter = counter(meterRegistry, "scanned")
+    private val repairedCounter = counter(meterRegistry, "repaired")
+    private val skippedCounter = counter(meterRegistry, "skipped")
+
+    private val driftSummaries = COUNTERS.associateWith {
+        DistributionSummary.builder("movie.counter.reconcile.drift")
+            .tag("counter", it)
+            .register(meterRegistry)
+    }
+
+    @Scheduled(cron = "\${movie.counter-reconcile.cron:0 0 4 * * *}")
+    fun reconcileScheduled() {
+        start()
+    }
+
+    /**
+     * 전용 스레드에서 보정을 시작한다.
+     *
+     * @return 시작했으면 `true`, 이미 실행 중이면 `false`
+     */
+    @WriteOperation
+    fun start(): Boolean {
+        if (!running.compareAndSet(false, true)) return false
+        executor.execute {
+            try {
+                run()
+            } finally {
+                running.set(false)
+            }
+        }
+        return true
+    }
+
+    /**
+     * @return 마지막으로 끝난 보정의 결과, 아직 없으면 `null`
+     */
+    @ReadOperation
+    fun lastResult(): Result? = lastResult.get()
+
+    /**
+     * 호출한 스레드에서 보정한다.
+     *
+     * @return 실행 결과, 이미 실행 중이거나 DB 오류로 중단되면 `null`
+     */
+    fun reconcile(): Result? {
+        if (!running.compareAndSet(false, true)) return null
+        try {
+            return run()
+        } finally {
+            running.set(false)
+        }
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        executor.shutdownNow()
+    }
+
+    private fun run(): Result? {
+        try {
+            return reconcileAll().also { lastResult.set(it) }
+        } catch (e: DataAccessException) {
+            log.warn("[MovieCounterReconciler.reconcile] 영화 카운터 보정 중단 : {}", e.message)
+            return null
+        }
+    }
+
+    private fun reconcileAll(): Result {
+        var scanned = 0
+        var repaired = 0
+        var skipped = 0
+        val drift = COUNTERS.associateWithTo(LinkedHashMap()) { 0L }
+
+        var last: String? = null
+        while (true) {
+            val started = System.nanoTime()
+            val stored = movieRepository.findCountersAfterMovieId(last, chunkSize)
+            if (stored.isEmpty()) break
+
+            val drifted = drifted(stored, count(stored.first().movieId, stored.last().movieId))
+
+            val settleStarted = System.nanoTime()
+            val confirmed = confirm(drifted)
+            val settled = System.nanoTime() - settleStarted
+
+            for ((expected, counters) in drifted) {
+                if (expected.movieId in confirmed && repair(expected, counters)) {
+                    repaired++
+                    repairedCounter.increment()
+                    record(counters - expected).forEach { (counter, diff) -> drift.merge(counter, diff) { a, b -> a + b } }
+                } else {
+                    skipped++
+                    skippedCounter.increment()
+                }
+            }
+            scanned += stored.size
+            scannedCounter.increment(stored.size.toDouble())
+
+            if (stored.size < chunkSize) break
+            last = stored.last().movieId
+            // 기다린 시간은 DB 를 사용한 시간이 아니므로 쉬는 시간 계산에서 뺀다.
+            pause(Duration.ofNanos(System.nanoTime() - started - settled))
+        }
+
+        log.info("[MovieCounterReconciler.reconcile] 영화 {}건 확인, {}건 보정, {}건 건너뜀, 차이 {}", scanned, repaired, skipped, drift)
+        return Result(scanned, repaired, skipped, drift)
+    }
+
+    private fun count(fromMovieId: String, toMovieId: String): Map<String, MovieCounters> {
+        return movieRepository.countCountersBetween(fromMovieId, toMovieId).associateBy { it.movieId }
+    }
+
+    /**
+     * @return 저장된 카운터와 실제 카운터가 다른 영화의 (저장된 카운터, 실제 카운터), 영화 ID 순
+     */
+    private fun drifted(
+        stored: List<MovieCounters>,
+        actual: Map<String, MovieCounters>
+    ): List<Pair<MovieCounters, MovieCounters>> {
+        return stored.mapNotNull { expected ->
+            val counters = actual[expected.movieId] ?: MovieCounters(expected.movieId)
+            if (counters == expected) null else expected to counters
+        }
+    }
+
+    /**
+     * `settle` 동안 기다린 뒤 다시 읽고 다시 세어 같은 차이가 남아 있는 영화
+     */
+    private fun confirm(drifted: List<Pair<MovieCounters, MovieCounters>>): Set<String> {
+        if (drifted.isEmpty()) return emptySet()
+        Thread.sleep(settle.toMillis())
+
+        val movieIds = drifted.map { it.first.movieId }
+        val stored = movieRepository.findAllByMovieIds(movieIds).associate { it.movieId to MovieCounters.of(it) }
+        val again = drifted(stored.values.toList(), count(movieIds.first(), movieIds.last())).toMap()
+        return drifted.filter { (expected, counters) ->
+            stored[expected.movieId] == expected && again[expected] == counters
+        }.mapTo(HashSet()) { it.first.movieId }
+    }
+
+    private fun repair(expected: MovieCounters, actual: MovieCounters): Boolean {
+        return counterBuffer.withoutFlush {
+            !counterBuffer.hasPending(expected.movieId) && movieRepository.repairCounters(expected, actual) > 0
+        }
+    }
+
+    private fun record(delta: MovieCounterDelta): Map<String, Long> {
+        val diffs = mapOf(
+            "dib" to delta.dib.absoluteValue,
+            "comment" to delta.comment.absoluteValue,
+            "rating" to delta.rating.absoluteValue,
+            "review" to delta.review.absoluteValue
+        )
+        diffs.filterValues { it > 0 }.forEach { (counter, diff) -> driftSummaries[counter]!!.record(diff.toDouble()) }
+        return diffs
+    }
+
+    private fun pause(elapsed: Duration) {
+        Thread.sleep(maxOf(minPause, elapsed).toMillis())
+    }
+
+    private fun counter(meterRegistry: MeterRegistry, result: String): Counter {
+        return Counter.builder("movie.counter.reconcile")
+            .tag("result", result)
+            .register(meterRegistry)
+    }
+
+    companion object {
+        private val COUNTERS = listOf("dib", "comment", "rating", "review")
+    }
+}
@@ -0,0 +1,53 @@
+package core.application.movies.service
+
+import core.application.movies.repositories.movie.CachedMovieRepository
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Component
+
+/**
+ * 등록된 모든 영화의 장르 매핑 (`movie_genre_table`) 을 시작 시 채운다.
+ *
+ * 장르 매핑 테이블 이전에 등록된 영화와, 장르를 나누는 규칙이 바뀌기 전에 등록된 영화도 장르별로 조회되도록 한다.
+ * 영화 ID 순으로 `movie.genre-backfill.chunk-size` 개씩 나눠 읽으며, 이미 있는 매핑은 건너뛰므로 여러 번 실행해도 된다.
+ *
+ * 모든 영화를 읽는 한 번만 필요한 작업이므로 기본으로 실행하지 않는다.
+ * 배포 시 한 서버에서만 `movie.genre-backfill.enabled=true` 로 시작해 실행한다.
+ */
+@Component
+class MovieGenreBackfill(
+    private val movieRepository: CachedMovieRepository,
+    @Value("\${movie.genre-backfill.enabled:false}") private val enabled: Boolean,
+    @Value("\${movie.genre-backfill.chunk-size:1000}") private val chunkSize: Int
+) {
+    private val log = LoggerFactory.getLogger(MovieGenreBackfill::class.java)
+
+    /**
+     * @return 장르 매핑을 등록한 영화 수
+     */
+    fun backfill(): Int {
+        var total = 0
+        var last: String? = null
+        do {
+            val chunk = movieRepository.findMoviesAfterMovieId(last, chunkSize)
+            if (chunk.isNotEmpty()) {
+                movieRepository.saveGenres(chunk)
+            }
+            total += chunk.size
+            last = chunk.lastOrNull()?.movieId
+        } while (chunk.size == chunkSize && last != null)
+        return total
+    }
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun backfillOnStartup() {
+        if (!enabled) return
+        try {
+            log.info("[MovieGenreBackfill.backfillOnStartup] 영화 {}개 장르 매핑 확인", backfill())
+        } catch (e: Exception) {
+            log.warn("[MovieGenreBackfill.backfillOnStartup] 장르 매핑 등록 실패 : {}", e.message)
+        }
+    }
+}
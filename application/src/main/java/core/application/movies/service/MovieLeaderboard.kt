@@ -0,0 +1,98 @@
+package core.application.movies.service
+
+import core.application.movies.models.entities.CachedMovieEntity
+
+/**
+ * 하나의 점수 기준으로 상위 영화를 메모리에서 관리한다.
+ *
+ * 재구성 시 DB 의 상위 `capacity` 개를 추적하고, 추적하지 않는 영화의 점수는 그 중 가장 낮은 점수
+ * (`threshold`) 이하라고 가정한다. 이후 점수가 바뀐 영화는 추적 중이거나 `threshold` 이상일 때만 반영한다.
+ *
+ * 추적 중인 영화의 점수가 떨어져 상위 `k` 개의 마지막 점수가 `threshold` 보다 낮아지면,
+ * 추적하지 않는 영화가 더 높을 수 있으므로 [needsRebuild] 가 `true` 가 된다.
+ *
+ * @param score 영화 점수
+ */
+class MovieLeaderboard(
+    private val k: Int,
+    private val capacity: Int,
+    private val score: (CachedMovieEntity) -> Double
+) {
+    private val tracked = HashMap<String, CachedMovieEntity>()
+    private var threshold = Double.NEGATIVE_INFINITY
+
+    @Volatile
+    private var top: List<CachedMovieEntity> = emptyList()
+
+    @Volatile
+    private var stale = true
+
+    /**
+     * DB 의 상위 영화 목록으로 다시 구성한다.
+     *
+     * @param movies 점수 내림차순으로 최대 `capacity` 개
+     */
+    @Synchronized
+    fun rebuild(movies: List<CachedMovieEntity>) {
+        tracked.clear()
+        movies.forEach { movie -> movie.movieId?.let { tracked[it] = movie } }
+        // 전체 영화가 capacity 보다 적으면 모든 영화를 추적하고 있는 것이다.
+        threshold = if (movies.size < capacity) {
+            Double.NEGATIVE_INFINITY
+        } else {
+            movies.minOfOrNull(score) ?: Double.NEGATIVE_INFINITY
+        }
+        refresh()
+    }
+
+    /**
+     * 점수가 바뀐 영화를 반영한다.
+     */
+    @Synchronized
+    fun update(movie: CachedMovieEntity) {
+        val movieId = movie.movieId ?: return
+        if (!tracked.containsKey(movieId) && score(movie) < threshold) return
+
+        tracked[movieId] = movie
+        if (tracked.size > capacity * 2) {
+            trim()
+        }
+        refresh()
+    }
+
+    @Synchronized
+    fun remove(movieId: String) {
+        if (tracked.remove(movieId) != null) {
+            refresh()
+        }
+    }
+
+    /**
+     * 점수 내림차순 상위 `k` 개
+     */
+    fun top(): List<CachedMovieEntity> = top
+
+    /**
+     * 추적하지 않는 영화가 상위 `k` 개에 들 수 있어 DB 에서 다시 구성해야 하는지 여부
+     */
+    fun needsRebuild(): Boolean = stale
+
+    private fun trim() {
+        val ranked = ranked()
+        val dropped = ranked.drop(capacity)
+        dropped.forEach { tracked.remove(it.movieId) }
+        dropped.maxOfOrNull(score)?.let { threshold = maxOf(threshold, it) }
+    }
+
+    private fun refresh() {
+        val ranked = ranked().take(k)
+        top = ranked
+        val lowest = ranked.lastOrNull()?.let(score)
+        stale = threshold != Double.NEGATIVE_INFINITY && (lowest == null || ranked.size < k || lowest < threshold)
+    }
+
+    private fun ranked(): List<CachedMovieEntity> {
+        return tracked.values
+            .sortedWith(compareByDescending<CachedMovieEntity> { score(it) }.thenBy { it.movieId })
+    }
+}
@@ -0,0 +1,32 @@
+package core.application.movies.service
+
+import core.application.movies.constant.KmdbParameter
+import core.application.movies.repositories.movie.KmdbApiRepository
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.domain.Page
+import org.springframework.stereotype.Component
+
+/**
+ * 검색 / 장르 목록의 다음 페이지를 미리 불러온다.
+ *
+ * 대부분의 사용자는 N 페이지 다음에 N+1 페이지를 조회하므로, N 페이지를 제공한 뒤
+ * N+1 페이지를 백그라운드 우선순위로 요청해 KMDB 응답 캐시에 넣어 둔다.
+ * KMDB 요청에 여유가 없으면 요청하지 않는다. (`kmdb.prefetch.enabled` 로 사용 여부 설정)
+ */
+@Component
+class MoviePagePrefetcher(
+    private val kmdbRepository: KmdbApiRepository,
+    @Value("\${kmdb.prefetch.enabled:false}") private val enabled: Boolean
+) {
+    /**
+     * @param parameters 방금 제공한 페이지의 KMDB 요청 파라미터
+     * @param page 방금 제공한 페이지
+     */
+    fun prefetchNext(parameters: Map<KmdbParameter, String?>, page: Page<*>) {
+        if (!enabled || !page.hasNext()) return
+
+        val next = HashMap(parameters)
+        next[KmdbParameter.START_COUNT] = ((page.number + 1) * page.size).toString()
+        kmdbRepository.prefetch(next)
+    }
+}
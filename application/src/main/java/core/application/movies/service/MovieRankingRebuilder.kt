@@ -0,0 +1,55 @@
+package core.application.movies.service
+
+import core.application.movies.models.entities.CachedMovieEntity
+import core.application.movies.repositories.movie.CachedMovieRepository
+import core.application.movies.repositories.movie.ranking.MovieRankingStore
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Component
+
+/**
+ * DB 의 영화 정보로 Redis 영화 순위를 다시 구성한다.
+ *
+ * 영화 ID 순으로 `movie.ranking.rebuild.chunk-size` 개씩 나눠 읽는다.
+ * 시작 시 순위가 없으면 구성하며, 운영 중에는 `POST /actuator/movieranking` 으로 다시 구성한다.
+ */
+@Component
+@Endpoint(id = "movieranking")
+class MovieRankingRebuilder(
+    private val movieRepository: CachedMovieRepository,
+    private val rankingStore: MovieRankingStore,
+    @Value("\${movie.ranking.rebuild.chunk-size:1000}") private val chunkSize: Int
+) {
+    private val log = LoggerFactory.getLogger(MovieRankingRebuilder::class.java)
+
+    /**
+     * @return 순위에 넣은 영화 수
+     */
+    @WriteOperation
+    fun rebuild(): Int {
+        return rankingStore.rebuild(chunks())
+    }
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun rebuildIfMissing() {
+        if (rankingStore.isBuilt()) return
+        try {
+            rebuild()
+        } catch (e: Exception) {
+            log.warn("[MovieRankingRebuilder.rebuildIfMissing] 영화 순위 구성 실패 : {}", e.message)
+        }
+    }
+
+    private fun chunks(): Iterator<List<CachedMovieEntity>> = iterator {
+        var last: String? = null
+        do {
+            val chunk = movieRepository.findMoviesAfterMovieId(last, chunkSize)
+            yield(chunk)
+            last = chunk.lastOrNull()?.movieId
+        } while (chunk.size == chunkSize && last != null)
+    }
+}
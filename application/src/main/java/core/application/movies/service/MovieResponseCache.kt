@@ -0,0 +1,64 @@
+package core.application.movies.service
+
+import core.application.api.response.JsonResponseCache
+import core.application.movies.constant.Genre
+import core.application.movies.constant.MovieSearch
+import core.application.movies.models.dto.response.MainPageMoviesRespDTO
+import core.application.movies.models.dto.response.MovieDetailRespDTO
+import core.application.movies.models.dto.response.MovieSearchRespDTO
+import core.application.movies.models.events.MovieCounterChangedEvent
+import org.springframework.data.domain.Page
+import org.springframework.http.HttpHeaders
+import org.springframework.http.ResponseEntity
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import java.util.concurrent.CompletableFuture
+
+/**
+ * 메인 페이지, 장르 페이지, 영화 상세 응답의 JSON byte 캐시
+ *
+ * - 메인 페이지와 미리 만들어 둔 장르 페이지는 [MainPageLeaderboard], [GenrePageSnapshot] 이 새 목록을 만들 때까지 재사용한다.
+ *   미리 만들어 두지 않은 장르 페이지는 요청마다 새로 만든 값이므로 보관하지 않는다.
+ * - 영화 상세는 [MovieCounterChangedEvent] 를 받을 때까지 재사용한다.
+ *   [MovieCounterBuffer] 에 반영 대기 중인 변경량이 있는 영화는 조회 시에만 더하므로 보관하지 않는다.
+ */
+@Component
+class MovieResponseCache(
+    private val jsonCache: JsonResponseCache,
+    private val counterBuffer: MovieCounterBuffer,
+    private val genrePageSnapshot: GenrePageSnapshot
+) {
+    fun mainPage(movies: MainPageMoviesRespDTO): JsonResponseCache.Entry = jsonCache.of(MAIN_PAGE_KEY, movies)
+
+    fun genrePage(genre: Genre, order: MovieSearch, page: Int, movies: Page<MovieSearchRespDTO?>?): JsonResponseCache.Entry {
+        if (movies == null || genrePageSnapshot.get(genre, order, page) !== movies) {
+            return jsonCache.uncached(movies)
+        }
+        return jsonCache.of("movie:genre:${genre.name}:${order.name}:$page", movies)
+    }
+
+    fun detail(
+        movieId: String,
+        load: () -> CompletableFuture<MovieDetailRespDTO?>
+    ): CompletableFuture<JsonResponseCache.Entry> {
+        if (counterBuffer.hasPending(movieId)) {
+            return load().thenApply { jsonCache.uncached(it) }
+        }
+        return jsonCache.getAsync(detailKey(movieId), load)
+    }
+
+    fun response(entry: JsonResponseCache.Entry, headers: HttpHeaders): ResponseEntity<ByteArray> {
+        return jsonCache.response(entry, headers)
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    fun onCounterChanged(event: MovieCounterChangedEvent) {
+        jsonCache.evict(detailKey(event.movieId))
+    }
+
+    private fun detailKey(movieId: String) = "movie:detail:$movieId"
+
+    companion object {
+        private const val MAIN_PAGE_KEY = "movie:main"
+    }
+}
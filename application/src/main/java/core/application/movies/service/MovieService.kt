@@ -5,7 +5,9 @@ import core.application.movies.constant.MovieSearch
 import core.application.movies.models.dto.response.MainPageMoviesRespDTO
 import core.application.movies.models.dto.response.MovieDetailRespDTO
 import core.application.movies.models.dto.response.MovieSearchRespDTO
+import core.application.movies.repositories.movie.kmdb.KmdbPriority
 import org.springframework.data.domain.Page
+import java.util.concurrent.CompletableFuture
 
 interface MovieService {
     /**
@@ -24,14 +26,45 @@ interface MovieService {
      */
     fun searchMovies(page: Int?, sort: MovieSearch?, query: String?): Page<MovieSearchRespDTO?>?
 
+    /**
+     * [searchMovies] 의 비동기 버전. KMDB 응답을 기다리는 동안 호출 스레드를 점유하지 않는다.
+     */
+    fun searchMoviesAsync(page: Int?, sort: MovieSearch?, query: String?): CompletableFuture<Page<MovieSearchRespDTO?>?>
+
     fun getMoviesWithGenreRatingOrder(page: Int?, genre: Genre?): Page<MovieSearchRespDTO?>?
 
     fun getMoviesWithGenreLatestOrder(page: Int?, genre: Genre?): Page<MovieSearchRespDTO?>?
 
+    /**
+     * [getMoviesWithGenreLatestOrder] 의 비동기 버전.
+     */
+    fun getMoviesWithGenreLatestOrderAsync(page: Int?, genre: Genre?): CompletableFuture<Page<MovieSearchRespDTO?>?>
+
+    /**
+     * 미리 만들어 둔 페이지를 사용하지 않고 DB 에서 장르 평점순 페이지를 만든다.
+     */
+    fun loadMoviesWithGenreRatingOrder(page: Int?, genre: Genre): Page<MovieSearchRespDTO?>?
+
+    /**
+     * 미리 만들어 둔 페이지를 사용하지 않고 KMDB 응답으로 장르 최신순 페이지를 만든다.
+     *
+     * @param priority KMDB 요청 우선순위
+     */
+    fun loadMoviesWithGenreLatestOrder(
+        page: Int?,
+        genre: Genre,
+        priority: KmdbPriority
+    ): CompletableFuture<Page<MovieSearchRespDTO?>?>
+
     /**
      * 사용자가 영화 상세 페이지에서 필요로 하는 정보를 보내준다.
      * @param movieId KMDB API의 DOCID
      * @return 영화 상세 페이지에서 필요로하는 영화 정보
      */
     fun getMovieDetailInfo(movieId: String?): MovieDetailRespDTO?
+
+    /**
+     * [getMovieDetailInfo] 의 비동기 버전. DB 에 없는 영화만 KMDB 응답을 비동기로 기다린다.
+     */
+    fun getMovieDetailInfoAsync(movieId: String?): CompletableFuture<MovieDetailRespDTO?>
 }
@@ -1,37 +1,48 @@
 package core.application.movies.service
 
-import org.json.JSONArray
-import org.json.JSONException
-import org.json.JSONObject
 import org.springframework.beans.factory.annotation.Value
+import org.springframework.dao.DataIntegrityViolationException
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.PageRequest
 import org.springframework.data.domain.Pageable
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import core.application.api.concurrent.SingleFlight
 import core.application.movies.constant.Genre
 import core.application.movies.constant.KmdbParameter
 import core.application.movies.constant.MovieSearch
 import core.application.movies.exception.NoMovieException
 import core.application.movies.exception.NoSearchResultException
-import core.application.movies.models.dto.response.MainPageMovieRespDTO
 import core.application.movies.models.dto.response.MainPageMoviesRespDTO
 import core.application.movies.models.dto.response.MovieDetailRespDTO
 import core.application.movies.models.dto.response.MovieSearchRespDTO
 import core.application.movies.models.entities.CachedMovieEntity
 import core.application.movies.repositories.movie.CachedMovieRepository
 import core.application.movies.repositories.movie.KmdbApiRepository
+import core.application.movies.repositories.movie.kmdb.KmdbMovie
+import core.application.movies.repositories.movie.kmdb.KmdbPriority
+import core.application.movies.repositories.movie.kmdb.KmdbResponse
 import lombok.RequiredArgsConstructor
 import lombok.extern.slf4j.Slf4j
 import org.hibernate.query.sqm.tree.SqmNode.log
+import io.micrometer.core.instrument.MeterRegistry
+import reactor.core.scheduler.Schedulers
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 class MovieServiceImpl(
     private val movieRepository: CachedMovieRepository,
-    private val kmdbRepository: KmdbApiRepository
+    private val kmdbRepository: KmdbApiRepository,
+    private val searchedMovieWriter: SearchedMovieWriter,
+    private val pagePrefetcher: MoviePagePrefetcher,
+    private val genrePageSnapshot: GenrePageSnapshot,
+    private val mainPageLeaderboard: MainPageLeaderboard,
+    private val counterBuffer: MovieCounterBuffer,
+    meterRegistry: MeterRegistry
 ) : MovieService {
 
     @Value("\${kmdb.api.key}")
@@ -42,38 +53,54 @@ class MovieServiceImpl(
 
     private val DEFAULT_MESSAGE = "알 수 없음"
 
-    @Transactional(readOnly = true)
-    override fun getMainPageMovieInfo(): MainPageMoviesRespDTO {
-        val ratingOrder = movieRepository.selectOnAVGRatingDescend(10)
-            ?.map { it?.let { it1 -> MainPageMovieRespDTO.from(it1) } }
-        val dibOrder = movieRepository.selectOnDibOrderDescend(10)
-            ?.map { it?.let { it1 -> MainPageMovieRespDTO.from(it1) } }
-        val reviewOrder = movieRepository.selectOnReviewCountDescend(10)
-            ?.map { it?.let { it1 -> MainPageMovieRespDTO.from(it1) } }
+    // 같은 영화에 대한 동시 상세 조회는 하나의 KMDB 조회와 하나의 저장만 수행한다.
+    private val detailFlight = SingleFlight<String, MovieDetailRespDTO?>("movie.detail", meterRegistry)
 
-        return MainPageMoviesRespDTO.of(dibOrder, ratingOrder, reviewOrder)
+    override fun getMainPageMovieInfo(): MainPageMoviesRespDTO {
+        return mainPageLeaderboard.mainPageMovies()
     }
 
     override fun searchMovies(page: Int?, sort: MovieSearch?, query: String?): Page<MovieSearchRespDTO?>? {
-        val params = mutableMapOf(
+        val params = searchParams(page, sort, query)
+        return toSearchPage(kmdbRepository.getResponse(params), params, page, query)
+    }
+
+    override fun searchMoviesAsync(
+        page: Int?,
+        sort: MovieSearch?,
+        query: String?
+    ): CompletableFuture<Page<MovieSearchRespDTO?>?> {
+        val params = searchParams(page, sort, query)
+        return kmdbRepository.getResponseAsync(params)
+            .map<Page<MovieSearchRespDTO?>?> { toSearchPage(it, params, page, query) }
+            .toFuture()
+    }
+
+    private fun searchParams(page: Int?, sort: MovieSearch?, query: String?): MutableMap<KmdbParameter, String?> {
+        return mutableMapOf(
             KmdbParameter.START_COUNT to (page?.times(10) ?: 0).toString(), // page가 null일 경우 0으로 설정
             KmdbParameter.SORT to (sort?.SORT ?: MovieSearch.RANK.SORT), // sort가 null일 경우 기본값 RANK 사용
             KmdbParameter.QUERY to query
         )
+    }
 
+    private fun toSearchPage(
+        response: KmdbResponse,
+        params: Map<KmdbParameter, String?>,
+        page: Int?,
+        query: String?
+    ): Page<MovieSearchRespDTO?> {
+        val movies = response.movies ?: throw noSearchResult(query)
+        persistLater(movies)
+        val pageable: Pageable = PageRequest.of(page ?: 0, 10) // page가 null일 경우 0으로 설정
+        val result = PageImpl(parseMovieSearchResults(movies), pageable, response.totalCount.toLong())
+        pagePrefetcher.prefetchNext(params, result)
+        return result
+    }
 
-        val jsonResponse = kmdbRepository.getResponse(params)
-        val searchResult = mutableListOf<MovieSearchRespDTO?>()
-        return try {
-            val pageable: Pageable = PageRequest.of(page ?: 0, 10) // page가 null일 경우 0으로 설정
-
-            val totalMovie = jsonResponse.optInt("TotalCount")
-            parseMoviesFromMovieArray(parseMovieArrayFromJsonResponse(jsonResponse), searchResult)
-            PageImpl(searchResult, pageable, totalMovie.toLong())
-        } catch (e: JSONException) {
-            log.info("[MovieService.searchMovies] '${query}'에 해당하는 검색 결과가 존재하지 않음.")
-            throw NoSearchResultException("'$query'에 해당하는 영화가 없습니다.")
-        }
+    private fun noSearchResult(query: String?): NoSearchResultException {
+        log.info("[MovieService.searchMovies] '${query}'에 해당하는 검색 결과가 존재하지 않음.")
+        return NoSearchResultException("'$query'에 해당하는 영화가 없습니다.")
     }
 
     @Transactional(readOnly = true)
@@ -82,94 +109,158 @@ class MovieServiceImpl(
             log.info("[MovieService.getMoviesWithGenreRatingOrder] '${genre.PARAMETER}' 영화 평점순 제공")
         }
         if (genre != null) {
-            return movieRepository.findMoviesLikeGenreOrderByAvgRating(page, genre.PARAMETER)
-                ?.map { it?.let { it1 -> MovieSearchRespDTO.from(it1) } }
+            genrePageSnapshot.get(genre, MovieSearch.RATING, page)?.let { return it }
+            return loadMoviesWithGenreRatingOrder(page, genre)
         }
         return null;
     }
 
+    @Transactional(readOnly = true)
+    override fun loadMoviesWithGenreRatingOrder(page: Int?, genre: Genre): Page<MovieSearchRespDTO?>? {
+        return movieRepository.findMoviesLikeGenreOrderByAvgRating(page, genre.PARAMETER)
+            ?.map { it?.let { it1 -> MovieSearchRespDTO.from(it1) } }
+    }
+
     override fun getMoviesWithGenreLatestOrder(page: Int?, genre: Genre?): Page<MovieSearchRespDTO?>? {
         log.info("[MovieService.getMoviesWithGenreLatestOrder] '${genre!!.PARAMETER}' 영화 최신순 제공")
-        val result = mutableListOf<MovieSearchRespDTO?>()
+        genrePageSnapshot.get(genre, MovieSearch.LATEST, page)?.let { return it }
+        val params = genreParams(page, genre)
+        return toGenrePage(kmdbRepository.getResponse(params), params, page, genre)
+    }
+
+    override fun getMoviesWithGenreLatestOrderAsync(
+        page: Int?,
+        genre: Genre?
+    ): CompletableFuture<Page<MovieSearchRespDTO?>?> {
+        log.info("[MovieService.getMoviesWithGenreLatestOrder] '${genre!!.PARAMETER}' 영화 최신순 제공")
+        genrePageSnapshot.get(genre, MovieSearch.LATEST, page)?.let { return CompletableFuture.completedFuture(it) }
+        return loadMoviesWithGenreLatestOrder(page, genre, KmdbPriority.INTERACTIVE)
+    }
 
-        val params: MutableMap<KmdbParameter, String?> = mutableMapOf(
+    override fun loadMoviesWithGenreLatestOrder(
+        page: Int?,
+        genre: Genre,
+        priority: KmdbPriority
+    ): CompletableFuture<Page<MovieSearchRespDTO?>?> {
+        val params = genreParams(page, genre)
+        return kmdbRepository.getResponseAsync(params, priority)
+            .map<Page<MovieSearchRespDTO?>?> { toGenrePage(it, params, page, genre) }
+            .toFuture()
+    }
+
+    private fun genreParams(page: Int?, genre: Genre): MutableMap<KmdbParameter, String?> {
+        return mutableMapOf(
             KmdbParameter.START_COUNT to (page?.times(10)).toString(),
             KmdbParameter.SORT to MovieSearch.LATEST.SORT,
             KmdbParameter.GENRE to genre.PARAMETER
         )
+    }
 
-        val jsonResponse = kmdbRepository.getResponse(params)
+    private fun toGenrePage(
+        response: KmdbResponse,
+        params: Map<KmdbParameter, String?>,
+        page: Int?,
+        genre: Genre
+    ): Page<MovieSearchRespDTO?> {
+        val movies = response.movies ?: throw noGenreResult(genre)
+        persistLater(movies)
+        val pageable: Pageable = PageRequest.of(page!!, 10)
+        val result = PageImpl(parseMovieSearchResults(movies), pageable, response.totalCount.toLong())
+        pagePrefetcher.prefetchNext(params, result)
+        return result
+    }
+
+    private fun noGenreResult(genre: Genre): NoSearchResultException {
+        log.info("[MovieService.getMoviesWithGenreLatestOrder] '${genre.PARAMETER}' 장르 영화 검색 결과가 존재하지 않음")
+        return NoSearchResultException("${genre.PARAMETER} 장르에 더 이상 제공되는 영화가 없습니다.")
+    }
+
+    // KMDB 응답을 기다리는 동안 DB 연결을 잡지 않도록 트랜잭션은 저장 시에만 연다.
+    override fun getMovieDetailInfo(movieId: String?): MovieDetailRespDTO? {
         return try {
-            val pageable: Pageable = PageRequest.of(page!!, 10)
-            val totalMovie = jsonResponse.optInt("TotalCount")
-            parseMoviesFromMovieArray(parseMovieArrayFromJsonResponse(jsonResponse), result)
-            PageImpl(result, pageable, totalMovie.toLong())
-        } catch (e: JSONException) {
-            log.info("[MovieService.getMoviesWithGenreLatestOrder] '${genre.PARAMETER}' 장르 영화 검색 결과가 존재하지 않음")
-            throw NoSearchResultException("${genre.PARAMETER} 장르에 더 이상 제공되는 영화가 없습니다.")
+            getMovieDetailInfoAsync(movieId).join()
+        } catch (e: CompletionException) {
+            throw e.cause ?: e
         }
     }
 
-    @Transactional
-    override fun getMovieDetailInfo(movieId: String?): MovieDetailRespDTO? {
+    override fun getMovieDetailInfoAsync(movieId: String?): CompletableFuture<MovieDetailRespDTO?> {
         val find = movieRepository.findByMovieId(movieId)
         if (find!!.isPresent) {
             log.info("[MovieService.getMovieDetailInfo] '${movieId}' 영화 존재하므로 DB 내에서 제공")
-            return MovieDetailRespDTO.from(find.get())
+            return CompletableFuture.completedFuture(MovieDetailRespDTO.from(counterBuffer.merge(find.get())))
         }
 
+        val params = detailParams(movieId)
+        return detailFlight.execute(movieId!!) {
+            // 검색 결과로 받아 저장 대기 중인 영화는 KMDB 를 다시 호출하지 않고 바로 저장한다.
+            searchedMovieWriter.take(movieId)
+                ?.let { CompletableFuture.completedFuture<MovieDetailRespDTO?>(saveMovie(it)) }
+                ?: loadMovieFromKmdb(movieId, params)
+        }
+    }
+
+    private fun loadMovieFromKmdb(
+        movieId: String,
+        params: MutableMap<KmdbParameter, String?>
+    ): CompletableFuture<MovieDetailRespDTO?> {
+        log.info("[MovieService.getMovieDetailInfo] '${movieId}' 영화 존재하지 않으므로 KMDB를 통해 조회 후 DB에 저장 시도")
+        return kmdbRepository.getResponseAsync(params)
+            // DB 저장은 블로킹 작업이므로 네트워크 스레드가 아닌 별도 스레드에서 수행한다.
+            .publishOn(Schedulers.boundedElastic())
+            .map<MovieDetailRespDTO?> { saveMovieFromResponse(it) }
+            .toFuture()
+    }
+
+    private fun detailParams(movieId: String?): MutableMap<KmdbParameter, String?> {
         val docId = movieId?.split("-")
         if (docId!!.size != 2) throw NoMovieException("해당하는 영화가 존재하지 않습니다.")
 
         val (kmdbId, kmdbSeq) = docId
-        val params: MutableMap<KmdbParameter, String?> = mutableMapOf(
+        return mutableMapOf(
             KmdbParameter.MOVIE_ID to kmdbId,
             KmdbParameter.MOVIE_SEQ to kmdbSeq
         )
+    }
 
+    private fun saveMovieFromResponse(response: KmdbResponse): MovieDetailRespDTO {
+        val kmdbMovie = response.movies?.firstOrNull() ?: throw noMovieFromKmdb()
+        return saveMovie(parseCachedMovie(kmdbMovie))
+    }
 
-        log.info("[MovieService.getMovieDetailInfo] '${movieId}' 영화 존재하지 않으므로 KMDB를 통해 조회 후 DB에 저장 시도")
-        val jsonResponse = kmdbRepository.getResponse(params)
-        return try {
-            val movieArray = parseMovieArrayFromJsonResponse(jsonResponse)
-            val movieEntity = parseCachedMovieFromJsonMovie(movieArray)
+    private fun saveMovie(movieEntity: CachedMovieEntity): MovieDetailRespDTO {
+        // 다른 서버가 먼저 저장한 경우 저장된 정보를 제공한다.
+        movieRepository.findByMovieId(movieEntity.movieId)?.orElse(null)?.let {
+            return MovieDetailRespDTO.from(it)
+        }
+        try {
             movieRepository.saveNewMovie(movieEntity)
-            log.info("[MovieService.getMovieDetailInfo] '${movieEntity.movieId}' 영화 저장 완료")
-            MovieDetailRespDTO.from(movieEntity)
-        } catch (e: JSONException) {
-            log.info("[MovieService.getMovieDetailInfo] KMDB API를 통해 영화 조회결과가 적절하지 않음.")
-            throw NoMovieException("해당 영화는 제공되지 않습니다.")
+        } catch (e: DataIntegrityViolationException) {
+            log.info("[MovieService.getMovieDetailInfo] '${movieEntity.movieId}' 영화가 이미 저장되어 있음")
+            return movieRepository.findByMovieId(movieEntity.movieId)?.orElse(null)
+                ?.let { MovieDetailRespDTO.from(it) }
+                ?: throw e
         }
+        log.info("[MovieService.getMovieDetailInfo] '${movieEntity.movieId}' 영화 저장 완료")
+        return MovieDetailRespDTO.from(movieEntity)
     }
 
-    private fun parseCachedMovieFromJsonMovie(movieArray: JSONArray): CachedMovieEntity {
-        val jsonMovie = movieArray.getJSONObject(0)
-
-        val movieId = getDataWithException("${jsonMovie.optString("movieId")}-${jsonMovie.optString("movieSeq")}")
-        val title = getDataWithException(
-            jsonMovie.optString("title")
-                .replace("!HS", "")
-                .replace("!HE", "")
-                .trim()
-        )
-        val imgUrl = getDataWithDefault(jsonMovie.optString("posters"), defaultImgUrl).split("|")[0]
-        val genre = getDataWithDefault(jsonMovie.optString("genre"), DEFAULT_MESSAGE)
-        val releaseDate = getDataWithDefault(jsonMovie.optString("repRlsDate"), DEFAULT_MESSAGE)
-        val plot = safeParsePlotWithDefault(jsonMovie)
-        val runtime = getDataWithDefault(jsonMovie.optString("runtime"), DEFAULT_MESSAGE)
-        val actors = safeParseActorsWithDefault(jsonMovie)
-        val director = safeParseDirectorWithDefault(jsonMovie)
+    private fun noMovieFromKmdb(): NoMovieException {
+        log.info("[MovieService.getMovieDetailInfo] KMDB API를 통해 영화 조회결과가 적절하지 않음.")
+        return NoMovieException("해당 영화는 제공되지 않습니다.")
+    }
 
+    private fun parseCachedMovie(kmdbMovie: KmdbMovie): CachedMovieEntity {
         return CachedMovieEntity(
-            movieId,
-            title,
-            imgUrl,
-            genre,
-            releaseDate,
-            plot,
-            runtime,
-            actors,
-            director,
+            getDataWithException(kmdbMovie.docId),
+            getDataWithException(kmdbMovie.title),
+            getDataWithDefault(kmdbMovie.posterUrl, defaultImgUrl),
+            getDataWithDefault(kmdbMovie.genre, DEFAULT_MESSAGE),
+            getDataWithDefault(kmdbMovie.repRlsDate, DEFAULT_MESSAGE),
+            getDataWithDefault(kmdbMovie.plot, DEFAULT_MESSAGE),
+            getDataWithDefault(kmdbMovie.runtime, DEFAULT_MESSAGE),
+            getDataWithDefault(kmdbMovie.actors, DEFAULT_MESSAGE),
+            getDataWithDefault(kmdbMovie.director, DEFAULT_MESSAGE),
             0L,
             0L,
             0L,
@@ -177,36 +268,19 @@ class MovieServiceImpl(
         )
     }
 
-    private fun safeParsePlotWithDefault(jsonMovie: JSONObject): String {
-        return try {
-            val plotArray = jsonMovie.optJSONObject("plots")?.optJSONArray("plot") ?: return DEFAULT_MESSAGE
-            (0 until plotArray.length()).mapNotNull { i ->
-                plotArray.getJSONObject(i).takeIf { it.optString("plotLang") == "한국어" }
-            }.firstOrNull()?.optString("plotText") ?: DEFAULT_MESSAGE
-        } catch (e: JSONException) {
-            DEFAULT_MESSAGE
-        }
-    }
-
-    private fun safeParseActorsWithDefault(jsonMovie: JSONObject): String {
-        return try {
-            val actorsArray = jsonMovie.optJSONObject("actors")?.optJSONArray("actor") ?: return DEFAULT_MESSAGE
-            (0 until Math.min(actorsArray.length(), 5))
-                .joinToString(", ") { actorsArray.getJSONObject(it).optString("actorNm") }
-                .takeIf { it != DEFAULT_MESSAGE } ?: DEFAULT_MESSAGE
-        } catch (e: JSONException) {
-            DEFAULT_MESSAGE
-        }
-    }
-
-    private fun safeParseDirectorWithDefault(jsonMovie: JSONObject): String {
-        return try {
-            val directorsArray =
-                jsonMovie.optJSONObject("directors")?.optJSONArray("director") ?: return DEFAULT_MESSAGE
-            directorsArray.getJSONObject(0).optString("directorNm") ?: DEFAULT_MESSAGE
-        } catch (e: JSONException) {
-            DEFAULT_MESSAGE
+    /**
+     * 검색 결과 영화를 [SearchedMovieWriter] 를 통해 나중에 한 번에 저장한다.
+     * 필수 정보가 없는 영화는 제외한다.
+     */
+    private fun persistLater(movies: List<KmdbMovie>) {
+        val entities = movies.mapNotNull {
+            try {
+                parseCachedMovie(it)
+            } catch (e: NoMovieException) {
+                null
+            }
         }
+        searchedMovieWriter.enqueue(entities)
     }
 
     private fun getDataWithException(str: String): String {
@@ -217,27 +291,14 @@ class MovieServiceImpl(
         return input?.takeIf { it.trim().isNotEmpty() } ?: defaultString
     }
 
-    private fun parseMovieArrayFromJsonResponse(jsonResponse: JSONObject): JSONArray {
-        return jsonResponse.getJSONArray("Data")
-            .getJSONObject(0)
-            .getJSONArray("Result")
-    }
-
-    private fun parseMoviesFromMovieArray(movieArray: JSONArray, result: MutableList<MovieSearchRespDTO?>) {
-        for (i in 0 until movieArray.length()) {
-            val movie = movieArray.getJSONObject(i)
-            val id = getDataWithException(movie.optString("movieId") + "-" + movie.optString("movieSeq"))
-            val title = getDataWithException(
-                movie.optString("title")
-                    .replace("!HS", "")
-                    .replace("!HE", "")
-                    .trim()
+    private fun parseMovieSearchResults(movies: List<KmdbMovie>): List<MovieSearchRespDTO?> {
+        return movies.map { movie ->
+            MovieSearchRespDTO(
+                getDataWithException(movie.docId),
+                getDataWithException(movie.title),
+                getDataWithDefault(movie.posterUrl, defaultImgUrl),
+                getDataWithDefault(movie.prodYear, DEFAULT_MESSAGE)
             )
-            val imgUrl = getDataWithDefault(movie.optString("posters"), defaultImgUrl).split("|")[0]
-            val producedYear = getDataWithDefault(movie.optString("prodYear"), DEFAULT_MESSAGE)
-            val search = MovieSearchRespDTO(id, title, imgUrl, producedYear)
-            result.add(search)
         }
     }
 }
-
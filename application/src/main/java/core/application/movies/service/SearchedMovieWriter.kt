@@ -0,0 +1,142 @@
+package core.application.movies.service
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import core.application.movies.models.entities.CachedMovieEntity
+import core.application.movies.repositories.movie.CachedMovieRepository
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.dao.DataAccessException
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 검색 결과로 받은 영화 정보를 모아 두었다가 주기적으로 한 번에 DB 에 저장한다.
+ *
+ * 검색 요청은 `detail=Y` 로 보내므로 검색 결과에 상세 정보가 모두 들어 있다.
+ * 미리 저장해 두면 검색 후 상세 조회 시 KMDB 를 다시 호출하지 않는다.
+ *
+ * - 같은 영화는 한 번만 대기하며, 대기 중인 영화 수는 `kmdb.movie-upsert.max-pending` 을 넘지 않는다.
+ * - `kmdb.movie-upsert.flush-interval` 마다 `kmdb.movie-upsert.batch-size` 개씩 저장한다.
+ * - 최근 저장했거나 이미 DB 에 있는 것으로 확인된 영화는 다시 대기시키지 않는다.
+ */
+@Component
+class SearchedMovieWriter(
+    private val movieRepository: CachedMovieRepository,
+    @Value("\${kmdb.movie-upsert.batch-size:100}") private val batchSize: Int,
+    @Value("\${kmdb.movie-upsert.max-pending:2000}") private val maxPending: Int,
+    meterRegistry: MeterRegistry
+) {
+    private val log = LoggerFactory.getLogger(SearchedMovieWriter::class.java)
+
+    private val pending = ConcurrentHashMap<String, CachedMovieEntity>()
+
+    private val persisted: Cache<String, Boolean> = Caffeine.newBuilder()
+        .maximumSize(PERSISTED_CACHE_SIZE)
+        .expireAfterWrite(Duration.ofHours(1))
+        .build()
+
+    private val insertedCounter = counter(meterRegistry, "inserted")
+    private val existingCounter = counter(meterRegistry, "existing")
+    private val droppedCounter = counter(meterRegistry, "dropped")
+    private val failedCounter = counter(meterRegistry, "failed")
+
+    init {
+        Gauge.builder("movie.upsert.pending", pending) { it.size.toDouble() }
+            .register(meterRegistry)
+    }
+
+    /**
+     * 저장할 영화를 대기열에 추가한다. 호출 스레드에서 DB 에 접근하지 않는다.
+     */
+    fun enqueue(movies: Collection<CachedMovieEntity>) {
+        for (movie in movies) {
+            val movieId = movie.movieId ?: continue
+            if (persisted.getIfPresent(movieId) != null) continue
+            if (pending.size >= maxPending) {
+                droppedCounter.increment()
+                continue
+            }
+            pending.putIfAbsent(movieId, movie)
+        }
+    }
+
+    /**
+     * 대기 중인 영화를 대기열에서 꺼낸다.
+     *
+     * @return 대기 중인 영화 정보, 없으면 `null`
+     */
+    fun take(movieId: String): CachedMovieEntity? = pending.remove(movieId)
+
+    fun pendingCount(): Int = pending.size
+
+    @Scheduled(fixedDelayString = "\${kmdb.movie-upsert.flush-interval:1s}")
+    fun flush() {
+        while (pending.isNotEmpty()) {
+            val batch = drain()
+            if (batch.isEmpty()) return
+            write(batch)
+        }
+    }
+
+    @PreDestroy
+    fun flushOnShutdown() {
+        flush()
+    }
+
+    private fun drain(): List<CachedMovieEntity> {
+        val batch = ArrayList<CachedMovieEntity>(batchSize)
+        val keys = pending.keys.iterator()
+        while (keys.hasNext() && batch.size < batchSize) {
+            pending.remove(keys.next())?.let { batch.add(it) }
+        }
+        return batch
+    }
+
+    private fun write(batch: List<CachedMovieEntity>) {
+        try {
+            val inserted = try {
+                movieRepository.saveNewMovies(batch)
+            } catch (e: DataIntegrityViolationException) {
+                // 한 건 때문에 전체가 실패한 경우 한 건씩 다시 저장한다.
+                writeEach(batch)
+            }
+            insertedCounter.increment(inserted.toDouble())
+            existingCounter.increment((batch.size - inserted).toDouble())
+            batch.forEach { persisted.put(it.movieId!!, true) }
+        } catch (e: DataAccessException) {
+            // 미리 저장하지 못해도 상세 조회 시 KMDB 를 통해 저장된다.
+            failedCounter.increment(batch.size.toDouble())
+            log.warn("[SearchedMovieWriter.write] 검색 결과 영화 {}건 저장 실패 : {}", batch.size, e.message)
+        }
+    }
+
+    private fun writeEach(batch: List<CachedMovieEntity>): Int {
+        var inserted = 0
+        for (movie in batch) {
+            try {
+                inserted += movieRepository.saveNewMovies(listOf(movie))
+            } catch (e: DataIntegrityViolationException) {
+                log.info("[SearchedMovieWriter.write] '{}' 영화 저장 건너뜀 : {}", movie.movieId, e.message)
+            }
+        }
+        return inserted
+    }
+
+    private fun counter(meterRegistry: MeterRegistry, result: String): Counter {
+        return Counter.builder("movie.upsert")
+            .tag("result", result)
+            .register(meterRegistry)
+    }
+
+    companion object {
+        private const val PERSISTED_CACHE_SIZE = 10_000L
+    }
+}
@@ -13,6 +13,7 @@ import core.application.reviews.models.entities.ReviewCommentEntity
 import core.application.reviews.services.ReviewCommentService
 import core.application.reviews.services.ReviewCommentSortOrder
 import core.application.security.auth.CustomUserDetails
+import core.application.users.service.UserAliasService
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.Parameter
 import io.swagger.v3.oas.annotations.Parameters
@@ -36,7 +37,10 @@ import java.util.function.Function
 @RestController
 @RequestMapping("/movies/{movieId}/reviews/{reviewId}")
 @Tag(name = "Review Comment", description = "영화 후기 포스팅 댓글과 관련된 API")
-class ReviewCommentController(private val reviewCommentService: ReviewCommentService) {
+class ReviewCommentController(
+    private val reviewCommentService: ReviewCommentService,
+    private val userAliasService: UserAliasService
+) {
     /**
      * 부모 댓글 보여주는 앤드포인트
      *
@@ -65,8 +69,7 @@ class ReviewCommentController(private val reviewCommentService: ReviewCommentSer
                 reviewId, ReviewCommentSortOrder.LIKE,
                 offset, COMMENTS_PER_PAGE
             )
-            .stream().map { reviewCommentEntity -> ShowCommentsRespDTO.of(reviewCommentEntity) }
-            .toList()
+            .let { withAliases(it) }
 
         val total = reviewCommentService.getNumberOfParentComment(reviewId)
 
@@ -108,8 +111,7 @@ class ReviewCommentController(private val reviewCommentService: ReviewCommentSer
         val childReviewComments = reviewCommentService.getChildReviewCommentsOnParent(
             reviewId, groupId, offset, COMMENTS_PER_PAGE
         )
-            .stream().map { reviewCommentEntity -> ShowCommentsRespDTO.of(reviewCommentEntity) }
-            .toList()
+            .let { withAliases(it) }
 
         val total = reviewCommentService.getNumberOfChildComment(groupId)
 
@@ -309,6 +311,12 @@ class ReviewCommentController(private val reviewCommentService: ReviewCommentSer
         resp.addCookie(cookie)
     }
 
+    // 한 페이지의 작성자 닉네임은 한 번에 조회한다.
+    private fun withAliases(comments: List<ReviewCommentEntity>): List<ShowCommentsRespDTO> {
+        val aliases = userAliasService.getAliases(comments.map { it.userId })
+        return comments.map { ShowCommentsRespDTO.of(it, aliases[it.userId]) }
+    }
+
     companion object {
         private val log: Logger = LoggerFactory.getLogger(ReviewCommentController::class.java)
         private const val COMMENTS_PER_PAGE = 10
@@ -16,7 +16,8 @@ import core.application.reviews.models.entities.ReviewEntity
 import core.application.reviews.services.ReviewService
 import core.application.reviews.services.ReviewSortOrder
 import core.application.security.auth.CustomUserDetails
-import core.application.users.service.UserService
+import core.application.users.exception.UserNotFoundException
+import core.application.users.service.UserAliasService
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
 import jakarta.servlet.http.Cookie
@@ -40,7 +41,7 @@ import java.util.function.Function
 @RestController
 class ReviewController(
     private val reviewService: ReviewService,
-    private val userService: UserService
+    private val userAliasService: UserAliasService
 ) {
 
 
@@ -100,13 +101,10 @@ class ReviewController(
     fun getReviewInfo(@PathVariable("reviewId") reviewId: Long): ApiResponse<ReviewInfoRespDTO> {
         val searchResult = reviewService.getReviewInfo(reviewId, true)
 
-        // TODO 주어진 userId 에 해당하는 사용자가 없으면 던지는 exception 이 없네...?
-        // TODO 나중에 생기면 orElseThrow 에 추가
-        val userAlias = userService.getUserByUserId(searchResult.userId)!!
-            .orElseThrow()!!
-            .alias
+        val userAlias = userAliasService.getAlias(searchResult.userId)
+            ?: throw UserNotFoundException("리뷰 작성자가 존재하지 않습니다.")
 
-        return ApiResponse.onSuccess(valueOf(userAlias!!, searchResult))
+        return ApiResponse.onSuccess(valueOf(userAlias, searchResult))
     }
 
     /**
@@ -33,14 +33,18 @@ data class ShowCommentsRespDTO(
     var createdAt: Instant?,
 
     @Schema(description = "댓글 수정 여부")
-    var isUpdated:Boolean? = false
+    var isUpdated:Boolean? = false,
+
+    @Schema(description = "댓글 작성자 닉네임")
+    var alias: String? = null
 ) {
     companion object {
         /**
          * `Entity` 에서 `DTO` 로 변환
          */
         @JvmStatic
-        fun of(entity: ReviewCommentEntity): ShowCommentsRespDTO {
+        @JvmOverloads
+        fun of(entity: ReviewCommentEntity, alias: String? = null): ShowCommentsRespDTO {
             return ShowCommentsRespDTO(
                 reviewCommentId = entity.reviewCommentId,
                 reviewId = entity.reviewId,
@@ -50,7 +54,8 @@ data class ShowCommentsRespDTO(
                 content = entity.content,
                 likes = entity.like,
                 createdAt = entity.createdAt,
-                isUpdated = entity.isUpdated
+                isUpdated = entity.isUpdated,
+                alias = alias
             )
         }
     }
@@ -13,7 +13,13 @@ import java.util.*
  * @see core.application.reviews.repositories.ReviewCommentRepository
  */
 @Entity
-@Table(name = "review_comment_table")
+@Table(
+    name = "review_comment_table",
+    indexes = [
+        Index(name = "review_comment_table_review_id_group_id_like_index", columnList = "review_id, group_id, `like`"),
+        Index(name = "review_comment_table_group_id_index", columnList = "group_id")
+    ]
+)
 class ReviewCommentEntity (
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -12,7 +12,10 @@ import java.util.*
  * @see core.application.reviews.repositories.ReviewRepository
  */
 @Entity
-@Table(name = "review_table")
+@Table(
+    name = "review_table",
+    indexes = [Index(name = "review_table_movie_id_like_index", columnList = "movie_id, `like`")]
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,21 @@
+package core.application.reviews.models.events
+
+/**
+ * 리뷰가 작성되거나 삭제되었음을 알리는 이벤트
+ *
+ * 트랜잭션 안에서 발행되면 커밋 이후에 처리된다.
+ *
+ * @param reviewId 변경된 리뷰 ID, 같은 리뷰에 대한 이벤트를 중복 처리하지 않는 데 사용한다.
+ * @param movieId 리뷰가 달린 영화 ID
+ * @param type 변경 종류
+ */
+data class ReviewChangedEvent(
+    val reviewId: Long,
+    val movieId: String,
+    val type: Type
+) {
+    enum class Type(val delta: Long) {
+        CREATED(1),
+        DELETED(-1)
+    }
+}
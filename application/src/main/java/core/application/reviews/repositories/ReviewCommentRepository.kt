@@ -1,5 +1,6 @@
 package core.application.reviews.repositories
 
+import core.application.api.pagination.CursorSlice
 import core.application.reviews.models.entities.ReviewCommentEntity
 import java.util.*
 
@@ -101,6 +102,32 @@ interface ReviewCommentRepository {
         num: Int
     ): List<ReviewCommentEntity>
 
+    /**
+     * 특정 포스팅에 달린 부모 댓글을 최신순으로 `cursor` 다음부터 검색
+     * <br>
+     * 댓글 ID 는 작성 순서대로 증가하므로 ID 내림차순으로 정렬한다.
+     *
+     * @param reviewId 검색할 포스팅 ID
+     * @param cursor   이전 페이지의 [CursorSlice.nextCursor], 첫 페이지면 `null`
+     * @param num      가져올 개수
+     * @return [CursorSlice]`<`[ReviewCommentEntity]`>`
+     * @throws IllegalArgumentException 올바르지 않은 `cursor`
+     */
+    fun findParentCommentByReviewIdOnDateDescendAfter(
+        reviewId: Long, cursor: String?,
+        num: Int
+    ): CursorSlice<ReviewCommentEntity>
+
+    /**
+     * 특정 포스팅에 달린 부모 댓글을 `(좋아요, ID)` 내림차순으로 `cursor` 다음부터 검색
+     *
+     * @see findParentCommentByReviewIdOnDateDescendAfter
+     */
+    fun findParentCommentByReviewIdOnLikeDescendAfter(
+        reviewId: Long, cursor: String?,
+        num: Int
+    ): CursorSlice<ReviewCommentEntity>
+
     /**
      * 특정 포스팅에 달린 모든 부모 댓글의 개수를 확인
      *
@@ -122,6 +149,14 @@ interface ReviewCommentRepository {
      */
     fun findChildCommentsByGroupId(groupId: Long, offset: Int, num: Int): List<ReviewCommentEntity>
 
+    /**
+     * 특정 부모 댓글에 달린 자식 댓글들을 최신순으로 `cursor` 다음부터 검색
+     *
+     * @param groupId 부모 댓글의 ID
+     * @see findParentCommentByReviewIdOnDateDescendAfter
+     */
+    fun findChildCommentsByGroupIdAfter(groupId: Long, cursor: String?, num: Int): CursorSlice<ReviewCommentEntity>
+
     /**
      * 특정 부모 댓글 아래 자식 댓글의 개수를 확인
      *
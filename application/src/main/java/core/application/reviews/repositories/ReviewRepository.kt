@@ -1,5 +1,6 @@
 package core.application.reviews.repositories
 
+import core.application.api.pagination.CursorSlice
 import core.application.reviews.models.entities.ReviewEntity
 import java.util.*
 
@@ -67,6 +68,33 @@ interface ReviewRepository {
      */
     fun findByMovieIdOnLikeDescend(movieId: String, offset: Int, num: Int): List<ReviewEntity>
 
+    /**
+     * 특정 영화의 후기 포스팅들을 최신순으로 `cursor` 다음부터 검색
+     * <br>
+     * 포스팅 ID 는 작성 순서대로 증가하므로 ID 내림차순으로 정렬한다.
+     *
+     * @param movieId     검색할 영화 ID
+     * @param cursor      이전 페이지의 [CursorSlice.nextCursor], 첫 페이지면 `null`
+     * @param num         가져올 포스팅 수
+     * @param withContent 포스팅 본문을 load 할지 여부
+     * @return [CursorSlice]`<`[ReviewEntity]`>`
+     * @throws IllegalArgumentException 올바르지 않은 `cursor`
+     */
+    fun findByMovieIdOnDateDescendAfter(
+        movieId: String, cursor: String?,
+        num: Int, withContent: Boolean
+    ): CursorSlice<ReviewEntity>
+
+    /**
+     * 특정 영화의 후기 포스팅들을 `(좋아요, ID)` 내림차순으로 `cursor` 다음부터 검색
+     *
+     * @see findByMovieIdOnDateDescendAfter
+     */
+    fun findByMovieIdOnLikeDescendAfter(
+        movieId: String, cursor: String?,
+        num: Int, withContent: Boolean
+    ): CursorSlice<ReviewEntity>
+
     //</editor-fold>
     //<editor-fold desc="특정 영화의 포스팅을 본문 없이 검색">
     /**
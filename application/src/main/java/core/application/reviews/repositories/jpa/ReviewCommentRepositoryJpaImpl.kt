@@ -1,5 +1,7 @@
 package core.application.reviews.repositories.jpa
 
+import core.application.api.pagination.CursorSlice
+import core.application.api.pagination.SeekCursor
 import core.application.reviews.exceptions.NoReviewCommentFoundException
 import core.application.reviews.models.entities.ReviewCommentEntity
 import core.application.reviews.repositories.ReviewCommentRepository
@@ -102,6 +104,30 @@ class ReviewCommentRepositoryJpaImpl (
         return jpaRepo.findParentCommentByReviewIdOnLikeDescend(reviewId, offset, num)
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    override fun findParentCommentByReviewIdOnDateDescendAfter(
+        reviewId: Long,
+        cursor: String?, num: Int
+    ): CursorSlice<ReviewCommentEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = jpaRepo.findParentCommentByReviewIdOnIdDescendAfter(reviewId, after.id, num + 1)
+        return CursorSlice.of(rows, num) { SeekCursor.of(it.reviewCommentId) }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun findParentCommentByReviewIdOnLikeDescendAfter(
+        reviewId: Long,
+        cursor: String?, num: Int
+    ): CursorSlice<ReviewCommentEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = jpaRepo.findParentCommentByReviewIdOnLikeDescendAfter(reviewId, after.key, after.id, num + 1)
+        return CursorSlice.of(rows, num) { SeekCursor(it.like.toLong(), it.reviewCommentId) }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -116,6 +142,18 @@ class ReviewCommentRepositoryJpaImpl (
         return jpaRepo.findChildCommentsByGroupId(groupId, offset, num)
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    override fun findChildCommentsByGroupIdAfter(
+        groupId: Long,
+        cursor: String?, num: Int
+    ): CursorSlice<ReviewCommentEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = jpaRepo.findChildCommentsByGroupIdAfter(groupId, after.id, num + 1)
+        return CursorSlice.of(rows, num) { SeekCursor.of(it.reviewCommentId) }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,5 +1,7 @@
 package core.application.reviews.repositories.jpa
 
+import core.application.api.pagination.CursorSlice
+import core.application.api.pagination.SeekCursor
 import core.application.reviews.exceptions.NoReviewFoundException
 import core.application.reviews.models.entities.ReviewEntity
 import core.application.reviews.repositories.ReviewRepository
@@ -121,6 +123,30 @@ class ReviewRepositoryJpaImpl(
         return results
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    override fun findByMovieIdOnDateDescendAfter(
+        movieId: String, cursor: String?,
+        num: Int, withContent: Boolean
+    ): CursorSlice<ReviewEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = jpaRepo.findByMovieIdOnIdDescendAfter(movieId, after.id, num + 1)
+        return CursorSlice.of(dropContentUnless(withContent, rows), num) { SeekCursor.of(it.reviewId) }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun findByMovieIdOnLikeDescendAfter(
+        movieId: String, cursor: String?,
+        num: Int, withContent: Boolean
+    ): CursorSlice<ReviewEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = jpaRepo.findByMovieIdOnLikeDescendAfter(movieId, after.key, after.id, num + 1)
+        return CursorSlice.of(dropContentUnless(withContent, rows), num) { SeekCursor(it.like.toLong(), it.reviewId) }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -180,4 +206,10 @@ class ReviewRepositoryJpaImpl(
     override fun deleteReview(reviewId: Long) {
         jpaRepo.deleteById(reviewId)
     }
+
+    private fun dropContentUnless(withContent: Boolean, results: List<ReviewEntity>): List<ReviewEntity> {
+        if (withContent) return results
+        // JPA 변경 감지 때문에 copy
+        return results.map { ReviewEntity.copyOf(it).apply { changeContent("") } }
+    }
 }
@@ -27,6 +27,30 @@ interface JpaReviewCommentRepository : JpaRepository<ReviewCommentEntity?, Long?
         offset: Int, num: Int
     ): List<ReviewCommentEntity>
 
+    @Query(
+        value = (" SELECT * FROM review_comment_table "
+                + " WHERE review_id = :reviewId AND group_id IS NULL "
+                + " AND review_comment_id < :id "
+                + " ORDER BY review_comment_id DESC "
+                + " LIMIT :num "), nativeQuery = true
+    )
+    fun findParentCommentByReviewIdOnIdDescendAfter(
+        reviewId: Long?,
+        id: Long, num: Int
+    ): List<ReviewCommentEntity>
+
+    @Query(
+        value = (" SELECT * FROM review_comment_table "
+                + " WHERE review_id = :reviewId AND group_id IS NULL "
+                + " AND (`like` < :key OR (`like` = :key AND review_comment_id < :id)) "
+                + " ORDER BY `like` DESC, review_comment_id DESC "
+                + " LIMIT :num "), nativeQuery = true
+    )
+    fun findParentCommentByReviewIdOnLikeDescendAfter(
+        reviewId: Long?,
+        key: Long, id: Long, num: Int
+    ): List<ReviewCommentEntity>
+
     @Query(
         (" SELECT COUNT(*) FROM ReviewCommentEntity r "
                 + " WHERE r.reviewId = :reviewId AND r.groupId IS NULL ")
@@ -44,6 +68,17 @@ interface JpaReviewCommentRepository : JpaRepository<ReviewCommentEntity?, Long?
         offset: Int, num: Int
     ): List<ReviewCommentEntity>
 
+    @Query(
+        value = (" SELECT * FROM review_comment_table "
+                + " WHERE group_id = :groupId AND review_comment_id < :id "
+                + " ORDER BY review_comment_id DESC "
+                + " LIMIT :num "), nativeQuery = true
+    )
+    fun findChildCommentsByGroupIdAfter(
+        groupId: Long?,
+        id: Long, num: Int
+    ): List<ReviewCommentEntity>
+
     @Query(
         (" SELECT COUNT(*) FROM ReviewCommentEntity r "
                 + " WHERE r.groupId = :groupId ")
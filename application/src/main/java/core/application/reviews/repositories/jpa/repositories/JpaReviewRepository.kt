@@ -42,6 +42,29 @@ interface JpaReviewRepository : JpaRepository<ReviewEntity?, Long?> {
         offset: Int, num: Int
     ): List<ReviewEntity>
 
+    @Query(
+        value = (" SELECT * FROM review_table "
+                + " WHERE movie_id = :movieId AND review_id < :id "
+                + " ORDER BY review_id DESC "
+                + " LIMIT :num"), nativeQuery = true
+    )
+    fun findByMovieIdOnIdDescendAfter(
+        movieId: String?,
+        id: Long, num: Int
+    ): List<ReviewEntity>
+
+    @Query(
+        value = (" SELECT * FROM review_table "
+                + " WHERE movie_id = :movieId "
+                + " AND (`like` < :key OR (`like` = :key AND review_id < :id)) "
+                + " ORDER BY `like` DESC, review_id DESC "
+                + " LIMIT :num"), nativeQuery = true
+    )
+    fun findByMovieIdOnLikeDescendAfter(
+        movieId: String?,
+        key: Long, id: Long, num: Int
+    ): List<ReviewEntity>
+
     fun countByMovieId(movieId: String?): Long
 
     fun findByUserId(userId: UUID?): List<ReviewEntity>
@@ -1,5 +1,7 @@
 package core.application.reviews.repositories.mybatis
 
+import core.application.api.pagination.CursorSlice
+import core.application.api.pagination.SeekCursor
 import core.application.reviews.models.entities.ReviewCommentEntity
 import core.application.reviews.repositories.ReviewCommentRepository
 import core.application.reviews.repositories.mybatis.mappers.ReviewCommentMapper
@@ -103,6 +105,30 @@ class MyBatisReviewCommentRepository(
         return mapper.findParentCommentByReviewIdOnLikeDescend(reviewId, offset, num)
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    override fun findParentCommentByReviewIdOnDateDescendAfter(
+        reviewId: Long,
+        cursor: String?, num: Int
+    ): CursorSlice<ReviewCommentEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = mapper.findParentCommentByReviewIdOnIdDescendAfter(reviewId, after.id, num + 1)
+        return CursorSlice.of(rows, num) { SeekCursor.of(it.reviewCommentId) }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun findParentCommentByReviewIdOnLikeDescendAfter(
+        reviewId: Long,
+        cursor: String?, num: Int
+    ): CursorSlice<ReviewCommentEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = mapper.findParentCommentByReviewIdOnLikeDescendAfter(reviewId, after.key, after.id, num + 1)
+        return CursorSlice.of(rows, num) { SeekCursor(it.like.toLong(), it.reviewCommentId) }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -117,6 +143,18 @@ class MyBatisReviewCommentRepository(
         return mapper.findChildCommentsByGroupId(groupId, offset, num)
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    override fun findChildCommentsByGroupIdAfter(
+        groupId: Long,
+        cursor: String?, num: Int
+    ): CursorSlice<ReviewCommentEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = mapper.findChildCommentsByGroupIdAfter(groupId, after.id, num + 1)
+        return CursorSlice.of(rows, num) { SeekCursor.of(it.reviewCommentId) }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,5 +1,7 @@
 package core.application.reviews.repositories.mybatis
 
+import core.application.api.pagination.CursorSlice
+import core.application.api.pagination.SeekCursor
 import core.application.reviews.models.entities.ReviewEntity
 import core.application.reviews.repositories.ReviewRepository
 import core.application.reviews.repositories.mybatis.mappers.ReviewMapper
@@ -89,6 +91,30 @@ class MyBatisReviewRepository(
         return mapper.findByMovieIdWithoutContentOnLikeDescend(movieId, offset, num)
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    override fun findByMovieIdOnDateDescendAfter(
+        movieId: String, cursor: String?,
+        num: Int, withContent: Boolean
+    ): CursorSlice<ReviewEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = mapper.findByMovieIdOnIdDescendAfter(movieId, after.id, num + 1, withContent)
+        return CursorSlice.of(rows, num) { SeekCursor.of(it.reviewId) }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun findByMovieIdOnLikeDescendAfter(
+        movieId: String, cursor: String?,
+        num: Int, withContent: Boolean
+    ): CursorSlice<ReviewEntity> {
+        val after = SeekCursor.decode(cursor)
+        val rows = mapper.findByMovieIdOnLikeDescendAfter(movieId, after.key, after.id, num + 1, withContent)
+        return CursorSlice.of(rows, num) { SeekCursor(it.like.toLong(), it.reviewId) }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -83,6 +83,36 @@ interface ReviewCommentMapper {
         @Param("num") num: Int
     ): List<ReviewCommentEntity>
 
+    /**
+     * 특정 포스팅에 달린 부모 댓글을 `review_comment_id` 내림차순으로 `id` 다음부터 검색
+     *
+     * @param reviewId 검색할 포스팅 ID
+     * @param id       이전 페이지의 마지막 댓글 ID
+     * @param num      가져올 개수
+     * @return [List]`<`[ReviewCommentEntity]`>`
+     */
+    fun findParentCommentByReviewIdOnIdDescendAfter(
+        @Param("reviewId") reviewId: Long?,
+        @Param("id") id: Long,
+        @Param("num") num: Int
+    ): List<ReviewCommentEntity>
+
+    /**
+     * 특정 포스팅에 달린 부모 댓글을 `(like, review_comment_id)` 내림차순으로 `(key, id)` 다음부터 검색
+     *
+     * @param reviewId 검색할 포스팅 ID
+     * @param key      이전 페이지의 마지막 댓글 좋아요 수
+     * @param id       이전 페이지의 마지막 댓글 ID
+     * @param num      가져올 개수
+     * @return [List]`<`[ReviewCommentEntity]`>`
+     */
+    fun findParentCommentByReviewIdOnLikeDescendAfter(
+        @Param("reviewId") reviewId: Long?,
+        @Param("key") key: Long,
+        @Param("id") id: Long,
+        @Param("num") num: Int
+    ): List<ReviewCommentEntity>
+
     /**
      * 특정 포스팅에 달린 모든 부모 댓글의 개수를 확인
      *
@@ -106,6 +136,20 @@ interface ReviewCommentMapper {
         @Param("num") num: Int
     ): List<ReviewCommentEntity>
 
+    /**
+     * 특정 부모 댓글에 달린 자식 댓글들을 `review_comment_id` 내림차순으로 `id` 다음부터 검색
+     *
+     * @param groupId 부모 댓글의 ID
+     * @param id      이전 페이지의 마지막 댓글 ID
+     * @param num     가져올 개수
+     * @return [List]`<`[ReviewCommentEntity]`>`
+     */
+    fun findChildCommentsByGroupIdAfter(
+        @Param("groupId") groupId: Long?,
+        @Param("id") id: Long,
+        @Param("num") num: Int
+    ): List<ReviewCommentEntity>
+
     /**
      * 특정 부모 댓글 아래 자식 댓글의 개수를 확인
      *
@@ -53,6 +53,21 @@ interface ReviewMapper {
         @Param("num") num: Int
     ): List<ReviewEntity>
 
+    fun findByMovieIdOnIdDescendAfter(
+        @Param("movieId") movieId: String?,
+        @Param("id") id: Long,
+        @Param("num") num: Int,
+        @Param("withContent") withContent: Boolean
+    ): List<ReviewEntity>
+
+    fun findByMovieIdOnLikeDescendAfter(
+        @Param("movieId") movieId: String?,
+        @Param("key") key: Long,
+        @Param("id") id: Long,
+        @Param("num") num: Int,
+        @Param("withContent") withContent: Boolean
+    ): List<ReviewEntity>
+
     fun countByMovieId(movieId: String?): Long
 
     fun findByUserId(userId: UUID?): List<ReviewEntity>
@@ -0,0 +1,52 @@
+package core.application.reviews.services
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import core.application.movies.service.MovieCounterBuffer
+import core.application.reviews.models.events.ReviewChangedEvent
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.Duration
+
+/**
+ * [ReviewChangedEvent] 를 받아 영화의 리뷰 수를 갱신한다.
+ *
+ * - 리뷰 수 변경량은 [MovieCounterBuffer] 에 더해 두고 주기적으로 모아서 반영하므로, 리뷰 작성 / 삭제 요청에서 영화 행을 갱신하지 않는다.
+ * - 리뷰별로 마지막으로 반영한 변경 종류를 기억해 같은 이벤트가 다시 와도 한 번만 반영한다.
+ * - 변경량은 더하기만 하므로 같은 영화에 대한 이벤트가 어떤 순서로 처리되어도 결과가 같다.
+ */
+@Component
+class ReviewCountUpdater(
+    private val counterBuffer: MovieCounterBuffer,
+    meterRegistry: MeterRegistry
+) {
+    private val applied: Cache<Long, ReviewChangedEvent.Type> = Caffeine.newBuilder()
+        .maximumSize(APPLIED_CACHE_SIZE)
+        .expireAfterWrite(Duration.ofHours(1))
+        .build()
+
+    private val appliedCounter = counter(meterRegistry, "applied")
+    private val duplicateCounter = counter(meterRegistry, "duplicate")
+
+    @TransactionalEventListener(fallbackExecution = true)
+    fun onReviewChanged(event: ReviewChangedEvent) {
+        if (applied.asMap().put(event.reviewId, event.type) == event.type) {
+            duplicateCounter.increment()
+            return
+        }
+        counterBuffer.addReview(event.movieId, event.type.delta)
+        appliedCounter.increment()
+    }
+
+    private fun counter(meterRegistry: MeterRegistry, result: String): Counter {
+        return Counter.builder("review.count.event")
+            .tag("result", result)
+            .register(meterRegistry)
+    }
+
+    companion object {
+        private const val APPLIED_CACHE_SIZE = 10_000L
+    }
+}
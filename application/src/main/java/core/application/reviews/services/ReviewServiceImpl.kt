@@ -4,10 +4,12 @@ import core.application.movies.exception.NoMovieException
 import core.application.movies.repositories.movie.CachedMovieRepository
 import core.application.reviews.exceptions.NoReviewFoundException
 import core.application.reviews.models.entities.ReviewEntity
+import core.application.reviews.models.events.ReviewChangedEvent
 import core.application.reviews.repositories.ReviewRepository
 import core.application.reviews.services.ReviewServiceImpl.Triplet
 import lombok.RequiredArgsConstructor
 import lombok.extern.slf4j.Slf4j
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import java.util.*
@@ -17,7 +19,8 @@ import java.util.*
 @RequiredArgsConstructor
 class ReviewServiceImpl(
     private val reviewRepo: ReviewRepository,
-    private val movieRepository: CachedMovieRepository
+    private val movieRepository: CachedMovieRepository,
+    private val eventPublisher: ApplicationEventPublisher
 ) : ReviewService {
 
     private fun interface Triplet<T1, T2, T3, R> {
@@ -67,6 +70,7 @@ class ReviewServiceImpl(
     /**
      * {@inheritDoc}
      */
+    @Transactional
     @Throws(NoMovieException::class)
     override fun createNewReview(
         movieId: String, userId: UUID,
@@ -78,7 +82,9 @@ class ReviewServiceImpl(
             title = title,
             content = content
         )
-        return reviewRepo.saveNewReview(movieId, userId, info)
+        val saved = reviewRepo.saveNewReview(movieId, userId, info)
+        eventPublisher.publishEvent(ReviewChangedEvent(saved.reviewId, movieId, ReviewChangedEvent.Type.CREATED))
+        return saved
     }
 
     /**
@@ -116,6 +122,9 @@ class ReviewServiceImpl(
             .orElseThrow { NoReviewFoundException(reviewId) }
 
         reviewRepo.deleteReview(reviewId)
+        origin?.movieId?.let {
+            eventPublisher.publishEvent(ReviewChangedEvent(reviewId, it, ReviewChangedEvent.Type.DELETED))
+        }
 
         return origin
     }
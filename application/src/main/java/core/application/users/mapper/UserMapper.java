@@ -1,11 +1,13 @@
 package core.application.users.mapper;
 
+import core.application.users.models.dto.UserAliasDTO;
 import core.application.users.models.entities.DibEntity;
 import core.application.users.models.entities.UserEntity;
 import core.application.users.models.entities.UserRole;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +20,7 @@ public interface UserMapper {
     Optional<UserEntity> findByUserEmailAndPassword(String userEmail, String userPw);
     List<UserEntity> findByUserRole(UserRole role);
     List<UserEntity> findAll();
+    List<UserAliasDTO> findAliasesByIds(@Param("userIds") Collection<UUID> userIds);
     int editUserInfo(@Param("replacement") UserEntity replacement);
     int deleteUser(UUID userId);
 
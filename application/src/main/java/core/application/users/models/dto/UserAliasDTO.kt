@@ -0,0 +1,11 @@
+package core.application.users.models.dto
+
+import java.util.*
+
+/**
+ * 유저 ID 와 활동 닉네임
+ */
+data class UserAliasDTO(
+    val userId: UUID? = null,
+    val alias: String? = null
+)
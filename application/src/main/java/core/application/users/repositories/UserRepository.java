@@ -1,9 +1,11 @@
 package core.application.users.repositories;
 
+import core.application.users.models.dto.UserAliasDTO;
 import core.application.users.models.entities.DibEntity;
 import core.application.users.models.entities.UserEntity;
 import core.application.users.models.entities.UserRole;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -68,6 +70,14 @@ public interface UserRepository {
      * @return {@link List}{@code <}{@link UserEntity}{@code >}
      */
     List<UserEntity> findAll();
+
+    /**
+     * 여러 유저의 활동 닉네임을 한 번에 검색
+     *
+     * @param userIds 검색할 유저 ID 들, 비어 있으면 검색하지 않는다.
+     * @return {@link List}{@code <}{@link UserAliasDTO}{@code >} 존재하는 유저들의 닉네임
+     */
+    List<UserAliasDTO> findAliasesByIds(Collection<UUID> userIds);
     //</editor-fold>
 
 
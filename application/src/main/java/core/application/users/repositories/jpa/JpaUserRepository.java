@@ -1,11 +1,15 @@
 package core.application.users.repositories.jpa;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import core.application.users.models.dto.UserAliasDTO;
 import core.application.users.models.entities.UserEntity;
 import core.application.users.models.entities.UserRole;
 
@@ -17,4 +21,7 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, UUID> {
 	Optional<UserEntity> findByUserEmailAndUserPw(String email, String password);
 
 	List<UserEntity> findByRole(UserRole role);
+
+	@Query("select new core.application.users.models.dto.UserAliasDTO(u.userId, u.alias) from UserEntity u where u.userId in :userIds")
+	List<UserAliasDTO> findAliasesByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
@@ -1,5 +1,6 @@
 package core.application.users.repositories.jpa.repositories;
 
+import core.application.users.models.dto.*;
 import core.application.users.models.entities.*;
 import core.application.users.repositories.*;
 import core.application.users.repositories.jpa.*;
@@ -50,6 +51,14 @@ public class UserRepositoryJpaImpl implements UserRepository {
         return jpaRepository.findAll();
     }
 
+    @Override
+    public List<UserAliasDTO> findAliasesByIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAliasesByUserIdIn(userIds);
+    }
+
     @Override
     public int editUserInfo(UserEntity replacement) {
         if (jpaRepository.existsById(replacement.getUserId())) {
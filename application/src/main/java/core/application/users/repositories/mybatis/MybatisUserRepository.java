@@ -2,6 +2,7 @@ package core.application.users.repositories.mybatis;
 
 import core.application.users.exception.UserNotFoundException;
 import core.application.users.mapper.UserMapper;
+import core.application.users.models.dto.UserAliasDTO;
 import core.application.users.models.entities.UserEntity;
 import core.application.users.models.entities.UserRole;
 import core.application.users.repositories.UserRepository;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -64,6 +66,14 @@ public class MybatisUserRepository implements UserRepository{
         return mapper.findAll();
     }
 
+    @Override
+    public List<UserAliasDTO> findAliasesByIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return mapper.findAliasesByIds(userIds);
+    }
+
     @Override
     public int editUserInfo(UserEntity replacement) {
         return mapper.editUserInfo(replacement);
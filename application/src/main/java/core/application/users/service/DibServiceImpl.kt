@@ -1,6 +1,6 @@
 package core.application.users.service
 
-import core.application.movies.repositories.movie.CachedMovieRepository
+import core.application.movies.service.MovieCounterBuffer
 import core.application.movies.service.MovieService
 import core.application.users.models.dto.DibRespDTO
 import core.application.users.repositories.DibRepository
@@ -13,14 +13,13 @@ import java.util.*
 @RequiredArgsConstructor
 class DibServiceImpl (
     private val dibRepo: DibRepository,
-    private val movieRepo: CachedMovieRepository,
-    private val movieService: MovieService
+    private val movieService: MovieService,
+    private val counterBuffer: MovieCounterBuffer
 ):DibService {
 
     @Transactional
     override fun dibProcess(userId: UUID?, movieId: String?): DibRespDTO {
         val dibMovieId = movieService.getMovieDetailInfo(movieId)?.movieId
-        val movie = movieRepo.findByMovieId(dibMovieId)
 
         // dib_table에 이미 존재하는 객체 -> 찜 취소하기
         if (dibRepo.findByUserIdAndMovieId(userId, dibMovieId).isPresent) {
@@ -28,8 +27,7 @@ class DibServiceImpl (
             dibRepo.deleteDib(userId, dibMovieId)
 
             // dib_count 1 감소하는 로직 추가
-            movie?.get()?.decrementDibCount()
-            movieRepo.editMovie(dibMovieId, movie?.get())
+            dibMovieId?.let { counterBuffer.addDib(it, -1) }
 
             // DibRespDTO 생성
             return DibRespDTO(
@@ -41,8 +39,7 @@ class DibServiceImpl (
             dibRepo.saveNewDib(userId, dibMovieId)
 
             // dib_count 1 증가하는 로직 추가
-            movie?.get()?.incrementDibCount()
-            movieRepo.editMovie(dibMovieId, movie?.get())
+            dibMovieId?.let { counterBuffer.addDib(it, 1) }
 
             // DibRespDTO 생성
             return DibRespDTO(
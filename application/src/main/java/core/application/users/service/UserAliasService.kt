@@ -0,0 +1,25 @@
+package core.application.users.service
+
+import java.util.*
+
+/**
+ * 한줄평, 리뷰, 댓글 작성자의 활동 닉네임을 제공하는 서비스
+ */
+interface UserAliasService {
+    /**
+     * @return 유저의 활동 닉네임, 없는 유저면 `null`
+     */
+    fun getAlias(userId: UUID?): String?
+
+    /**
+     * 여러 유저의 활동 닉네임을 최대 한 번의 조회로 제공한다.
+     *
+     * @return 유저 ID 별 활동 닉네임, 없는 유저는 포함하지 않는다.
+     */
+    fun getAliases(userIds: Collection<UUID?>): Map<UUID, String>
+
+    /**
+     * 유저 정보가 바뀌었을 때 보관된 닉네임을 지운다. 트랜잭션 안이면 커밋 이후에도 한 번 더 지운다.
+     */
+    fun evict(userId: UUID?)
+}
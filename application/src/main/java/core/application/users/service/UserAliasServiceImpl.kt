@@ -0,0 +1,80 @@
+package core.application.users.service
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import core.application.users.repositories.UserRepository
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Service
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 활동 닉네임을 메모리에 보관하는 [UserAliasService] 구현 클래스
+ *
+ * - 보관되지 않은 유저들은 [UserRepository.findAliasesByIds] 한 번으로 불러온다.
+ * - 유저 수 상한 (`user.alias-cache.max-size`) 과 TTL (`user.alias-cache.ttl`) 을 둔다.
+ * - 조회 중 [evict] 된 경우 읽어 온 닉네임은 보관하지 않는다.
+ */
+@Service
+class UserAliasServiceImpl(
+    private val userRepository: UserRepository,
+    @Value("\${user.alias-cache.max-size:50000}") maxSize: Long,
+    @Value("\${user.alias-cache.ttl:30m}") ttl: Duration,
+    meterRegistry: MeterRegistry
+) : UserAliasService {
+
+    private val cache: Cache<UUID, String> = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build()
+
+    private val evictions = AtomicLong()
+
+    init {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.alias")
+    }
+
+    override fun getAlias(userId: UUID?): String? {
+        return userId?.let { getAliases(listOf(it))[it] }
+    }
+
+    override fun getAliases(userIds: Collection<UUID?>): Map<UUID, String> {
+        val ids = userIds.filterNotNullTo(HashSet())
+        if (ids.isEmpty()) return emptyMap()
+
+        val result = HashMap(cache.getAllPresent(ids))
+        val missing = ids.filterNot { it in result }
+        if (missing.isEmpty()) return result
+
+        val generation = evictions.get()
+        for (found in userRepository.findAliasesByIds(missing)) {
+            val userId = found.userId ?: continue
+            val alias = found.alias ?: continue
+            result[userId] = alias
+            if (evictions.get() == generation) cache.put(userId, alias)
+        }
+        return result
+    }
+
+    override fun evict(userId: UUID?) {
+        if (userId == null) return
+        invalidate(userId)
+        // 커밋 전에 다른 요청이 읽어 간 이전 닉네임도 지운다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+                override fun afterCommit() = invalidate(userId)
+            })
+        }
+    }
+
+    private fun invalidate(userId: UUID) {
+        evictions.incrementAndGet()
+        cache.invalidate(userId)
+    }
+}
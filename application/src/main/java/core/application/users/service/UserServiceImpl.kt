@@ -26,9 +26,11 @@ class UserServiceImpl
  *
  * @param userRepositoryImpl 사용자 리포지토리 구현체
  * @param authenticatedUserInfo 인증된 사용자 서비스
+ * @param userAliasService 작성자 닉네임 서비스
  */ @Autowired constructor(
     private val userRepository: UserRepository,
-    private val authenticatedUserInfo: AuthenticatedUserService
+    private val authenticatedUserInfo: AuthenticatedUserService,
+    private val userAliasService: UserAliasService
 ) :
     UserService {
     /**
@@ -87,6 +89,7 @@ class UserServiceImpl
         updatedUserDTO.encodePassword()
 
         if (userRepository.editUserInfo(updatedUserDTO.toEntity()) == 1) {
+            userAliasService.evict(originUserEntity.get().userId)
             return MessageResponseDTO(originUserEntity.get().userId, "update success")
         }
         throw UserNotFoundException("회원 정보 수정에 실패했습니다.")
@@ -126,6 +129,7 @@ class UserServiceImpl
         updatedUserDTO.encodePassword()
 
         if (userRepository.editUserInfo(updatedUserDTO.toEntity()) == 1) {
+            userAliasService.evict(originUserEntity.get().userId)
             return MessageResponseDTO(originUserEntity.get().userId, "update success")
         }
         throw UserNotFoundException("회원 정보 수정에 실패했습니다.")
@@ -139,6 +143,7 @@ class UserServiceImpl
     override fun deleteUser(): MessageResponseDTO? {
         val userId = authenticatedUserInfo.getAuthenticatedUserId()
         if (userRepository.deleteUser(userId) == 1) {
+            userAliasService.evict(userId)
             return MessageResponseDTO(userId, "delete success")
         }
         throw UserNotFoundException("사용자 삭제를 실패했습니다.")
@@ -0,0 +1,75 @@
+package core.application.api.concurrent;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SingleFlightTest {
+
+	private SingleFlight<String, String> singleFlight;
+
+	@BeforeEach
+	void init() {
+		singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("같은 키로 동시에 들어온 요청은 하나의 작업만 실행한다.")
+	void coalesceConcurrentCalls() {
+		AtomicInteger calls = new AtomicInteger();
+		CompletableFuture<String> origin = new CompletableFuture<>();
+
+		List<CompletableFuture<String>> results = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			results.add(singleFlight.execute("K-12345", () -> {
+				calls.incrementAndGet();
+				return origin;
+			}));
+		}
+		origin.complete("movie");
+
+		assertThat(calls.get()).isEqualTo(1);
+		assertThat(singleFlight.coalescedCount()).isEqualTo(9);
+		assertThat(results).allSatisfy(result -> assertThat(result.join()).isEqualTo("movie"));
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("작업이 끝난 뒤 들어온 요청은 새 작업을 실행한다.")
+	void executeAgainAfterCompletion() {
+		AtomicInteger calls = new AtomicInteger();
+
+		singleFlight.execute("K-12345", () -> CompletableFuture.completedFuture("" + calls.incrementAndGet())).join();
+		String second = singleFlight.execute("K-12345",
+			() -> CompletableFuture.completedFuture("" + calls.incrementAndGet())).join();
+
+		assertThat(second).isEqualTo("2");
+		assertThat(singleFlight.coalescedCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("작업이 실패하면 기다리던 모든 요청이 같은 예외를 받는다.")
+	void propagateFailure() {
+		CompletableFuture<String> origin = new CompletableFuture<>();
+		CompletableFuture<String> first = singleFlight.execute("K-12345", () -> origin);
+		CompletableFuture<String> second = singleFlight.execute("K-12345", () -> origin);
+
+		origin.completeExceptionally(new IllegalStateException("KMDB 오류"));
+
+		assertThatThrownBy(first::get).isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(second::get).isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+}
@@ -0,0 +1,42 @@
+package core.application.api.pagination;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CursorSliceTest {
+
+	@Test
+	@DisplayName("한 개 더 읽은 행이 있으면 마지막 행의 위치를 다음 cursor 로 제공한다.")
+	void nextCursor() {
+		CursorSlice<Long> slice = CursorSlice.of(List.of(30L, 20L, 10L), 2, id -> new SeekCursor(id * 2, id));
+
+		assertThat(slice.getContent()).containsExactly(30L, 20L);
+		assertThat(slice.getHasNext()).isTrue();
+		assertThat(SeekCursor.decode(slice.getNextCursor())).isEqualTo(new SeekCursor(40, 20));
+	}
+
+	@Test
+	@DisplayName("더 읽은 행이 없으면 마지막 페이지다.")
+	void lastPage() {
+		CursorSlice<Long> slice = CursorSlice.of(List.of(30L, 20L), 2, SeekCursor::of);
+
+		assertThat(slice.getContent()).containsExactly(30L, 20L);
+		assertThat(slice.getNextCursor()).isNull();
+		assertThat(slice.getHasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("cursor 가 없으면 첫 페이지를, 올바르지 않으면 예외를 던진다.")
+	void decode() {
+		assertThat(SeekCursor.decode(null)).isEqualTo(SeekCursor.FIRST);
+		assertThat(SeekCursor.decode(SeekCursor.of(7).encode())).isEqualTo(new SeekCursor(7, 7));
+		assertThat(new SeekCursor(Long.MAX_VALUE, 1).getIntKey()).isEqualTo(Integer.MAX_VALUE);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> SeekCursor.decode("not a cursor!"));
+		assertThatIllegalArgumentException().isThrownBy(() -> SeekCursor.decode("MTI"));
+	}
+}
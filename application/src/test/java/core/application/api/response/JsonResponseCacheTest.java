@@ -0,0 +1,128 @@
+package core.application.api.response;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class JsonResponseCacheTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private JsonResponseCache cache;
+
+	@BeforeEach
+	void init() {
+		cache = new JsonResponseCache(objectMapper, 1024 * 1024, Duration.ofMinutes(1), new SimpleMeterRegistry());
+	}
+
+	private static HttpHeaders headers(String name, String value) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(name, value);
+		return headers;
+	}
+
+	@Test
+	@DisplayName("ApiResponse 로 감싼 JSON 을 만들고, 같은 객체인 동안 재사용한다.")
+	void reuseSameSource() throws IOException {
+		Map<String, String> value = Map.of("title", "검사외전");
+
+		JsonResponseCache.Entry entry = cache.of("main", value);
+
+		assertThat(objectMapper.readTree(entry.getBody()).get("result").get("title").asText()).isEqualTo("검사외전");
+		assertThat(objectMapper.readTree(entry.getBody()).get("isSuccess").asBoolean()).isTrue();
+		assertThat(cache.of("main", value)).isSameAs(entry);
+		assertThat(cache.of("main", Map.of("title", "검사외전"))).isNotSameAs(entry);
+	}
+
+	@Test
+	@DisplayName("ETag 가 같으면 304, gzip 을 받으면 미리 압축한 본문으로 응답한다.")
+	void etagAndGzip() throws IOException {
+		JsonResponseCache.Entry entry = cache.of("main", Map.of("movies", List.of("A".repeat(1000))));
+
+		ResponseEntity<byte[]> notModified = cache.response(entry, headers(HttpHeaders.IF_NONE_MATCH, entry.getEtag()));
+		assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(notModified.getBody()).isNull();
+
+		ResponseEntity<byte[]> gzip = cache.response(entry, headers(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"));
+		assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(gzip.getHeaders().getETag()).isNotEqualTo(entry.getEtag());
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBody()))) {
+			assertThat(in.readAllBytes()).isEqualTo(entry.getBody());
+		}
+
+		ResponseEntity<byte[]> plain = cache.response(entry, new HttpHeaders());
+		assertThat(plain.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(plain.getBody()).isSameAs(entry.getBody());
+		assertThat(plain.getHeaders().getETag()).isEqualTo(entry.getEtag());
+	}
+
+	@Test
+	@DisplayName("보관하지 않는 응답은 ETag 와 압축본 없이 본문만 응답한다.")
+	void uncached() throws IOException {
+		JsonResponseCache.Entry entry = cache.uncached(Map.of("movies", List.of("A".repeat(1000))));
+
+		assertThat(entry.getEtag()).isNull();
+		assertThat(entry.getGzipBody()).isNull();
+		assertThat(objectMapper.readTree(entry.getBody()).get("isSuccess").asBoolean()).isTrue();
+
+		HttpHeaders headers = headers(HttpHeaders.ACCEPT_ENCODING, "gzip");
+		headers.add(HttpHeaders.IF_NONE_MATCH, "*");
+		ResponseEntity<byte[]> response = cache.response(entry, headers);
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getETag()).isNull();
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(response.getBody()).isSameAs(entry.getBody());
+	}
+
+	@Test
+	@DisplayName("조회한 값은 무효화될 때까지 보관하고, 조회 중 무효화되면 보관하지 않는다.")
+	void evict() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getAsync("detail:A", () -> CompletableFuture.completedFuture(loads.incrementAndGet())).join();
+		cache.getAsync("detail:A", () -> CompletableFuture.completedFuture(loads.incrementAndGet())).join();
+		assertThat(loads).hasValue(1);
+
+		cache.evict("detail:A");
+		CompletableFuture<Object> pending = new CompletableFuture<>();
+		CompletableFuture<JsonResponseCache.Entry> loading = cache.getAsync("detail:A", () -> pending);
+		cache.evict("detail:A");
+		pending.complete(loads.incrementAndGet());
+		loading.join();
+
+		cache.getAsync("detail:A", () -> CompletableFuture.completedFuture(loads.incrementAndGet())).join();
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("조회 중 다른 키가 무효화되어도 조회한 값은 보관한다.")
+	void evictOtherKey() {
+		AtomicInteger loads = new AtomicInteger();
+
+		CompletableFuture<Object> pending = new CompletableFuture<>();
+		CompletableFuture<JsonResponseCache.Entry> loading = cache.getAsync("detail:A", () -> pending);
+		cache.evict("detail:B");
+		pending.complete(loads.incrementAndGet());
+		loading.join();
+
+		cache.getAsync("detail:A", () -> CompletableFuture.completedFuture(loads.incrementAndGet())).join();
+		assertThat(loads).hasValue(1);
+	}
+}
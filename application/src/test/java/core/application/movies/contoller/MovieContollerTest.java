@@ -4,6 +4,8 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.security.test.context.support.WithMockUser;
 import core.application.movies.service.MovieService;
 import org.junit.jupiter.api.DisplayName;
@@ -11,13 +13,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import core.application.api.response.JsonResponseCache;
 import core.application.movies.controller.MovieController;
 import core.application.movies.models.dto.response.MovieDetailRespDTO;
+import core.application.movies.service.GenrePageSnapshot;
+import core.application.movies.service.MovieCounterBuffer;
+import core.application.movies.service.MovieResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @WebMvcTest(MovieController.class)
+@Import({MovieResponseCache.class, JsonResponseCache.class, GenrePageSnapshot.class, SimpleMeterRegistry.class})
 public class MovieContollerTest {
 
     @Autowired
@@ -26,6 +36,9 @@ public class MovieContollerTest {
     @MockBean
     private MovieService movieService;
 
+    @MockBean
+    private MovieCounterBuffer counterBuffer;
+
     @Test
     @DisplayName("영화 상세 정보 가져오기 컨트롤러 테스트")
     @WithMockUser(username = "user", roles = {"USER"}) // Mock 사용자 생성: username이 "user"이고 역할이 "USER"인 사용자로 인증
@@ -48,13 +61,17 @@ public class MovieContollerTest {
                 0L
         );
 
-        // when: movieService에서 getMovieDetailInfo 메서드를 호출할 때 위에서 정의한 movieDetail을 반환하도록 설정
-        given(movieService.getMovieDetailInfo(movieId)).willReturn(movieDetail);
+        // when: movieService에서 getMovieDetailInfoAsync 메서드를 호출할 때 위에서 정의한 movieDetail을 반환하도록 설정
+        given(movieService.getMovieDetailInfoAsync(movieId)).willReturn(CompletableFuture.completedFuture(movieDetail));
 
         // when & then
-        // MockMvc를 사용하여 GET 요청을 수행하고 응답을 검증
-        mockMvc.perform(get("/movies/{movieId}", movieId) // 요청할 URL
+        // MockMvc를 사용하여 GET 요청을 수행하고, 비동기 처리가 끝난 응답을 검증
+        MvcResult asyncResult = mockMvc.perform(get("/movies/{movieId}", movieId) // 요청할 URL
                         .contentType(MediaType.APPLICATION_JSON)) // 요청의 Content-Type을 JSON으로 설정
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk()) // 응답 상태 코드가 200 OK인지 검증
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON)) // 응답 Content-Type이 JSON인지 검증
                 // 응답 JSON에서 예상 값과 일치하는지 검증
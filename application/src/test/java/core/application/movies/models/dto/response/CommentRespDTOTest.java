@@ -0,0 +1,31 @@
+package core.application.movies.models.dto.response;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+public class CommentRespDTOTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@Test
+	@DisplayName("한줄평 응답에는 작성자 ID 를 포함하지 않는다.")
+	void hideUserId() throws Exception {
+		UUID userId = UUID.randomUUID();
+		CommentRespDTO comment = new CommentRespDTO(1L, "content", 0, 0, 5, "A", Instant.now(), userId);
+
+		JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(comment));
+
+		assertThat(comment.getUserId()).isEqualTo(userId);
+		assertThat(json.has("userId")).isFalse();
+		assertThat(json.get("commentId").asLong()).isEqualTo(1L);
+	}
+}
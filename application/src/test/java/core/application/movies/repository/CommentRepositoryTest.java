@@ -6,9 +6,12 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +20,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import core.application.api.pagination.CursorSlice;
 import core.application.movies.models.dto.response.CommentRespDTO;
 import core.application.movies.models.entities.CachedMovieEntity;
 import core.application.movies.models.entities.CommentEntity;
@@ -132,7 +136,7 @@ public class CommentRepositoryTest {
         CommentEntity save2 = commentRepository.saveNewComment(comment2.getMovieId(), comment2.getUserId(), comment2);
 
         // WHEN
-        List<CommentRespDTO> finds = commentRepository.findByMovieId(comment.getMovieId(), null, 0).getContent();
+        List<CommentRespDTO> finds = commentRepository.findByMovieId(comment.getMovieId(), 0).getContent();
 
         // THEN
         assertThat(finds.size()).isEqualTo(2);
@@ -152,7 +156,7 @@ public class CommentRepositoryTest {
 //        commentLikeRepository.saveCommentLike(14L, userId); //쿼리 문제 발생
 //
 //        // WHEN
-//        List<CommentRespDTO> finds = commentRepository.findByMovieId(comment.getMovieId(), userId, 0).getContent();
+//        List<CommentRespDTO> finds = commentRepository.findByMovieId(comment.getMovieId(), 0).getContent();
 //
 //        // THEN
 //        assertThat(finds.size()).isEqualTo(1);
@@ -185,7 +189,7 @@ public class CommentRepositoryTest {
         commentRepository.saveNewComment(comment2.getMovieId(), comment2.getUserId(), comment2);
 
         // WHEN
-        List<CommentRespDTO> finds = commentRepository.findByMovieIdOnDateDescend(comment.getMovieId(), userId, 0)
+        List<CommentRespDTO> finds = commentRepository.findByMovieIdOnDateDescend(comment.getMovieId(), 0)
                 .getContent();
 
         // THEN
@@ -220,7 +224,7 @@ public class CommentRepositoryTest {
         commentRepository.saveNewComment(comment2.getMovieId(), comment2.getUserId(), comment2);
 
         // WHEN
-        List<CommentRespDTO> finds = commentRepository.findByMovieIdOnLikeDescend(comment.getMovieId(), userId, 0).getContent();
+        List<CommentRespDTO> finds = commentRepository.findByMovieIdOnLikeDescend(comment.getMovieId(), 0).getContent();
 
         // THEN
         int more = finds.get(0).getLike();
@@ -253,7 +257,7 @@ public class CommentRepositoryTest {
         commentRepository.saveNewComment(comment2.getMovieId(), comment2.getUserId(), comment2);
 
         // WHEN
-        List<CommentRespDTO> finds = commentRepository.findByMovieIdOnDislikeDescend(comment.getMovieId(), userId, 0).getContent();
+        List<CommentRespDTO> finds = commentRepository.findByMovieIdOnDislikeDescend(comment.getMovieId(), 0).getContent();
 
         // THEN
         int more = finds.get(0).getDislike();
@@ -276,4 +280,118 @@ public class CommentRepositoryTest {
         Optional<CommentEntity> find = commentRepository.findByCommentId(comment.getCommentId());
         assertThat(find).isEmpty();
     }
+
+    private CommentEntity saveComment(int like, int dislike) {
+        CommentEntity entity = new CommentEntity(null, "내용", like, dislike, 5, movieId, userId, Instant.now());
+        return commentRepository.saveNewComment(movieId, userId, entity);
+    }
+
+    /**
+     * 첫 페이지부터 다음 cursor 가 없을 때까지 읽은 페이지들
+     */
+    private static <T> List<List<T>> readAllPages(Function<String, CursorSlice<T>> find) {
+        List<List<T>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSlice<T> slice = find.apply(cursor);
+            pages.add(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private static List<Long> commentIds(List<List<CommentRespDTO>> pages) {
+        return pages.stream().flatMap(List::stream).map(CommentRespDTO::getCommentId).toList();
+    }
+
+    @Test
+    @DisplayName("특정 영화의 한줄평을 cursor 로 끝까지 읽으면 최신순으로 빠짐없이 한 번씩 읽는다.")
+    public void findByMovieIdOnDateDescendAfter() {
+        // GIVEN
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add(saveComment(0, 0).getCommentId());
+        }
+        expected.sort(Comparator.reverseOrder());
+
+        // WHEN
+        List<List<CommentRespDTO>> pages = readAllPages(
+                cursor -> commentRepository.findByMovieIdOnDateDescendAfter(movieId, cursor, 3));
+
+        // THEN
+        assertThat(pages).hasSize(4);
+        assertThat(pages).allSatisfy(page -> assertThat(page).hasSizeLessThanOrEqualTo(3));
+        assertThat(commentIds(pages)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 같은 한줄평이 페이지 경계에 걸쳐도 ID 순으로 이어서 읽는다.")
+    public void findByMovieIdOnLikeDescendAfter() {
+        // GIVEN
+        List<CommentEntity> saved = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            saved.add(saveComment(i % 3, 0));
+        }
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(CommentEntity::getLike)
+                        .thenComparing(CommentEntity::getCommentId).reversed())
+                .map(CommentEntity::getCommentId)
+                .toList();
+
+        // WHEN
+        List<List<CommentRespDTO>> pages = readAllPages(
+                cursor -> commentRepository.findByMovieIdOnLikeDescendAfter(movieId, cursor, 3));
+
+        // THEN
+        assertThat(pages).hasSize(4);
+        assertThat(commentIds(pages)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("싫어요 수가 같은 한줄평이 페이지 경계에 걸쳐도 ID 순으로 이어서 읽는다.")
+    public void findByMovieIdOnDislikeDescendAfter() {
+        // GIVEN
+        List<CommentEntity> saved = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            saved.add(saveComment(0, i % 2));
+        }
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(CommentEntity::getDislike)
+                        .thenComparing(CommentEntity::getCommentId).reversed())
+                .map(CommentEntity::getCommentId)
+                .toList();
+
+        // WHEN
+        List<List<CommentRespDTO>> pages = readAllPages(
+                cursor -> commentRepository.findByMovieIdOnDislikeDescendAfter(movieId, cursor, 4));
+
+        // THEN
+        assertThat(pages).hasSize(3);
+        assertThat(commentIds(pages)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 int 최댓값인 한줄평도 첫 페이지에서 읽는다.")
+    public void findByMovieIdOnLikeDescendAfterMaxLike() {
+        // GIVEN
+        CommentEntity max = saveComment(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        CommentEntity other = saveComment(1, 1);
+
+        // WHEN
+        CursorSlice<CommentRespDTO> byLike = commentRepository.findByMovieIdOnLikeDescendAfter(movieId, null, 1);
+        CursorSlice<CommentRespDTO> byDislike = commentRepository.findByMovieIdOnDislikeDescendAfter(movieId, null, 1);
+
+        // THEN
+        assertThat(byLike.getContent()).extracting(CommentRespDTO::getCommentId).containsExactly(max.getCommentId());
+        assertThat(byDislike.getContent()).extracting(CommentRespDTO::getCommentId).containsExactly(max.getCommentId());
+        assertThat(commentRepository.findByMovieIdOnLikeDescendAfter(movieId, byLike.getNextCursor(), 1).getContent())
+                .extracting(CommentRespDTO::getCommentId).containsExactly(other.getCommentId());
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 cursor 로 검색하면 예외를 던진다.")
+    public void findByMovieIdAfterInvalidCursor() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> commentRepository.findByMovieIdOnLikeDescendAfter(movieId, "not a cursor!", 3));
+    }
 }
@@ -0,0 +1,91 @@
+package core.application.movies.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import core.application.movies.repositories.movie.kmdb.DataBufferInputStream;
+import core.application.movies.repositories.movie.kmdb.KmdbResponse;
+import core.application.movies.repositories.movie.kmdb.KmdbResponseParser;
+import reactor.core.publisher.Flux;
+
+public class DataBufferInputStreamTest {
+
+	private static DataBuffer buffer(String text) {
+		return DefaultDataBufferFactory.sharedInstance.wrap(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String readAll(InputStream input) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		input.transferTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	@DisplayName("도착하는 버퍼를 순서대로 읽고, 미리 받는 버퍼 수를 제한한다.")
+	void readChunks() throws IOException {
+		AtomicLong maxRequested = new AtomicLong();
+		Flux<DataBuffer> body = Flux.just("ab", "", "cd", "e")
+			.map(DataBufferInputStreamTest::buffer)
+			.doOnRequest(n -> maxRequested.accumulateAndGet(n, Math::max));
+
+		try (InputStream input = new DataBufferInputStream(body, 2)) {
+			assertThat(readAll(input)).isEqualTo("abcde");
+			assertThat(input.read()).isEqualTo(-1);
+		}
+		assertThat(maxRequested.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("나눠서 늦게 도착하는 KMDB 응답도 변환한다.")
+	void parseDelayedChunks() {
+		String json = "{\"TotalCount\": 1, \"Data\": [{\"Result\": [{\"movieId\": \"K\", \"movieSeq\": \"35201\", \"title\": \"범죄도시\"}]}]}";
+		Flux<DataBuffer> body = Flux.fromArray(json.split("(?<=,)"))
+			.delayElements(Duration.ofMillis(5))
+			.map(DataBufferInputStreamTest::buffer);
+
+		KmdbResponse response = new KmdbResponseParser().parse(new DataBufferInputStream(body, 1));
+
+		assertThat(response.getTotalCount()).isEqualTo(1);
+		assertThat(response.getMovies()).extracting("docId").containsExactly("K-35201");
+	}
+
+	@Test
+	@DisplayName("본문 수신 중 오류는 원래 예외로 던진다.")
+	void error() {
+		WebClientRequestException failure = new WebClientRequestException(new IOException("reset"),
+			HttpMethod.GET, URI.create("http://kmdb"), HttpHeaders.EMPTY);
+		Flux<DataBuffer> body = Flux.concat(Flux.just(buffer("{\"TotalCount\"")), Flux.error(failure));
+
+		assertThatThrownBy(() -> new KmdbResponseParser().parse(new DataBufferInputStream(body, 4)))
+			.isSameAs(failure);
+	}
+
+	@Test
+	@DisplayName("닫으면 본문 구독을 취소한다.")
+	void closeCancels() throws IOException {
+		AtomicBoolean cancelled = new AtomicBoolean();
+		Flux<DataBuffer> body = Flux.<DataBuffer>never().doOnCancel(() -> cancelled.set(true));
+
+		InputStream input = new DataBufferInputStream(body, 4);
+		input.close();
+
+		assertThat(cancelled).isTrue();
+		assertThatThrownBy(input::read).isInstanceOf(IOException.class);
+	}
+}
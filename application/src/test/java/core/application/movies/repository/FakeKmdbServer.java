@@ -0,0 +1,219 @@
+package core.application.movies.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 테스트용 KMDB 대역 서버
+ * <p>
+ * {@code /search_json2.jsp} 요청에 {@code src/test/resources/kmdb} 의 녹화된 응답을 돌려준다.
+ * <ul>
+ *     <li>{@code movieId} 가 있으면 상세 응답 ({@code detail.json}, 요청한 영화 ID 로 치환)</li>
+ *     <li>{@code query} 가 {@code "없는영화"} 이면 결과 없음 응답 ({@code empty.json})</li>
+ *     <li>그 외 검색 / 장르 요청은 목록 응답 ({@code search.json})</li>
+ * </ul>
+ * 응답 지연, 오류 비율, 응답 크기를 설정할 수 있으며, {@link #baseUrl()} 을 {@code kmdb.api.url} 로 사용한다.
+ * <p>
+ * 단독으로 실행하면 애플리케이션을 {@code --kmdb.api.url=http://localhost:{port}/search_api} 로 띄워 사용할 수 있다.
+ */
+public class FakeKmdbServer implements AutoCloseable {
+
+	public static final String NO_RESULT_QUERY = "없는영화";
+
+	private static final String PATH = "/search_json2.jsp";
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	private final byte[] listBody;
+	private final String detailTemplate;
+	private final byte[] emptyBody;
+
+	private volatile Duration latency = Duration.ZERO;
+	private volatile Duration jitter = Duration.ZERO;
+	private volatile double errorRate = 0;
+	private volatile int paddingBytes = 0;
+
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private final AtomicInteger errorCount = new AtomicInteger();
+
+	public FakeKmdbServer() {
+		this(0);
+	}
+
+	public FakeKmdbServer(int port) {
+		listBody = fixture("search.json").getBytes(StandardCharsets.UTF_8);
+		detailTemplate = fixture("detail.json");
+		emptyBody = fixture("empty.json").getBytes(StandardCharsets.UTF_8);
+		try {
+			server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		// 응답 지연 중에도 다른 요청을 받을 수 있도록 요청마다 스레드를 사용한다.
+		executor = Executors.newCachedThreadPool();
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+		server.start();
+	}
+
+	public static void main(String[] args) {
+		FakeKmdbServer server = new FakeKmdbServer(args.length > 0 ? Integer.parseInt(args[0]) : 18080);
+		server.latency(Duration.ofMillis(Long.getLong("kmdb.fake.latency-ms", 100)),
+			Duration.ofMillis(Long.getLong("kmdb.fake.jitter-ms", 50)));
+		server.errorRate(Double.parseDouble(System.getProperty("kmdb.fake.error-rate", "0")));
+		server.paddingBytes(Integer.getInteger("kmdb.fake.padding-bytes", 0));
+		System.out.println("Fake KMDB server : " + server.baseUrl());
+	}
+
+	/**
+	 * {@code kmdb.api.url} 로 사용할 주소
+	 */
+	public String baseUrl() {
+		return "http://localhost:" + server.getAddress().getPort() + "/search_api";
+	}
+
+	/**
+	 * @param latency 모든 응답에 더할 지연 시간
+	 * @param jitter  지연 시간에 더할 최대 무작위 시간
+	 */
+	public FakeKmdbServer latency(Duration latency, Duration jitter) {
+		this.latency = latency;
+		this.jitter = jitter;
+		return this;
+	}
+
+	/**
+	 * @param errorRate {@code 500} 으로 응답할 비율 (0 ~ 1)
+	 */
+	public FakeKmdbServer errorRate(double errorRate) {
+		this.errorRate = errorRate;
+		return this;
+	}
+
+	/**
+	 * @param paddingBytes 응답에 추가할 불필요한 필드 크기 (byte)
+	 */
+	public FakeKmdbServer paddingBytes(int paddingBytes) {
+		this.paddingBytes = paddingBytes;
+		return this;
+	}
+
+	public int requestCount() {
+		return requestCount.get();
+	}
+
+	public int errorCount() {
+		return errorCount.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			if (!exchange.getRequestURI().getPath().endsWith(PATH)) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			requestCount.incrementAndGet();
+			delay();
+
+			if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+				errorCount.incrementAndGet();
+				exchange.sendResponseHeaders(500, -1);
+				return;
+			}
+
+			byte[] body = pad(responseFor(queryParams(exchange.getRequestURI().getRawQuery())));
+			exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		}
+	}
+
+	private byte[] responseFor(Map<String, String> params) {
+		if (params.containsKey("movieId")) {
+			return detailTemplate.replace("${movieId}", params.get("movieId"))
+				.replace("${movieSeq}", params.getOrDefault("movieSeq", ""))
+				.getBytes(StandardCharsets.UTF_8);
+		}
+		if (NO_RESULT_QUERY.equals(params.get("query"))) {
+			return emptyBody;
+		}
+		return listBody;
+	}
+
+	private byte[] pad(byte[] body) {
+		int padding = paddingBytes;
+		if (padding <= 0) {
+			return body;
+		}
+		// 마지막 '}' 앞에 파서가 건너뛰어야 하는 필드를 추가한다.
+		String json = new String(body, StandardCharsets.UTF_8);
+		int end = json.lastIndexOf('}');
+		return (json.substring(0, end) + ",\"Padding\":\"" + "x".repeat(padding) + "\"}")
+			.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private void delay() {
+		long millis = latency.toMillis();
+		long jitterMillis = jitter.toMillis();
+		if (jitterMillis > 0) {
+			millis += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+		}
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Map<String, String> queryParams(String rawQuery) {
+		Map<String, String> params = new HashMap<>();
+		if (rawQuery == null) {
+			return params;
+		}
+		for (String pair : rawQuery.split("&")) {
+			int idx = pair.indexOf('=');
+			String name = URLDecoder.decode(idx < 0 ? pair : pair.substring(0, idx), StandardCharsets.UTF_8);
+			String value = idx < 0 ? "" : URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8);
+			params.put(name, value);
+		}
+		return params;
+	}
+
+	private static String fixture(String name) {
+		try (InputStream in = FakeKmdbServer.class.getResourceAsStream("/kmdb/" + name)) {
+			if (in == null) {
+				throw new IllegalStateException("KMDB 응답 파일이 없습니다 : " + name);
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
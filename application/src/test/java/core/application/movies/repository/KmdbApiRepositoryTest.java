@@ -0,0 +1,142 @@
+package core.application.movies.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.constant.KmdbParameter;
+import core.application.movies.exception.KmdbUnavailableException;
+import core.application.movies.repositories.movie.KmdbApiRepository;
+import core.application.movies.repositories.movie.kmdb.KmdbResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class KmdbApiRepositoryTest {
+
+	private FakeKmdbServer server;
+	private SimpleMeterRegistry registry;
+
+	@BeforeEach
+	void init() {
+		server = new FakeKmdbServer();
+		registry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void close() {
+		server.close();
+	}
+
+	private Map<KmdbParameter, String> search(String query) {
+		Map<KmdbParameter, String> params = new EnumMap<>(KmdbParameter.class);
+		params.put(KmdbParameter.START_COUNT, "0");
+		params.put(KmdbParameter.SORT, "RANK,1");
+		params.put(KmdbParameter.QUERY, query);
+		return params;
+	}
+
+	@Test
+	@DisplayName("KMDB 응답을 변환하고, 같은 요청은 캐시에서 제공한다.")
+	void searchAndCache() {
+		KmdbApiRepository repository = new KmdbTestClients().repository(server.baseUrl(), registry);
+
+		KmdbResponse first = repository.getResponseAsync(search("테스트")).block();
+		KmdbResponse second = repository.getResponseAsync(search(" 테스트 ")).block();
+
+		assertThat(first.getTotalCount()).isEqualTo(120);
+		assertThat(first.getMovies()).hasSize(10);
+		assertThat(first.getMovies().get(0).getTitle()).isEqualTo("테스트 영화 1");
+		assertThat(second).isSameAs(first);
+		assertThat(server.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("KMDB 가 실패하고 보관된 응답이 없으면 KmdbUnavailableException 이 발생한다.")
+	void unavailable() {
+		KmdbApiRepository repository = new KmdbTestClients().repository(server.baseUrl(), registry);
+		server.errorRate(1);
+
+		assertThatThrownBy(() -> repository.getResponseAsync(search("테스트")).block())
+			.isInstanceOf(KmdbUnavailableException.class);
+	}
+
+	@Test
+	@DisplayName("KMDB 가 실패하면 마지막으로 성공한 검색 응답을 제공한다.")
+	void serveStaleOnFailure() {
+		KmdbApiRepository repository = new KmdbTestClients()
+			.cacheTtl(Duration.ZERO)
+			.repository(server.baseUrl(), registry);
+		KmdbResponse fresh = repository.getResponseAsync(search("테스트")).block();
+
+		server.errorRate(1);
+		KmdbResponse stale = repository.getResponseAsync(search("테스트")).block();
+
+		assertThat(stale).isEqualTo(fresh);
+		assertThat(registry.get("kmdb.fallback").tag("type", "search").tag("result", "stale").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("KMDB 응답이 느리면 마지막으로 성공한 검색 응답을 먼저 제공한다.")
+	void serveStaleWhenSlow() {
+		KmdbApiRepository repository = new KmdbTestClients()
+			.cacheTtl(Duration.ZERO)
+			.staleServeAfter(Duration.ofMillis(100))
+			.repository(server.baseUrl(), registry);
+		KmdbResponse fresh = repository.getResponseAsync(search("테스트")).block();
+
+		server.latency(Duration.ofMillis(500), Duration.ZERO);
+		long start = System.nanoTime();
+		KmdbResponse stale = repository.getResponseAsync(search("테스트")).block();
+
+		assertThat(stale).isEqualTo(fresh);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(400));
+	}
+
+	@Test
+	@DisplayName("미리 불러온 응답은 캐시에서 제공하고, 이미 캐시된 응답은 다시 불러오지 않는다.")
+	void prefetch() throws InterruptedException {
+		KmdbApiRepository repository = new KmdbTestClients().repository(server.baseUrl(), registry);
+
+		assertThat(repository.prefetch(search("테스트"))).isTrue();
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (registry.get("cache.size").tag("cache", "kmdb.response").gauge().value() == 0
+			&& System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		repository.getResponseAsync(search("테스트")).block();
+
+		assertThat(repository.prefetch(search("테스트"))).isFalse();
+		assertThat(server.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("요청 한도에 여유가 없으면 미리 불러오지 않는다.")
+	void dropPrefetchWithoutBudget() {
+		KmdbApiRepository repository = new KmdbTestClients()
+			.permitsPerSecond(1)
+			.repository(server.baseUrl(), registry);
+		repository.getResponseAsync(search("테스트")).block();
+
+		assertThat(repository.prefetch(search("다른 검색어"))).isFalse();
+		assertThat(registry.get("kmdb.prefetch").tag("result", "dropped").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("형식과 무관한 큰 필드는 건너뛰고 변환한다.")
+	void largePayload() {
+		KmdbApiRepository repository = new KmdbTestClients().repository(server.baseUrl(), registry);
+		server.paddingBytes(2 * 1024 * 1024);
+
+		KmdbResponse response = repository.getResponseAsync(search("테스트")).block();
+
+		assertThat(response.getMovies()).hasSize(10);
+		assertThat(response.estimatedSize()).isLessThan(64 * 1024);
+	}
+}
@@ -0,0 +1,100 @@
+package core.application.movies.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.repositories.movie.kmdb.KmdbCircuitBreaker;
+import core.application.movies.repositories.movie.kmdb.KmdbCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class KmdbCircuitBreakerTest {
+
+	private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+	private final AtomicLong now = new AtomicLong();
+
+	private SimpleMeterRegistry registry;
+	private KmdbCircuitBreaker circuitBreaker;
+
+	@BeforeEach
+	void init() {
+		registry = new SimpleMeterRegistry();
+		circuitBreaker = new KmdbCircuitBreaker(3, OPEN_DURATION, 1, registry, now::get);
+	}
+
+	private void fail(int times) {
+		for (int i = 0; i < times; i++) {
+			assertThat(circuitBreaker.tryAcquire()).isTrue();
+			circuitBreaker.onFailure();
+		}
+	}
+
+	@Test
+	@DisplayName("연속 실패가 기준에 도달하면 서킷이 열리고 호출을 거부한다.")
+	void openAfterConsecutiveFailures() {
+		fail(2);
+		assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+
+		fail(1);
+		assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+		assertThat(circuitBreaker.tryAcquire()).isFalse();
+		assertThat(registry.get("kmdb.circuit.transitions").tag("state", "open").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공하면 연속 실패 횟수가 초기화된다.")
+	void successResetsFailures() {
+		fail(2);
+		circuitBreaker.tryAcquire();
+		circuitBreaker.onSuccess();
+		fail(2);
+
+		assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("열린 시간이 지나면 시험 호출 하나만 허용하고, 성공하면 서킷이 닫힌다.")
+	void halfOpenProbeSuccess() {
+		fail(3);
+		now.addAndGet(OPEN_DURATION.toNanos());
+
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+		assertThat(circuitBreaker.state()).isEqualTo(State.HALF_OPEN);
+		assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+		circuitBreaker.onSuccess();
+		assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+	}
+
+	@Test
+	@DisplayName("시험 호출이 실패하면 서킷이 다시 열린다.")
+	void halfOpenProbeFailure() {
+		fail(3);
+		now.addAndGet(OPEN_DURATION.toNanos());
+
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+		circuitBreaker.onFailure();
+
+		assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+		assertThat(circuitBreaker.tryAcquire()).isFalse();
+	}
+
+	@Test
+	@DisplayName("시험 호출이 취소되면 다른 시험 호출을 허용한다.")
+	void halfOpenProbeCancel() {
+		fail(3);
+		now.addAndGet(OPEN_DURATION.toNanos());
+
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+		circuitBreaker.onCancel();
+
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+	}
+}
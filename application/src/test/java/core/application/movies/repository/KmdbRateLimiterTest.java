@@ -0,0 +1,113 @@
+package core.application.movies.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.exception.KmdbUnavailableException;
+import core.application.movies.repositories.movie.kmdb.KmdbPriority;
+import core.application.movies.repositories.movie.kmdb.KmdbRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+public class KmdbRateLimiterTest {
+
+	private VirtualTimeScheduler scheduler;
+	private SimpleMeterRegistry registry;
+
+	@BeforeEach
+	void init() {
+		scheduler = VirtualTimeScheduler.create();
+		registry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void dispose() {
+		scheduler.dispose();
+	}
+
+	private KmdbRateLimiter limiter(int burst, int maxQueue, Duration maxWait) {
+		// 초당 10개, 토큰 하나당 100ms
+		return new KmdbRateLimiter(10, burst, maxQueue, maxWait, registry,
+			() -> scheduler.now(TimeUnit.NANOSECONDS), scheduler);
+	}
+
+	private double count(KmdbPriority priority, String result) {
+		return registry.get("kmdb.ratelimit")
+			.tag("priority", priority.name().toLowerCase())
+			.tag("result", result)
+			.counter().count();
+	}
+
+	@Test
+	@DisplayName("보관된 토큰만큼은 기다리지 않고 허용된다.")
+	void burst() {
+		KmdbRateLimiter limiter = limiter(3, 10, Duration.ofSeconds(1));
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire(KmdbPriority.INTERACTIVE)).isTrue();
+		}
+		assertThat(limiter.tryAcquire(KmdbPriority.INTERACTIVE)).isFalse();
+
+		scheduler.advanceTimeBy(Duration.ofMillis(100));
+		assertThat(limiter.tryAcquire(KmdbPriority.INTERACTIVE)).isTrue();
+	}
+
+	@Test
+	@DisplayName("대기 중인 요청은 사용자 요청이 백그라운드 요청보다 먼저 처리된다.")
+	void interactiveFirst() {
+		KmdbRateLimiter limiter = limiter(1, 10, Duration.ofSeconds(1));
+		limiter.tryAcquire(KmdbPriority.INTERACTIVE);
+
+		List<String> order = new ArrayList<>();
+		limiter.acquire(KmdbPriority.BACKGROUND).subscribe(null, null, () -> order.add("background"));
+		limiter.acquire(KmdbPriority.INTERACTIVE).subscribe(null, null, () -> order.add("interactive"));
+		assertThat(order).isEmpty();
+
+		scheduler.advanceTimeBy(Duration.ofMillis(100));
+		assertThat(order).containsExactly("interactive");
+
+		scheduler.advanceTimeBy(Duration.ofMillis(100));
+		assertThat(order).containsExactly("interactive", "background");
+		assertThat(limiter.queuedCount(KmdbPriority.BACKGROUND)).isZero();
+	}
+
+	@Test
+	@DisplayName("예상 대기 시간이 제한을 넘으면 바로 실패한다.")
+	void failFastOnBudgetExhausted() {
+		KmdbRateLimiter limiter = limiter(1, 10, Duration.ofMillis(250));
+		limiter.tryAcquire(KmdbPriority.INTERACTIVE);
+
+		List<Throwable> errors = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire(KmdbPriority.INTERACTIVE).subscribe(null, errors::add);
+		}
+
+		assertThat(errors).hasSize(1).first().isInstanceOf(KmdbUnavailableException.class);
+		assertThat(count(KmdbPriority.INTERACTIVE, "queued")).isEqualTo(2);
+		assertThat(count(KmdbPriority.INTERACTIVE, "rejected")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 바로 실패한다.")
+	void boundedQueue() {
+		KmdbRateLimiter limiter = limiter(1, 2, Duration.ofSeconds(10));
+		limiter.tryAcquire(KmdbPriority.BACKGROUND);
+
+		List<Throwable> errors = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire(KmdbPriority.BACKGROUND).subscribe(null, errors::add);
+		}
+
+		assertThat(errors).hasSize(1);
+		assertThat(limiter.queuedCount(KmdbPriority.BACKGROUND)).isEqualTo(2);
+	}
+}
@@ -0,0 +1,95 @@
+package core.application.movies.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.constant.KmdbParameter;
+import core.application.movies.repositories.movie.kmdb.KmdbMovie;
+import core.application.movies.repositories.movie.kmdb.KmdbQueryKey;
+import core.application.movies.repositories.movie.kmdb.KmdbQueryType;
+import core.application.movies.repositories.movie.kmdb.KmdbResponse;
+import core.application.movies.repositories.movie.kmdb.KmdbResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class KmdbResponseCacheTest {
+
+	private static final long MAX_WEIGHT = 64 * 1024;
+
+	private KmdbResponseCache cache;
+
+	@BeforeEach
+	void init() {
+		cache = new KmdbResponseCache(MAX_WEIGHT, Duration.ofMinutes(10), Duration.ofMinutes(30),
+			Duration.ofHours(6), new SimpleMeterRegistry());
+	}
+
+	private Map<KmdbParameter, String> params(Object... pairs) {
+		Map<KmdbParameter, String> map = new EnumMap<>(KmdbParameter.class);
+		for (int i = 0; i < pairs.length; i += 2) {
+			map.put((KmdbParameter)pairs[i], (String)pairs[i + 1]);
+		}
+		return map;
+	}
+
+	@Test
+	@DisplayName("파라미터 순서, 공백, 대소문자가 달라도 같은 키로 정규화된다.")
+	void normalizeKey() {
+		KmdbQueryKey first = KmdbQueryKey.from(params(
+			KmdbParameter.QUERY, "  Iron   Man ",
+			KmdbParameter.SORT, "RANK,1",
+			KmdbParameter.START_COUNT, "0"
+		));
+		KmdbQueryKey second = KmdbQueryKey.from(params(
+			KmdbParameter.START_COUNT, "0",
+			KmdbParameter.SORT, "RANK,1",
+			KmdbParameter.QUERY, "iron man"
+		));
+
+		assertThat(first).isEqualTo(second);
+		assertThat(first.getType()).isEqualTo(KmdbQueryType.SEARCH);
+	}
+
+	@Test
+	@DisplayName("요청 파라미터에 따라 요청 종류가 구분된다.")
+	void queryType() {
+		assertThat(KmdbQueryKey.from(params(KmdbParameter.GENRE, "액션", KmdbParameter.START_COUNT, "0")).getType())
+			.isEqualTo(KmdbQueryType.GENRE);
+		assertThat(KmdbQueryKey.from(params(KmdbParameter.MOVIE_ID, "K", KmdbParameter.MOVIE_SEQ, "1")).getType())
+			.isEqualTo(KmdbQueryType.DETAIL);
+	}
+
+	@Test
+	@DisplayName("캐시 조회 결과가 hit / miss 로 집계된다.")
+	void hitAndMiss() {
+		KmdbQueryKey key = KmdbQueryKey.from(params(KmdbParameter.QUERY, "범죄도시"));
+
+		assertThat(cache.get(key)).isNull();
+		KmdbResponse response = new KmdbResponse(0, null, true);
+		cache.put(key, response);
+		assertThat(cache.get(key)).isEqualTo(response);
+
+		assertThat(cache.stats().hitCount()).isEqualTo(1);
+		assertThat(cache.stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("응답 크기 합계가 상한을 넘으면 항목이 제거된다.")
+	void boundedByWeight() {
+		KmdbMovie movie = new KmdbMovie("K", "12345", "제목", "", "", "", "", "", "x".repeat(4 * 1024), "", "");
+		KmdbResponse body = new KmdbResponse(1, List.of(movie), true);
+		for (int i = 0; i < 100; i++) {
+			cache.put(KmdbQueryKey.from(params(KmdbParameter.QUERY, "query" + i)), body);
+		}
+
+		assertThat(cache.weightedSize()).isLessThanOrEqualTo(MAX_WEIGHT);
+		assertThat(cache.stats().evictionCount()).isPositive();
+	}
+}
@@ -0,0 +1,91 @@
+package core.application.movies.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.repositories.movie.kmdb.KmdbMovie;
+import core.application.movies.repositories.movie.kmdb.KmdbResponse;
+import core.application.movies.repositories.movie.kmdb.KmdbResponseParser;
+
+public class KmdbResponseParserTest {
+
+	private final KmdbResponseParser parser = new KmdbResponseParser();
+
+	private KmdbResponse parse(String json) {
+		return parser.parse(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("KMDB 응답에서 필요한 영화 정보만 추출한다.")
+	void parseMovie() {
+		String json = """
+			{
+			  "Query": "범죄도시",
+			  "TotalCount": 42,
+			  "Data": [{
+			    "CollName": "kmdb_new2",
+			    "Result": [{
+			      "DOCID": "K35201",
+			      "movieId": "K",
+			      "movieSeq": "35201",
+			      "title": " !HS범죄도시!HE 4",
+			      "prodYear": "2024",
+			      "directors": {"director": [
+			        {"directorNm": "허명행", "directorId": "00001"},
+			        {"directorNm": "다른감독", "directorId": "00002"}
+			      ]},
+			      "actors": {"actor": [
+			        {"actorNm": "마동석"}, {"actorNm": "김무열"}, {"actorNm": "박지환"},
+			        {"actorNm": "이동휘"}, {"actorNm": "이범수"}, {"actorNm": "이지훈"}
+			      ]},
+			      "plots": {"plot": [
+			        {"plotLang": "영어", "plotText": "english plot"},
+			        {"plotLang": "한국어", "plotText": "한국어 줄거리"}
+			      ]},
+			      "runtime": "109",
+			      "genre": "액션,범죄",
+			      "repRlsDate": "20240424",
+			      "posters": "http://poster1.jpg|http://poster2.jpg",
+			      "stlls": "http://still.jpg"
+			    }]
+			  }]
+			}
+			""";
+
+		KmdbResponse response = parse(json);
+
+		assertThat(response.getTotalCount()).isEqualTo(42);
+		assertThat(response.getHasData()).isTrue();
+		assertThat(response.getMovies()).hasSize(1);
+
+		KmdbMovie movie = response.getMovies().get(0);
+		assertThat(movie.getDocId()).isEqualTo("K-35201");
+		assertThat(movie.getTitle()).isEqualTo("범죄도시 4");
+		assertThat(movie.getPosterUrl()).isEqualTo("http://poster1.jpg");
+		assertThat(movie.getPlot()).isEqualTo("한국어 줄거리");
+		assertThat(movie.getActors()).isEqualTo("마동석, 김무열, 박지환, 이동휘, 이범수");
+		assertThat(movie.getDirector()).isEqualTo("허명행");
+		assertThat(movie.getGenre()).isEqualTo("액션,범죄");
+		assertThat(movie.getRepRlsDate()).isEqualTo("20240424");
+	}
+
+	@Test
+	@DisplayName("검색 결과가 없으면 영화 목록이 null 이다.")
+	void noResult() {
+		KmdbResponse response = parse("{\"TotalCount\":0,\"Data\":[{\"CollName\":\"kmdb_new2\"}]}");
+
+		assertThat(response.getHasData()).isTrue();
+		assertThat(response.getMovies()).isNull();
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 응답은 빈 응답으로 변환된다.")
+	void malformed() {
+		assertThat(parse("{\"TotalCount\": 1, \"Data\": [")).isEqualTo(KmdbResponse.EMPTY);
+		assertThat(parse("<html>error</html>")).isEqualTo(KmdbResponse.EMPTY);
+	}
+}
@@ -0,0 +1,77 @@
+package core.application.movies.repository;
+
+import java.time.Duration;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import core.application.config.WebClientConfig;
+import core.application.movies.repositories.movie.KmdbApiRepository;
+import core.application.movies.repositories.movie.kmdb.KmdbResponseCache;
+import core.application.movies.repositories.movie.kmdb.KmdbResponseParser;
+import core.application.movies.repositories.movie.kmdb.KmdbStaleResponseStore;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 스프링 컨텍스트 없이 {@link KmdbApiRepository} 를 구성하는 테스트 도우미
+ */
+public class KmdbTestClients {
+
+	private Duration cacheTtl = Duration.ofMinutes(10);
+	private Duration responseTimeout = Duration.ofSeconds(2);
+	private Duration hedgeDelay = Duration.ZERO;
+	private Duration staleServeAfter = Duration.ofSeconds(1);
+	private int maxOutstanding = 64;
+	private double permitsPerSecond = 1000;
+
+	public KmdbTestClients cacheTtl(Duration cacheTtl) {
+		this.cacheTtl = cacheTtl;
+		return this;
+	}
+
+	public KmdbTestClients responseTimeout(Duration responseTimeout) {
+		this.responseTimeout = responseTimeout;
+		return this;
+	}
+
+	public KmdbTestClients hedgeDelay(Duration hedgeDelay) {
+		this.hedgeDelay = hedgeDelay;
+		return this;
+	}
+
+	public KmdbTestClients staleServeAfter(Duration staleServeAfter) {
+		this.staleServeAfter = staleServeAfter;
+		return this;
+	}
+
+	public KmdbTestClients maxOutstanding(int maxOutstanding) {
+		this.maxOutstanding = maxOutstanding;
+		return this;
+	}
+
+	public KmdbTestClients permitsPerSecond(double permitsPerSecond) {
+		this.permitsPerSecond = permitsPerSecond;
+		return this;
+	}
+
+	/**
+	 * {@link WebClientConfig} 의 기본 주소를 {@code baseUrl} 로 바꿔 저장소를 구성한다.
+	 */
+	public KmdbApiRepository repository(String baseUrl, MeterRegistry registry) {
+		WebClientConfig config = new WebClientConfig();
+		ReflectionTestUtils.setField(config, "apiUrl", baseUrl);
+		ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(1));
+		ReflectionTestUtils.setField(config, "responseTimeout", responseTimeout);
+		WebClient webClient = config.webClient();
+
+		KmdbResponseCache cache = new KmdbResponseCache(32L * 1024 * 1024, cacheTtl, cacheTtl, cacheTtl, registry);
+		KmdbStaleResponseStore staleStore = new KmdbStaleResponseStore(16L * 1024 * 1024, Duration.ofHours(1),
+			registry);
+
+		return new KmdbApiRepository(webClient, cache, new KmdbResponseParser(), staleStore,
+			responseTimeout, maxOutstanding, hedgeDelay, staleServeAfter,
+			5, Duration.ofSeconds(30), 1,
+			permitsPerSecond, (int)Math.max(1, permitsPerSecond), 1000, Duration.ofSeconds(2),
+			registry);
+	}
+}
@@ -0,0 +1,153 @@
+package core.application.movies.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import core.application.movies.models.entities.CachedMovieEntity;
+import core.application.movies.repositories.movie.ranking.MovieRanking;
+import core.application.movies.repositories.movie.ranking.MovieRankingStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MovieRankingStoreTest {
+
+	private StringRedisTemplate redisTemplate;
+	private ZSetOperations<String, String> zSet;
+	private HashOperations<String, String, String> hash;
+	private SimpleMeterRegistry registry;
+	private MovieRankingStore store;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void init() {
+		redisTemplate = mock(StringRedisTemplate.class);
+		zSet = mock(ZSetOperations.class);
+		when(redisTemplate.opsForZSet()).thenReturn(zSet);
+		hash = mock(HashOperations.class);
+		when(redisTemplate.<String, String>opsForHash()).thenReturn(hash);
+		registry = new SimpleMeterRegistry();
+		store = new MovieRankingStore(redisTemplate, true, registry);
+	}
+
+	@AfterEach
+	void clear() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private static CachedMovieEntity movie(String movieId, long dibCount, long commentCount, long sumOfRating) {
+		return new CachedMovieEntity(movieId, "title", "poster", "genre", "20241010", "plot", "120", "actors",
+			"director", dibCount, 0, commentCount, sumOfRating);
+	}
+
+	private double reads(String source) {
+		return registry.counter("movie.ranking.read", "source", source).count();
+	}
+
+	@Test
+	@DisplayName("Redis 순위 순서대로 영화를 반환한다.")
+	void topFromRedis() {
+		when(zSet.reverseRange(MovieRanking.DIB.getKey(), 0, 2))
+			.thenReturn(new LinkedHashSet<>(List.of("B", "A", "C")));
+
+		List<CachedMovieEntity> result = store.top(MovieRanking.DIB, 3,
+			ids -> List.of(movie("A", 2, 0, 0), movie("C", 1, 0, 0), movie("B", 3, 0, 0)),
+			() -> fail("DB 조회"));
+
+		assertThat(result).extracting(CachedMovieEntity::getMovieId).containsExactly("B", "A", "C");
+		assertThat(reads("redis")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("순위가 없거나 Redis 를 사용할 수 없으면 DB 에서 조회한다.")
+	void fallback() {
+		List<CachedMovieEntity> fromDb = List.of(movie("A", 1, 0, 0));
+		when(zSet.reverseRange(anyString(), anyLong(), anyLong())).thenReturn(new LinkedHashSet<>());
+		assertThat(store.top(MovieRanking.DIB, 10, ids -> List.of(), () -> fromDb)).isEqualTo(fromDb);
+
+		when(zSet.reverseRange(anyString(), anyLong(), anyLong()))
+			.thenThrow(new RedisConnectionFailureException("down"));
+		assertThat(store.top(MovieRanking.REVIEW, 10, ids -> List.of(), () -> fromDb)).isEqualTo(fromDb);
+
+		assertThat(reads("db")).isEqualTo(2);
+		assertThat(registry.counter("movie.ranking.redis.error").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안의 점수 갱신은 커밋 이후 세 순위를 함께 갱신한다.")
+	@SuppressWarnings("unchecked")
+	void updateAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		store.update(movie("A", 5, 2, 7));
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(allKeys()),
+			eq("A"), eq("5.0"), eq("3.5"), eq("0.0"), eq("2"), eq("7"));
+	}
+
+	private static List<String> allKeys() {
+		return List.of(MovieRanking.DIB.getKey(), MovieRanking.RATING.getKey(), MovieRanking.REVIEW.getKey(),
+			MovieRankingStore.RATING_STATS_KEY);
+	}
+
+	@Test
+	@DisplayName("변경량만 아는 점수는 해당 순위에 변경량을 더하고, 평점은 평점 통계에 더해 다시 계산한다.")
+	@SuppressWarnings("unchecked")
+	void incrementAndRefresh() {
+		store.incrementScore(MovieRanking.DIB, "A", -1);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(MovieRanking.DIB.getKey())),
+			eq("A"), eq("-1.0"));
+
+		store.addRating("A", 1, 4);
+		verify(redisTemplate).execute(any(RedisScript.class),
+			eq(List.of(MovieRanking.RATING.getKey(), MovieRankingStore.RATING_STATS_KEY)),
+			eq("A"), eq("1"), eq("4"), eq("-1.0"));
+
+		store.refresh("A", () -> movie("A", 3, 2, 9));
+		verify(redisTemplate).execute(any(RedisScript.class), eq(allKeys()),
+			eq("A"), eq("3.0"), eq("4.5"), eq("0.0"), eq("2"), eq("9"));
+	}
+
+	@Test
+	@DisplayName("나눠 읽은 영화를 임시 키에 채운 뒤 순위 키로 교체한다.")
+	@SuppressWarnings("unchecked")
+	void rebuild() {
+		int total = store.rebuild(List.of(
+			List.of(movie("A", 1, 0, 0), movie("B", 2, 1, 4)),
+			List.of(movie("C", 3, 0, 0))
+		).iterator());
+
+		assertThat(total).isEqualTo(3);
+		verify(zSet, times(2 * MovieRanking.values().length)).add(
+			startsWith("{movie:ranking}:"), anySet());
+		verify(hash, times(2)).putAll(startsWith(MovieRankingStore.RATING_STATS_KEY + ":rebuild:"), anyMap());
+		verify(hash).putAll(anyString(), eq(Map.of("A:count", "0", "A:sum", "0", "B:count", "1", "B:sum", "4")));
+		verify(redisTemplate).execute(any(RedisScript.class), argThat((List<String> keys) -> keys.size() == 8));
+	}
+
+	@Test
+	@DisplayName("한줄평이 없는 영화는 평점 순위의 가장 뒤에 둔다.")
+	void ratingScore() {
+		assertThat(MovieRanking.RATING.score(movie("A", 0, 0, 0))).isEqualTo(MovieRanking.NO_RATING);
+		assertThat(MovieRanking.RATING.score(movie("B", 0, 3, 10))).isEqualTo(3.3);
+	}
+}
@@ -9,10 +9,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.transaction.annotation.Transactional;
 
 import core.application.movies.models.entities.CachedMovieEntity;
 import core.application.movies.repositories.movie.CachedMovieRepository;
+import core.application.movies.repositories.movie.MovieCounterDelta;
+import core.application.movies.repositories.movie.MovieCounters;
 
 @SpringBootTest
 @Transactional
@@ -46,6 +49,33 @@ public class MovieRepositoryTest {
 		checkEqualMovie(find, movie);
 	}
 
+	@Test
+	@DisplayName("여러 영화를 한 번에 저장하고, 이미 저장된 영화는 건너뛴다.")
+	public void saveAll() {
+		// GIVEN
+		CachedMovieEntity saved = new CachedMovieEntity(
+			"test-1", "testTitle1", "posterUrl", "액션", "2024-09-30", "줄거리", "122", "마동석", "봉준호",
+			1L, 2L, 3L, 4L
+		);
+		repository.saveNewMovie(saved);
+
+		List<CachedMovieEntity> movies = List.of(
+			new CachedMovieEntity("test-1", "otherTitle", "posterUrl", "액션", "2024-09-30", "줄거리", "122", "마동석",
+				"봉준호", 0L, 0L, 0L, 0L),
+			new CachedMovieEntity("test-2", "testTitle2", "posterUrl", "드라마", "2024-10-01", "줄거리", "100", "김무열",
+				"봉준호", 0L, 0L, 0L, 0L)
+		);
+
+		// WHEN
+		int inserted = repository.saveNewMovies(movies);
+
+		// THEN
+		assertThat(inserted).isEqualTo(1);
+		assertThat(repository.findExistingMovieIds(List.of("test-1", "test-2", "test-3")))
+			.containsExactlyInAnyOrder("test-1", "test-2");
+		checkEqualMovie(repository.findByMovieId("test-1"), saved);
+	}
+
 	@Test
 	@DisplayName("영화 정보를 수정한다.")
 	public void update() {
@@ -65,13 +95,23 @@ public class MovieRepositoryTest {
 		repository.saveNewMovie(movieEntity);
 
 		// WHEN
-		movieEntity.isCommentedWithRating(10);
-		movieEntity.incrementReviewCount();
-		repository.editMovie(movieEntity.getMovieId(), movieEntity);
+		CachedMovieEntity replacement = new CachedMovieEntity(
+			"test",
+			"testTitle",
+			"posterUrl",
+			"액션",
+			"2024-09-30",
+			"줄거리",
+			"122",
+			"마동석, 김무열",
+			"봉준호",
+			1L, 3L, 4L, 14L
+		);
+		repository.editMovie(movieEntity.getMovieId(), replacement);
 
 		// THEN
 		Optional<CachedMovieEntity> find = repository.findByMovieId(movieEntity.getMovieId());
-		checkEqualMovie(find, movieEntity);
+		checkEqualMovie(find, replacement);
 	}
 
 	@Test
@@ -141,6 +181,7 @@ public class MovieRepositoryTest {
 			assertThat(find.getReviewCount()).isEqualTo(movie.getReviewCount());
 			assertThat(find.getCommentCount()).isEqualTo(movie.getCommentCount());
 			assertThat(find.getSumOfRating()).isEqualTo(movie.getSumOfRating());
+			assertThat(find.getAvgRating()).isEqualTo(movie.getAvgRating());
 		});
 	}
 
@@ -241,4 +282,187 @@ public class MovieRepositoryTest {
 			assertThat(find.get(i).getSumOfRating()).isEqualTo(100 - 10 * i);
 		}
 	}
+
+	@Test
+	@DisplayName("쉼표로 구분된 장르 중 하나와 일치하는 영화를 장르별로 제공한다.")
+	public void genreMappingTest() {
+		// GIVEN
+		repository.saveNewMovie(new CachedMovieEntity(
+			"test-multi", "testTitle", "posterUrl", "액션, 범죄", "2024-09-30", "줄거리", "122", "마동석", "봉준호",
+			0L, 0L, 1L, 5L
+		));
+		repository.saveNewMovie(new CachedMovieEntity(
+			"test-other", "testTitle", "posterUrl", "액션코미디", "2024-09-30", "줄거리", "122", "마동석", "봉준호",
+			0L, 0L, 1L, 5L
+		));
+
+		// WHEN
+		Page<CachedMovieEntity> action = repository.findMoviesLikeGenreOrderByAvgRating(0, "액션");
+		Page<CachedMovieEntity> crime = repository.findMoviesLikeGenreOrderByAvgRating(0, "범죄");
+
+		// THEN
+		assertThat(action.getContent()).extracting(CachedMovieEntity::getMovieId).containsExactly("test-multi");
+		assertThat(action.getTotalElements()).isEqualTo(1);
+		assertThat(crime.getContent()).extracting(CachedMovieEntity::getMovieId).containsExactly("test-multi");
+	}
+
+	@Test
+	@DisplayName("'/' 로 묶은 장르도 나눠 각각의 장르로 제공한다.")
+	public void genreSlashMappingTest() {
+		// GIVEN
+		repository.saveNewMovie(new CachedMovieEntity(
+			"test-romance", "testTitle", "posterUrl", "멜로/로맨스,드라마", "2024-09-30", "줄거리", "122", "마동석", "봉준호",
+			0L, 0L, 1L, 5L
+		));
+
+		// WHEN
+		Page<CachedMovieEntity> romance = repository.findMoviesLikeGenreOrderByAvgRating(0, "로맨스");
+		Page<CachedMovieEntity> melo = repository.findMoviesLikeGenreOrderByAvgRating(0, "멜로");
+		Page<CachedMovieEntity> drama = repository.findMoviesLikeGenreOrderByAvgRating(0, "드라마");
+
+		// THEN
+		assertThat(romance.getContent()).extracting(CachedMovieEntity::getMovieId).containsExactly("test-romance");
+		assertThat(melo.getContent()).extracting(CachedMovieEntity::getMovieId).containsExactly("test-romance");
+		assertThat(drama.getContent()).extracting(CachedMovieEntity::getMovieId).containsExactly("test-romance");
+	}
+
+	private CachedMovieEntity saveCounterMovie(String movieId, long dib, long review, long comment, long rating) {
+		return repository.saveNewMovie(new CachedMovieEntity(
+			movieId, "testTitle", "posterUrl", "액션", "2024-09-30", "줄거리", "122", "마동석", "봉준호",
+			dib, review, comment, rating
+		));
+	}
+
+	private CachedMovieEntity find(String movieId) {
+		return repository.findByMovieId(movieId).orElseThrow();
+	}
+
+	@Test
+	@DisplayName("찜 수를 변경량만큼 바꾸고, 0 보다 작아지지 않는다.")
+	public void addDibCount() {
+		// GIVEN
+		saveCounterMovie("test-dib", 1L, 0L, 0L, 0L);
+
+		// WHEN
+		int added = repository.addDibCount("test-dib", 1L);
+		long afterAdd = find("test-dib").getDibCount();
+		int subtracted = repository.addDibCount("test-dib", -5L);
+		int missing = repository.addDibCount("test-none", 1L);
+
+		// THEN
+		assertThat(added).isEqualTo(1);
+		assertThat(afterAdd).isEqualTo(2L);
+		assertThat(subtracted).isEqualTo(1);
+		assertThat(find("test-dib").getDibCount()).isZero();
+		assertThat(missing).isZero();
+	}
+
+	@Test
+	@DisplayName("한줄평 수와 평점 합계를 함께 바꾸고, 바뀐 값으로 평균 평점을 다시 계산한다.")
+	public void addCommentRating() {
+		// GIVEN
+		saveCounterMovie("test-comment", 0L, 0L, 2L, 15L);
+
+		// WHEN
+		repository.addCommentRating("test-comment", 1L, 6L);
+		CachedMovieEntity written = find("test-comment");
+		repository.addCommentRating("test-comment", -1L, 10L);
+		CachedMovieEntity deleted = find("test-comment");
+
+		// THEN
+		assertThat(written.getCommentCount()).isEqualTo(3L);
+		assertThat(written.getSumOfRating()).isEqualTo(21L);
+		assertThat(written.getAvgRating()).isEqualTo(7.0);
+		assertThat(deleted.getCommentCount()).isEqualTo(2L);
+		assertThat(deleted.getSumOfRating()).isEqualTo(11L);
+		assertThat(deleted.getAvgRating()).isEqualTo(5.5);
+	}
+
+	@Test
+	@DisplayName("마지막 한줄평을 지우면 평균 평점이 null 이 되고, 한줄평 수는 0 보다 작아지지 않는다.")
+	public void addCommentRatingToZero() {
+		// GIVEN
+		saveCounterMovie("test-comment", 0L, 0L, 1L, 8L);
+
+		// WHEN
+		int deleted = repository.addCommentRating("test-comment", -1L, -8L);
+		int belowZero = repository.addCommentRating("test-comment", -1L, -8L);
+
+		// THEN
+		CachedMovieEntity find = find("test-comment");
+		assertThat(deleted).isEqualTo(1);
+		assertThat(belowZero).isZero();
+		assertThat(find.getCommentCount()).isZero();
+		assertThat(find.getSumOfRating()).isZero();
+		assertThat(find.getAvgRating()).isNull();
+	}
+
+	@Test
+	@DisplayName("여러 영화의 카운터 변경량을 한 번에 반영하고, 각 카운터는 0 보다 작아지지 않는다.")
+	public void addCounters() {
+		// GIVEN
+		saveCounterMovie("test-1", 1L, 1L, 1L, 4L);
+		saveCounterMovie("test-2", 5L, 2L, 2L, 10L);
+		saveCounterMovie("test-3", 3L, 3L, 3L, 9L);
+
+		// WHEN
+		int updated = repository.addCounters(List.of(
+			new MovieCounterDelta("test-1", -3L, 1L, 6L, 2L),
+			new MovieCounterDelta("test-2", 1L, -2L, -10L, -5L)
+		));
+
+		// THEN
+		assertThat(updated).isEqualTo(2);
+
+		CachedMovieEntity first = find("test-1");
+		assertThat(first.getDibCount()).isZero();
+		assertThat(first.getReviewCount()).isEqualTo(3L);
+		assertThat(first.getCommentCount()).isEqualTo(2L);
+		assertThat(first.getSumOfRating()).isEqualTo(10L);
+		assertThat(first.getAvgRating()).isEqualTo(5.0);
+
+		CachedMovieEntity second = find("test-2");
+		assertThat(second.getDibCount()).isEqualTo(6L);
+		assertThat(second.getReviewCount()).isZero();
+		assertThat(second.getCommentCount()).isZero();
+		assertThat(second.getSumOfRating()).isZero();
+		assertThat(second.getAvgRating()).isNull();
+
+		CachedMovieEntity untouched = find("test-3");
+		assertThat(untouched.getDibCount()).isEqualTo(3L);
+		assertThat(untouched.getCommentCount()).isEqualTo(3L);
+		assertThat(untouched.getAvgRating()).isEqualTo(3.0);
+	}
+
+	@Test
+	@DisplayName("카운터가 읽었던 값과 같을 때만 실제 값으로 고치고 평균 평점을 다시 계산한다.")
+	public void repairCounters() {
+		// GIVEN
+		saveCounterMovie("test-repair", 4L, 1L, 2L, 9L);
+		saveCounterMovie("test-changed", 4L, 1L, 2L, 9L);
+		MovieCounters expected = new MovieCounters("test-repair", 4L, 2L, 9L, 1L);
+		MovieCounters actual = new MovieCounters("test-repair", 3L, 3L, 12L, 2L);
+
+		// WHEN
+		int repaired = repository.repairCounters(expected, actual);
+		int conflicted = repository.repairCounters(
+			new MovieCounters("test-changed", 5L, 2L, 9L, 1L),
+			new MovieCounters("test-changed", 0L, 0L, 0L, 0L)
+		);
+
+		// THEN
+		assertThat(repaired).isEqualTo(1);
+		CachedMovieEntity find = find("test-repair");
+		assertThat(find.getDibCount()).isEqualTo(3L);
+		assertThat(find.getCommentCount()).isEqualTo(3L);
+		assertThat(find.getSumOfRating()).isEqualTo(12L);
+		assertThat(find.getReviewCount()).isEqualTo(2L);
+		assertThat(find.getAvgRating()).isEqualTo(4.0);
+
+		assertThat(conflicted).isZero();
+		CachedMovieEntity unchanged = find("test-changed");
+		assertThat(unchanged.getDibCount()).isEqualTo(4L);
+		assertThat(unchanged.getSumOfRating()).isEqualTo(9L);
+		assertThat(unchanged.getAvgRating()).isEqualTo(4.5);
+	}
 }
@@ -0,0 +1,158 @@
+package core.application.movies.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import core.application.movies.models.dto.response.CommentRespDTO;
+import core.application.movies.models.events.CommentReaction;
+import core.application.movies.models.events.CommentReactionChangedEvent;
+import core.application.movies.repositories.comment.CommentDislikeRepository;
+import core.application.movies.repositories.comment.CommentLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CommentReactionCacheTest {
+
+	private final UUID userId = UUID.randomUUID();
+
+	private CommentLikeRepository likeRepository;
+	private CommentDislikeRepository dislikeRepository;
+	private StringRedisTemplate redisTemplate;
+	private HashOperations<String, String, String> hash;
+	// Redis 의 사용자별 hash
+	private Map<String, Map<String, String>> redis;
+	private CommentReactionCache cache;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void init() {
+		likeRepository = mock(CommentLikeRepository.class);
+		dislikeRepository = mock(CommentDislikeRepository.class);
+		redisTemplate = mock(StringRedisTemplate.class);
+		hash = mock(HashOperations.class);
+		redis = new HashMap<>();
+
+		when(redisTemplate.<String, String>opsForHash()).thenReturn(hash);
+		when(hash.multiGet(anyString(), anyCollection())).thenAnswer(invocation -> {
+			Map<String, String> fields = redis.getOrDefault(invocation.<String>getArgument(0), Map.of());
+			return invocation.<List<String>>getArgument(1).stream().map(fields::get).toList();
+		});
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+			Object[] args = invocation.getArguments();
+			boolean ifAbsent = ((RedisScript<?>)args[0]).getScriptAsString().contains("HSETNX");
+			Map<String, String> fields = redis.computeIfAbsent(invocation.<List<String>>getArgument(1).get(0),
+				key -> new HashMap<>());
+			// 마지막 인자는 TTL
+			for (int i = 2; i < args.length - 1; i += 2) {
+				if (ifAbsent) {
+					fields.putIfAbsent((String)args[i], (String)args[i + 1]);
+				} else {
+					fields.put((String)args[i], (String)args[i + 1]);
+				}
+			}
+			return 0L;
+		});
+
+		cache = newCache();
+	}
+
+	private CommentReactionCache newCache() {
+		return new CommentReactionCache(likeRepository, dislikeRepository, redisTemplate, Duration.ofMinutes(30),
+			new SimpleMeterRegistry());
+	}
+
+	private static Page<CommentRespDTO> page(long... commentIds) {
+		List<CommentRespDTO> comments = Arrays.stream(commentIds)
+			.mapToObj(id -> new CommentRespDTO(id, "content", 0, 0, 5, "A", null, null))
+			.toList();
+		return new PageImpl<>(comments, PageRequest.of(0, 10), 30);
+	}
+
+	@Test
+	@DisplayName("보관되지 않은 한줄평만 한 번에 불러오고, 반응이 없는 한줄평도 보관한다.")
+	void decorate() {
+		when(likeRepository.findLikedCommentIds(eq(userId), any())).thenReturn(List.of(1L));
+		when(dislikeRepository.findDislikedCommentIds(eq(userId), any())).thenReturn(List.of(2L));
+
+		Page<CommentRespDTO> first = cache.decorate(userId, page(1, 2, 3));
+		Page<CommentRespDTO> second = cache.decorate(userId, page(1, 2, 3));
+		cache.decorate(userId, page(3, 4));
+
+		assertThat(first.getContent()).extracting(CommentRespDTO::isLiked).containsExactly(true, false, false);
+		assertThat(first.getContent()).extracting(CommentRespDTO::isDisliked).containsExactly(false, true, false);
+		assertThat(first.getTotalElements()).isEqualTo(30);
+		assertThat(second.getContent()).isEqualTo(first.getContent());
+		verify(likeRepository).findLikedCommentIds(userId, List.of(1L, 2L, 3L));
+		verify(likeRepository).findLikedCommentIds(userId, List.of(4L));
+		verify(dislikeRepository).findDislikedCommentIds(userId, List.of(1L, 2L, 3L));
+		verify(dislikeRepository).findDislikedCommentIds(userId, List.of(4L));
+		verifyNoMoreInteractions(likeRepository, dislikeRepository);
+	}
+
+	@Test
+	@DisplayName("로그인하지 않은 사용자는 반응을 조회하지 않는다.")
+	void anonymous() {
+		Page<CommentRespDTO> page = page(1, 2);
+
+		assertThat(cache.decorate(null, page)).isSameAs(page);
+		verifyNoInteractions(likeRepository, dislikeRepository, redisTemplate);
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 반응이 바뀌어도 바뀐 값을 읽는다.")
+	void onReactionChangedOnOtherServer() {
+		when(likeRepository.findLikedCommentIds(eq(userId), any())).thenReturn(List.of());
+		when(dislikeRepository.findDislikedCommentIds(eq(userId), any())).thenReturn(List.of());
+		CommentReactionCache other = newCache();
+		assertThat(cache.decorate(userId, page(1)).getContent().get(0).isLiked()).isFalse();
+
+		other.onReactionChanged(new CommentReactionChangedEvent(1L, userId, CommentReaction.LIKE, true));
+		assertThat(cache.decorate(userId, page(1)).getContent().get(0).isLiked()).isTrue();
+
+		other.onReactionChanged(new CommentReactionChangedEvent(1L, userId, CommentReaction.LIKE, false));
+		assertThat(cache.decorate(userId, page(1)).getContent().get(0).isLiked()).isFalse();
+		verify(likeRepository, times(1)).findLikedCommentIds(eq(userId), any());
+	}
+
+	@Test
+	@DisplayName("반응이 바뀌기 전에 읽은 값은 바뀐 값을 덮어쓰지 않는다.")
+	void staleLoad() {
+		when(likeRepository.findLikedCommentIds(eq(userId), any())).thenAnswer(invocation -> {
+			cache.onReactionChanged(new CommentReactionChangedEvent(1L, userId, CommentReaction.LIKE, true));
+			return List.of();
+		});
+
+		cache.decorate(userId, page(1));
+
+		assertThat(cache.decorate(userId, page(1)).getContent().get(0).isLiked()).isTrue();
+	}
+
+	@Test
+	@DisplayName("Redis 를 사용할 수 없으면 반응 테이블에서 불러온 값을 사용한다.")
+	void redisUnavailable() {
+		when(hash.multiGet(anyString(), anyCollection())).thenThrow(new RedisConnectionFailureException("down"));
+		when(likeRepository.findLikedCommentIds(eq(userId), any())).thenReturn(List.of(1L));
+
+		Page<CommentRespDTO> result = cache.decorate(userId, page(1, 2));
+
+		assertThat(result.getContent()).extracting(CommentRespDTO::isLiked).containsExactly(true, false);
+	}
+}
@@ -10,9 +10,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import core.application.movies.constant.CommentSort;
+import core.application.movies.exception.InvalidReactionException;
+import core.application.movies.exception.NoMovieException;
 import core.application.movies.models.dto.request.CommentWriteReqDTO;
 import core.application.movies.models.dto.response.CommentRespDTO;
 import core.application.movies.models.entities.CachedMovieEntity;
@@ -87,6 +90,19 @@ public class CommentServiceTest {
 		assertThat(find.get().getRating()).isEqualTo(writeReqDTO.getRating());
 	}
 
+	@Test
+	@DisplayName("없는 영화에는 한줄평을 작성할 수 없다.")
+	public void writeCommentOnMissingMovie() {
+		// GIVEN
+		CommentWriteReqDTO writeReqDTO = new CommentWriteReqDTO("한줄평 내용입니다.", 10);
+		UserEntity writer = users.get(0);
+
+		// WHEN / THEN
+		assertThatThrownBy(() -> commentService.writeCommentOnMovie(writeReqDTO, writer, "NO MOVIE"))
+			.isInstanceOf(NoMovieException.class);
+		assertThat(commentRepository.existsByMovieIdAndUserId("NO MOVIE", writer.getUserId())).isFalse();
+	}
+
 	@Test
 	@DisplayName("영화의 한줄평을 최신순으로 불러온다.")
 	public void getLatestComments() throws InterruptedException {
@@ -109,6 +125,25 @@ public class CommentServiceTest {
 		}
 	}
 
+	@Test
+	@DisplayName("전체 개수 없이 다음 페이지가 있는지만 확인해 한줄평을 불러온다.")
+	public void getCommentSlice() {
+		// GIVEN
+		for (int i = 0; i < 10; i++) {
+			CommentWriteReqDTO writeReqDTO = new CommentWriteReqDTO(i + "번째 한줄평", 10);
+			commentService.writeCommentOnMovie(writeReqDTO, users.get(i), movieId);
+		}
+
+		// WHEN
+		Slice<CommentRespDTO> first = commentService.getCommentSlice(movieId, 0, CommentSort.LATEST, null);
+		Slice<CommentRespDTO> next = commentService.getCommentSlice(movieId, 1, CommentSort.LATEST, null);
+
+		// THEN
+		assertThat(first.getContent()).hasSize(10);
+		assertThat(first.hasNext()).isFalse();
+		assertThat(next.getContent()).isEmpty();
+	}
+
 	@Test
 	@DisplayName("한줄평을 좋아요 순으로 불러온다.")
 	public void getMostLikedComments() {
@@ -176,6 +211,24 @@ public class CommentServiceTest {
 		assertThat(comment.getLike()).isEqualTo(1);
 	}
 
+	@Test
+	@DisplayName("같은 한줄평에 좋아요를 다시 누르면 좋아요 수를 바꾸지 않는다.")
+	public void likeCommentTwice() {
+		// GIVEN
+		CommentWriteReqDTO writeReqDTO = new CommentWriteReqDTO("한줄평입니다.", 10);
+		UserEntity writer = users.get(0);
+		CommentRespDTO commentRespDTO = commentService.writeCommentOnMovie(writeReqDTO, writer, movieId);
+		commentService.incrementCommentLike(commentRespDTO.getCommentId(), writer.getUserId());
+
+		// WHEN
+		assertThatExceptionOfType(InvalidReactionException.class).isThrownBy(
+			() -> commentService.incrementCommentLike(commentRespDTO.getCommentId(), writer.getUserId()));
+
+		// THEN
+		CommentEntity comment = commentRepository.findByCommentId(commentRespDTO.getCommentId()).orElseThrow();
+		assertThat(comment.getLike()).isEqualTo(1);
+	}
+
 	@Test
 	@DisplayName("좋아요를 취소한다.")
 	public void cancelLikeComment() {
@@ -0,0 +1,73 @@
+package core.application.movies.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import core.application.movies.constant.Genre;
+import core.application.movies.constant.MovieSearch;
+import core.application.movies.exception.KmdbUnavailableException;
+import core.application.movies.models.dto.response.MovieSearchRespDTO;
+import core.application.movies.repositories.movie.kmdb.KmdbPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class GenrePageWarmerTest {
+
+	private MovieService movieService;
+	private GenrePageSnapshot snapshot;
+	private GenrePageWarmer warmer;
+
+	@BeforeEach
+	void init() {
+		movieService = mock(MovieService.class);
+		snapshot = new GenrePageSnapshot();
+		warmer = new GenrePageWarmer(movieService, snapshot, true, 2, new SimpleMeterRegistry());
+	}
+
+	private Page<MovieSearchRespDTO> page(String title) {
+		return new PageImpl<>(List.of(new MovieSearchRespDTO("K-1", title, "poster", "2024")), PageRequest.of(0, 10),
+			1);
+	}
+
+	@Test
+	@DisplayName("모든 장르의 앞쪽 페이지를 최신순, 평점순으로 만든다.")
+	void warmAllGenres() {
+		when(movieService.loadMoviesWithGenreLatestOrder(anyInt(), any(), eq(KmdbPriority.BACKGROUND)))
+			.thenAnswer(invocation -> CompletableFuture.completedFuture(page("최신")));
+		when(movieService.loadMoviesWithGenreRatingOrder(anyInt(), any())).thenAnswer(invocation -> page("평점"));
+
+		warmer.refresh();
+
+		assertThat(snapshot.size()).isEqualTo(Genre.values().length * 2 * 2);
+		assertThat(snapshot.get(Genre.ACTION, MovieSearch.LATEST, 1).getContent().get(0).getTitle())
+			.isEqualTo("최신");
+		assertThat(snapshot.get(Genre.DRAMA, MovieSearch.RATING, 0).getContent().get(0).getTitle())
+			.isEqualTo("평점");
+		assertThat(snapshot.get(Genre.DRAMA, MovieSearch.RATING, 2)).isNull();
+	}
+
+	@Test
+	@DisplayName("만들지 못한 페이지는 이전 페이지를 유지한다.")
+	void keepPreviousOnFailure() {
+		when(movieService.loadMoviesWithGenreLatestOrder(anyInt(), any(), any()))
+			.thenAnswer(invocation -> CompletableFuture.completedFuture(page("이전")));
+		when(movieService.loadMoviesWithGenreRatingOrder(anyInt(), any())).thenAnswer(invocation -> page("평점"));
+		warmer.refresh();
+
+		when(movieService.loadMoviesWithGenreLatestOrder(anyInt(), any(), any()))
+			.thenAnswer(invocation -> CompletableFuture.failedFuture(new KmdbUnavailableException("KMDB 오류")));
+		warmer.refresh();
+
+		assertThat(snapshot.get(Genre.SF, MovieSearch.LATEST, 0).getContent().get(0).getTitle()).isEqualTo("이전");
+	}
+}
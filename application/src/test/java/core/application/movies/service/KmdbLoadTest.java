@@ -0,0 +1,158 @@
+package core.application.movies.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.constant.Genre;
+import core.application.movies.constant.MovieSearch;
+import core.application.movies.models.entities.CachedMovieEntity;
+import core.application.movies.repositories.movie.CachedMovieRepository;
+import core.application.movies.repositories.movie.KmdbApiRepository;
+import core.application.movies.repository.FakeKmdbServer;
+import core.application.movies.repository.KmdbTestClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * KMDB 대역 서버를 이용한 영화 검색 / 장르 / 상세 조회 처리량 측정
+ * <p>
+ * 기본 테스트에서는 제외되며 {@code gradle loadTest} 로 실행한다.
+ * {@code -Dkmdb.load.requests}, {@code -Dkmdb.load.concurrency}, {@code -Dkmdb.fake.latency-ms},
+ * {@code -Dkmdb.fake.error-rate}, {@code -Dkmdb.fake.padding-bytes}, {@code -Dkmdb.load.prefetch} 로 조건을 바꿀 수 있다.
+ */
+@Tag("load")
+public class KmdbLoadTest {
+
+	private static final int REQUESTS = Integer.getInteger("kmdb.load.requests", 2000);
+	private static final int CONCURRENCY = Integer.getInteger("kmdb.load.concurrency", 64);
+
+	private FakeKmdbServer server;
+	private SimpleMeterRegistry registry;
+	private MovieServiceImpl movieService;
+
+	@BeforeEach
+	void init() {
+		server = new FakeKmdbServer()
+			.latency(Duration.ofMillis(Long.getLong("kmdb.fake.latency-ms", 50)), Duration.ofMillis(20))
+			.errorRate(Double.parseDouble(System.getProperty("kmdb.fake.error-rate", "0")))
+			.paddingBytes(Integer.getInteger("kmdb.fake.padding-bytes", 0));
+		registry = new SimpleMeterRegistry();
+
+		KmdbApiRepository kmdbRepository = new KmdbTestClients()
+			.permitsPerSecond(100_000)
+			.responseTimeout(Duration.ofSeconds(5))
+			.maxOutstanding(CONCURRENCY * 2)
+			.repository(server.baseUrl(), registry);
+		CachedMovieRepository movieRepository = inMemoryMovieRepository();
+		SearchedMovieWriter writer = new SearchedMovieWriter(movieRepository, 100, 10_000, registry);
+
+		MoviePagePrefetcher prefetcher = new MoviePagePrefetcher(kmdbRepository,
+			Boolean.getBoolean("kmdb.load.prefetch"));
+
+		movieService = new MovieServiceImpl(movieRepository, kmdbRepository, writer, prefetcher,
+			new GenrePageSnapshot(), new MainPageLeaderboard(movieRepository, 10, 50, Duration.ofSeconds(2), 100, false, registry),
+			new MovieCounterBuffer(movieRepository, event -> {
+			}, true, 200, registry), registry);
+		movieService.setDefaultImgUrl("default.jpg");
+	}
+
+	@AfterEach
+	void close() {
+		server.close();
+	}
+
+	/**
+	 * 영화 ID 로 저장 / 조회만 지원하는 메모리 저장소
+	 */
+	private CachedMovieRepository inMemoryMovieRepository() {
+		Map<String, CachedMovieEntity> movies = new ConcurrentHashMap<>();
+		CachedMovieRepository repository = mock(CachedMovieRepository.class);
+		when(repository.findByMovieId(any())).thenAnswer(
+			invocation -> Optional.ofNullable(movies.get(invocation.<String>getArgument(0))));
+		when(repository.saveNewMovie(any())).thenAnswer(invocation -> {
+			CachedMovieEntity movie = invocation.getArgument(0);
+			movies.putIfAbsent(movie.getMovieId(), movie);
+			return movie;
+		});
+		when(repository.saveNewMovies(any())).thenAnswer(invocation -> {
+			List<CachedMovieEntity> batch = invocation.getArgument(0);
+			return (int)batch.stream().filter(movie -> movies.putIfAbsent(movie.getMovieId(), movie) == null).count();
+		});
+		return repository;
+	}
+
+	@Test
+	@DisplayName("검색 처리량")
+	void search() {
+		// 같은 검색어가 반복되는 분포 (100 종류)
+		report("search", run(i -> movieService.searchMoviesAsync(0, MovieSearch.RANK, "검색어" + (i % 100))));
+	}
+
+	@Test
+	@DisplayName("장르 최신순 처리량")
+	void genre() {
+		Genre[] genres = Genre.values();
+		report("genre", run(i -> movieService.getMoviesWithGenreLatestOrderAsync(i % 5, genres[i % genres.length])));
+	}
+
+	@Test
+	@DisplayName("상세 조회 처리량")
+	void detail() {
+		// 절반은 이미 조회한 영화
+		report("detail", run(i -> movieService.getMovieDetailInfoAsync("K-" + (i % (REQUESTS / 2)))));
+	}
+
+	private Result run(IntFunction<CompletableFuture<?>> call) {
+		Semaphore inFlight = new Semaphore(CONCURRENCY);
+		AtomicInteger failures = new AtomicInteger();
+		List<CompletableFuture<?>> futures = new ArrayList<>(REQUESTS);
+
+		int before = server.requestCount();
+		long start = System.nanoTime();
+		for (int i = 0; i < REQUESTS; i++) {
+			inFlight.acquireUninterruptibly();
+			futures.add(call.apply(i).whenComplete((result, error) -> {
+				if (error != null) {
+					failures.incrementAndGet();
+				}
+				inFlight.release();
+			}));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+		return new Result(elapsed, failures.get(), server.requestCount() - before);
+	}
+
+	private void report(String name, Result result) {
+		double throughput = REQUESTS / (result.elapsed.toNanos() / 1e9);
+		System.out.printf("[KMDB load] %-6s requests=%d concurrency=%d elapsed=%dms throughput=%.1f/s "
+				+ "kmdbCalls=%d failures=%d%n",
+			name, REQUESTS, CONCURRENCY, result.elapsed.toMillis(), throughput, result.kmdbCalls, result.failures);
+
+		assertThat(result.kmdbCalls).isLessThanOrEqualTo(REQUESTS);
+		if (server.errorCount() == 0) {
+			assertThat(result.failures).isZero();
+		}
+	}
+
+	private record Result(Duration elapsed, int failures, int kmdbCalls) {
+	}
+}
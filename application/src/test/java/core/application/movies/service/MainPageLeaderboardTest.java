@@ -0,0 +1,196 @@
+package core.application.movies.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import core.application.movies.models.dto.response.MainPageMovieRespDTO;
+import core.application.movies.models.dto.response.MainPageMoviesRespDTO;
+import core.application.movies.models.entities.CachedMovieEntity;
+import core.application.movies.models.events.MovieCounter;
+import core.application.movies.models.events.MovieCounterChangedEvent;
+import core.application.movies.repositories.movie.CachedMovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MainPageLeaderboardTest {
+
+	private CachedMovieRepository movieRepository;
+	private SimpleMeterRegistry registry;
+	private MainPageLeaderboard leaderboard;
+
+	@BeforeEach
+	void init() {
+		movieRepository = mock(CachedMovieRepository.class);
+		registry = new SimpleMeterRegistry();
+		leaderboard = new MainPageLeaderboard(movieRepository, 10, 50, Duration.ofMillis(500), 100, false, registry);
+	}
+
+	@AfterEach
+	void shutdown() {
+		leaderboard.shutdown();
+	}
+
+	private static CachedMovieEntity movie(String movieId) {
+		return new CachedMovieEntity(movieId, "title", "poster", "genre", "20241010", "plot", "120", "actors",
+			"director", 1, 1, 1, 5);
+	}
+
+	private static List<String> ids(List<MainPageMovieRespDTO> movies) {
+		return movies.stream().map(MainPageMovieRespDTO::getMovieId).toList();
+	}
+
+	@Test
+	@DisplayName("세 순위를 동시에 조회한다.")
+	void queryConcurrently() {
+		CountDownLatch started = new CountDownLatch(3);
+		Answer<List<CachedMovieEntity>> awaitOthers = invocation -> {
+			started.countDown();
+			// 다른 두 조회가 동시에 실행되지 않으면 시간 초과로 실패한다.
+			started.await(1, TimeUnit.SECONDS);
+			return started.getCount() == 0 ? List.of(movie("M-" + invocation.getMethod().getName())) : List.of();
+		};
+		when(movieRepository.selectOnDibOrderDescend(50)).thenAnswer(awaitOthers);
+		when(movieRepository.selectOnAVGRatingDescend(50)).thenAnswer(awaitOthers);
+		when(movieRepository.selectOnReviewCountDescend(50)).thenAnswer(awaitOthers);
+
+		MainPageMoviesRespDTO result = leaderboard.mainPageMovies();
+
+		assertThat(ids(result.getDibMovieList())).containsExactly("M-selectOnDibOrderDescend");
+		assertThat(ids(result.getRatingMovieList())).containsExactly("M-selectOnAVGRatingDescend");
+		assertThat(ids(result.getReviewMovieList())).containsExactly("M-selectOnReviewCountDescend");
+	}
+
+	@Test
+	@DisplayName("시간 안에 조회하지 못하거나 실패한 순위는 이전 목록을 유지한다.")
+	void keepPreviousOnTimeout() {
+		when(movieRepository.selectOnDibOrderDescend(50)).thenReturn(List.of(movie("D-1")));
+		when(movieRepository.selectOnAVGRatingDescend(50)).thenReturn(List.of(movie("R-1")));
+		when(movieRepository.selectOnReviewCountDescend(50)).thenReturn(List.of(movie("V-1")));
+		leaderboard.rebuild();
+
+		when(movieRepository.selectOnDibOrderDescend(50)).thenAnswer(invocation -> {
+			Thread.sleep(5_000);
+			return List.of(movie("D-2"));
+		});
+		when(movieRepository.selectOnAVGRatingDescend(50)).thenThrow(new IllegalStateException("down"));
+		when(movieRepository.selectOnReviewCountDescend(50)).thenReturn(List.of(movie("V-2")));
+
+		long started = System.nanoTime();
+		leaderboard.rebuild();
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+		MainPageMoviesRespDTO result = leaderboard.mainPageMovies();
+		assertThat(elapsed).isLessThan(2_000);
+		assertThat(ids(result.getDibMovieList())).containsExactly("D-1");
+		assertThat(ids(result.getRatingMovieList())).containsExactly("R-1");
+		assertThat(ids(result.getReviewMovieList())).containsExactly("V-2");
+		assertThat(registry.counter("movie.leaderboard.query.failure", "ranking", "dib", "result", "timeout")
+			.count()).isEqualTo(1);
+		assertThat(registry.counter("movie.leaderboard.query.failure", "ranking", "rating", "result", "error")
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("순위 반영은 이벤트를 발행한 스레드가 아닌 별도 스레드에서 수행한다.")
+	void applyChangeOffCallerThread() throws Exception {
+		when(movieRepository.selectOnDibOrderDescend(50)).thenReturn(List.of(movie("D-1")));
+		when(movieRepository.selectOnAVGRatingDescend(50)).thenReturn(List.of(movie("D-1")));
+		when(movieRepository.selectOnReviewCountDescend(50)).thenReturn(List.of(movie("D-1")));
+		leaderboard.rebuild();
+
+		CompletableFuture<String> applied = new CompletableFuture<>();
+		CountDownLatch release = new CountDownLatch(1);
+		when(movieRepository.findByMovieId("D-2")).thenAnswer(invocation -> {
+			release.await(1, TimeUnit.SECONDS);
+			applied.complete(Thread.currentThread().getName());
+			return Optional.of(movie("D-2"));
+		});
+
+		leaderboard.onCounterChanged(new MovieCounterChangedEvent("D-2", MovieCounter.DIB));
+		assertThat(applied).isNotDone();
+		release.countDown();
+
+		assertThat(applied.get(1, TimeUnit.SECONDS)).isNotEqualTo(Thread.currentThread().getName());
+		verify(movieRepository, timeout(1_000)).findByMovieId("D-2");
+	}
+
+	@Test
+	@DisplayName("Redis 순위를 사용하면 주기적으로 공유 순위를 읽어 응답을 만들고, 순위가 그대로면 이전 응답을 유지한다.")
+	void readSharedRanking() {
+		MainPageLeaderboard shared = new MainPageLeaderboard(movieRepository, 10, 50, Duration.ofMillis(500), 100,
+			true, registry);
+		try {
+			when(movieRepository.selectOnDibOrderDescend(10)).thenReturn(List.of(movie("D-1")));
+			when(movieRepository.selectOnAVGRatingDescend(10)).thenReturn(List.of(movie("R-1")));
+			when(movieRepository.selectOnReviewCountDescend(10)).thenReturn(List.of(movie("V-1")));
+
+			MainPageMoviesRespDTO first = shared.mainPageMovies();
+			shared.refreshShared();
+			assertThat(shared.mainPageMovies()).isSameAs(first);
+
+			// 다른 서버에서 바뀐 순위
+			when(movieRepository.selectOnDibOrderDescend(10)).thenReturn(List.of(movie("D-2"), movie("D-1")));
+			assertThat(shared.mainPageMovies()).isSameAs(first);
+			shared.refreshShared();
+			MainPageMoviesRespDTO changed = shared.mainPageMovies();
+
+			assertThat(ids(changed.getDibMovieList())).containsExactly("D-2", "D-1");
+			assertThat(ids(changed.getRatingMovieList())).containsExactly("R-1");
+			verify(movieRepository, times(3)).selectOnDibOrderDescend(10);
+
+			shared.onCounterChanged(new MovieCounterChangedEvent("D-1", MovieCounter.DIB));
+			shared.rebuild();
+			verify(movieRepository, never()).findByMovieId(any());
+			verify(movieRepository, never()).selectOnDibOrderDescend(50);
+		} finally {
+			shared.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Redis 순위를 사용해도 시간 안에 조회하지 못한 순위만 이전 목록을 유지하고, 나머지는 반영한다.")
+	void sharedSlowBranch() {
+		MainPageLeaderboard shared = new MainPageLeaderboard(movieRepository, 10, 50, Duration.ofMillis(500), 100,
+			true, registry);
+		try {
+			when(movieRepository.selectOnDibOrderDescend(10)).thenReturn(List.of(movie("D-1")));
+			when(movieRepository.selectOnAVGRatingDescend(10)).thenReturn(List.of(movie("R-1")));
+			when(movieRepository.selectOnReviewCountDescend(10)).thenReturn(List.of(movie("V-1")));
+			shared.mainPageMovies();
+
+			when(movieRepository.selectOnDibOrderDescend(10)).thenAnswer(invocation -> {
+				Thread.sleep(5_000);
+				return List.of(movie("D-2"));
+			});
+			when(movieRepository.selectOnAVGRatingDescend(10)).thenReturn(List.of(movie("R-2")));
+			when(movieRepository.selectOnReviewCountDescend(10)).thenReturn(List.of(movie("V-2")));
+
+			long started = System.nanoTime();
+			shared.refreshShared();
+			long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+			MainPageMoviesRespDTO result = shared.mainPageMovies();
+			assertThat(elapsed).isLessThan(2_000);
+			assertThat(ids(result.getDibMovieList())).containsExactly("D-1");
+			assertThat(ids(result.getRatingMovieList())).containsExactly("R-2");
+			assertThat(ids(result.getReviewMovieList())).containsExactly("V-2");
+			assertThat(registry.counter("movie.leaderboard.query.failure", "ranking", "dib", "result", "timeout")
+				.count()).isEqualTo(1);
+		} finally {
+			shared.shutdown();
+		}
+	}
+}
@@ -0,0 +1,216 @@
+package core.application.movies.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import core.application.movies.models.entities.CachedMovieEntity;
+import core.application.movies.models.events.MovieCounter;
+import core.application.movies.models.events.MovieCounterChangedEvent;
+import core.application.movies.repositories.movie.CachedMovieRepository;
+import core.application.movies.repositories.movie.MovieCounterDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MovieCounterBufferTest {
+
+	private CachedMovieRepository movieRepository;
+	private List<Object> events;
+	private MovieCounterBuffer buffer;
+
+	@BeforeEach
+	void init() {
+		movieRepository = mock(CachedMovieRepository.class);
+		events = new ArrayList<>();
+		buffer = new MovieCounterBuffer(movieRepository, events::add, true, 2, new SimpleMeterRegistry());
+	}
+
+	private static CachedMovieEntity movie(String movieId, long dibCount, long commentCount, long sumOfRating) {
+		return new CachedMovieEntity(movieId, "title", "poster", "genre", "20241010", "plot", "120", "actors",
+			"director", dibCount, 0, commentCount, sumOfRating);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<List<MovieCounterDelta>> flushedBatches() {
+		ArgumentCaptor<List<MovieCounterDelta>> captor = ArgumentCaptor.forClass(List.class);
+		verify(movieRepository, atLeast(0)).addCounters(captor.capture());
+		return captor.getAllValues();
+	}
+
+	@Test
+	@DisplayName("동시 변경량을 합쳐 영화별로 한 번에 반영한다.")
+	void flushAggregated() throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch done = new CountDownLatch(1000);
+		for (int i = 0; i < 1000; i++) {
+			executor.execute(() -> {
+				buffer.addDib("A", 1);
+				done.countDown();
+			});
+		}
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		buffer.addComment("A", 1, 4);
+		buffer.addComment("B", 1, 5);
+		buffer.addComment("B", -1, -5);
+
+		buffer.flush();
+
+		// 변경량이 상쇄된 B 는 반영하지 않는다.
+		List<MovieCounterDelta> flushed = flushedBatches().stream().flatMap(List::stream).toList();
+		assertThat(flushed).containsExactly(new MovieCounterDelta("A", 1000, 1, 4, 0));
+	}
+
+	@Test
+	@DisplayName("batch-size 개 영화씩 나눠 반영하고, 반영 이후 이벤트를 발행한다.")
+	void flushInBatches() {
+		buffer.addDib("A", 1);
+		buffer.addDib("B", 1);
+		buffer.addReview("C", 1);
+
+		buffer.flush();
+
+		assertThat(flushedBatches()).extracting(List::size).containsExactlyInAnyOrder(2, 1);
+		assertThat(events).containsExactlyInAnyOrder(
+			new MovieCounterChangedEvent("A", MovieCounter.DIB),
+			new MovieCounterChangedEvent("B", MovieCounter.DIB),
+			new MovieCounterChangedEvent("C", MovieCounter.REVIEW)
+		);
+	}
+
+	@Test
+	@DisplayName("반영에 실패한 변경량은 다음 주기에 다시 반영한다.")
+	void retryOnFailure() {
+		when(movieRepository.addCounters(any())).thenThrow(new QueryTimeoutException("timeout")).thenReturn(1);
+		buffer.addDib("A", 2);
+
+		buffer.flush();
+		assertThat(events).isEmpty();
+
+		buffer.addDib("A", 1);
+		buffer.flush();
+
+		assertThat(flushedBatches().get(1)).containsExactly(new MovieCounterDelta("A", 3, 0, 0, 0));
+		assertThat(events).containsExactly(new MovieCounterChangedEvent("A", MovieCounter.DIB));
+	}
+
+	@Test
+	@DisplayName("반영 대기 중인 변경량을 영화 정보에 더해 제공한다.")
+	void merge() {
+		buffer.addDib("A", 1);
+		buffer.addComment("A", 1, 5);
+
+		CachedMovieEntity merged = buffer.merge(movie("A", 10, 1, 3));
+
+		assertThat(merged.getDibCount()).isEqualTo(11);
+		assertThat(merged.getCommentCount()).isEqualTo(2);
+		assertThat(merged.getSumOfRating()).isEqualTo(8);
+		assertThat(merged.getAvgRating()).isEqualTo(4.0);
+		assertThat(buffer.merge(movie("B", 1, 0, 0)).getDibCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("변경이 없는 영화는 몇 주기 뒤 제거한다.")
+	void evictIdle() {
+		buffer.addDib("A", 1);
+		buffer.flush();
+		assertThat(buffer.pendingCount()).isEqualTo(1);
+
+		buffer.flush();
+		buffer.flush();
+		buffer.flush();
+
+		assertThat(buffer.pendingCount()).isZero();
+		verify(movieRepository, times(1)).addCounters(any());
+	}
+
+	@Test
+	@DisplayName("제거와 동시에 더한 변경량도 유실되지 않는다.")
+	void evictConcurrently() throws Exception {
+		int writers = 4;
+		int addsPerWriter = 20_000;
+		ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+		CountDownLatch done = new CountDownLatch(writers);
+		for (int w = 0; w < writers; w++) {
+			int seed = w;
+			executor.execute(() -> {
+				for (int i = 0; i < addsPerWriter; i++) {
+					// 영화가 많아 대부분 한동안 변경이 없어 제거 대상이 된다.
+					buffer.addDib("M-" + ((i * 31 + seed) % 50), 1);
+				}
+				done.countDown();
+			});
+		}
+		executor.execute(() -> {
+			while (done.getCount() > 0) {
+				buffer.flush();
+			}
+		});
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		buffer.flush();
+
+		long flushed = flushedBatches().stream().flatMap(List::stream).mapToLong(MovieCounterDelta::getDib).sum();
+		assertThat(flushed).isEqualTo((long)writers * addsPerWriter);
+	}
+
+	@Test
+	@DisplayName("사용하지 않도록 설정하면 바로 반영한다.")
+	void disabled() {
+		MovieCounterBuffer direct = new MovieCounterBuffer(movieRepository, events::add, false, 2,
+			new SimpleMeterRegistry());
+
+		direct.addDib("A", 1);
+		direct.addComment("A", 1, 4);
+
+		verify(movieRepository).addDibCount("A", 1);
+		verify(movieRepository).addCommentRating(eq("A"), eq(1L), eq(4L));
+		assertThat(direct.pendingCount()).isZero();
+		assertThat(events).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 더한 변경량은 커밋 이후에만 모으고, 롤백되면 버린다.")
+	void addAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			buffer.addDib("A", 1);
+			buffer.addComment("A", 1, 4);
+			assertThat(buffer.hasPending("A")).isFalse();
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertThat(buffer.hasPending("A")).isTrue();
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			buffer.addDib("B", 1);
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertThat(buffer.hasPending("B")).isFalse();
+
+		buffer.flush();
+		List<MovieCounterDelta> flushed = flushedBatches().stream().flatMap(List::stream).toList();
+		assertThat(flushed).containsExactly(new MovieCounterDelta("A", 1, 1, 4, 0));
+	}
+}
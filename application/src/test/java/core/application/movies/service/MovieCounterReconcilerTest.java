@@ -0,0 +1,149 @@
+package core.application.movies.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.models.entities.CachedMovieEntity;
+import core.application.movies.repositories.movie.CachedMovieRepository;
+import core.application.movies.repositories.movie.MovieCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MovieCounterReconcilerTest {
+
+	private CachedMovieRepository movieRepository;
+	private MovieCounterBuffer counterBuffer;
+	private SimpleMeterRegistry registry;
+	private MovieCounterReconciler reconciler;
+
+	@BeforeEach
+	void init() {
+		movieRepository = mock(CachedMovieRepository.class);
+		registry = new SimpleMeterRegistry();
+		counterBuffer = new MovieCounterBuffer(movieRepository, event -> {}, true, 100, registry);
+		reconciler = new MovieCounterReconciler(movieRepository, counterBuffer, 2, Duration.ZERO, Duration.ZERO, registry);
+		when(movieRepository.repairCounters(any(), any())).thenReturn(1);
+	}
+
+	private static CachedMovieEntity movie(MovieCounters counters) {
+		return new CachedMovieEntity(counters.getMovieId(), "title", "poster", "genre", "20241010", "plot", "120",
+			"actors", "director", counters.getDib(), counters.getReview(), counters.getComment(), counters.getRating());
+	}
+
+	@AfterEach
+	void shutdown() {
+		reconciler.shutdown();
+	}
+
+	@Test
+	@DisplayName("영화 ID 순으로 나눠 읽고, 값이 다른 영화만 고친다.")
+	void repairDrifted() {
+		MovieCounters a = new MovieCounters("A", 1, 0, 0, 0);
+		MovieCounters b = new MovieCounters("B", 3, 2, 8, 1);
+		MovieCounters c = new MovieCounters("C", 0, 1, 5, 0);
+		when(movieRepository.findCountersAfterMovieId(null, 2)).thenReturn(List.of(a, b));
+		when(movieRepository.findCountersAfterMovieId("B", 2)).thenReturn(List.of(c));
+		when(movieRepository.countCountersBetween("A", "B")).thenReturn(List.of(
+			new MovieCounters("A", 1, 0, 0, 0),
+			new MovieCounters("B", 2, 2, 9, 1)
+		));
+		// C 의 한줄평이 모두 삭제되었다.
+		when(movieRepository.countCountersBetween("C", "C")).thenReturn(List.of());
+		// 기다린 뒤에도 같은 차이가 남아 있다.
+		when(movieRepository.findAllByMovieIds(List.of("B"))).thenReturn(List.of(movie(b)));
+		when(movieRepository.findAllByMovieIds(List.of("C"))).thenReturn(List.of(movie(c)));
+		when(movieRepository.countCountersBetween("B", "B")).thenReturn(List.of(new MovieCounters("B", 2, 2, 9, 1)));
+
+		MovieCounterReconciler.Result result = reconciler.reconcile();
+
+		verify(movieRepository).repairCounters(b, new MovieCounters("B", 2, 2, 9, 1));
+		verify(movieRepository).repairCounters(c, new MovieCounters("C", 0, 0, 0, 0));
+		verify(movieRepository, times(2)).repairCounters(any(), any());
+		assertThat(result.getScanned()).isEqualTo(3);
+		assertThat(result.getRepaired()).isEqualTo(2);
+		assertThat(result.getDrift()).containsEntry("dib", 1L).containsEntry("comment", 1L)
+			.containsEntry("rating", 6L).containsEntry("review", 0L);
+		assertThat(registry.summary("movie.counter.reconcile.drift", "counter", "rating").count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("반영 대기 중인 변경량이 있거나 그 사이 카운터가 바뀐 영화는 건너뛴다.")
+	void skipChanging() {
+		MovieCounters a = new MovieCounters("A", 1, 0, 0, 0);
+		MovieCounters b = new MovieCounters("B", 1, 0, 0, 0);
+		when(movieRepository.findCountersAfterMovieId(null, 2)).thenReturn(List.of(a, b));
+		when(movieRepository.findCountersAfterMovieId("B", 2)).thenReturn(List.of());
+		when(movieRepository.countCountersBetween("A", "B")).thenReturn(List.of(
+			new MovieCounters("A", 2, 0, 0, 0),
+			new MovieCounters("B", 2, 0, 0, 0)
+		));
+		when(movieRepository.findAllByMovieIds(List.of("A", "B"))).thenReturn(List.of(movie(a), movie(b)));
+		counterBuffer.addDib("A", 1);
+		when(movieRepository.repairCounters(eq(b), any())).thenReturn(0);
+
+		MovieCounterReconciler.Result result = reconciler.reconcile();
+
+		verify(movieRepository, never()).repairCounters(eq(a), any());
+		assertThat(result.getRepaired()).isZero();
+		assertThat(result.getSkipped()).isEqualTo(2);
+		assertThat(result.getDrift()).containsEntry("dib", 0L);
+	}
+
+	@Test
+	@DisplayName("시작 요청은 보정을 전용 스레드에 맡기고 바로 돌아가며, 실행 중에는 다시 시작하지 않는다.")
+	void startInBackground() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(movieRepository.findCountersAfterMovieId(null, 2)).thenAnswer(invocation -> {
+			entered.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return List.of();
+		});
+
+		assertThat(reconciler.start()).isTrue();
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(reconciler.start()).isFalse();
+		assertThat(reconciler.reconcile()).isNull();
+		assertThat(reconciler.lastResult()).isNull();
+
+		release.countDown();
+		verify(movieRepository, timeout(1_000)).findCountersAfterMovieId(null, 2);
+		long deadline = System.currentTimeMillis() + 1_000;
+		while (reconciler.lastResult() == null && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(reconciler.lastResult().getScanned()).isZero();
+	}
+
+	@Test
+	@DisplayName("기다리는 사이 다른 서버가 반영하거나 실제 값이 바뀐 영화는 고치지 않는다.")
+	void skipUnsettled() {
+		MovieCounters a = new MovieCounters("A", 1, 0, 0, 0);
+		MovieCounters b = new MovieCounters("B", 1, 0, 0, 0);
+		when(movieRepository.findCountersAfterMovieId(null, 2)).thenReturn(List.of(a, b));
+		when(movieRepository.findCountersAfterMovieId("B", 2)).thenReturn(List.of());
+		when(movieRepository.countCountersBetween("A", "B"))
+			.thenReturn(List.of(new MovieCounters("A", 2, 0, 0, 0), new MovieCounters("B", 2, 0, 0, 0)))
+			// 그 사이 B 에 찜이 하나 더 생겼다.
+			.thenReturn(List.of(new MovieCounters("A", 2, 0, 0, 0), new MovieCounters("B", 3, 0, 0, 0)));
+		// 그 사이 다른 서버가 A 의 찜 변경량을 반영했다.
+		when(movieRepository.findAllByMovieIds(List.of("A", "B")))
+			.thenReturn(List.of(movie(new MovieCounters("A", 2, 0, 0, 0)), movie(b)));
+
+		MovieCounterReconciler.Result result = reconciler.reconcile();
+
+		verify(movieRepository, never()).repairCounters(any(), any());
+		assertThat(result.getRepaired()).isZero();
+		assertThat(result.getSkipped()).isEqualTo(2);
+	}
+}
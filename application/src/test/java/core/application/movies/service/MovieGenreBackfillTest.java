@@ -0,0 +1,61 @@
+package core.application.movies.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.models.entities.CachedMovieEntity;
+import core.application.movies.repositories.movie.CachedMovieRepository;
+
+public class MovieGenreBackfillTest {
+
+	private CachedMovieRepository movieRepository;
+	private MovieGenreBackfill backfill;
+
+	@BeforeEach
+	void init() {
+		movieRepository = mock(CachedMovieRepository.class);
+		backfill = new MovieGenreBackfill(movieRepository, true, 2);
+	}
+
+	private static CachedMovieEntity movie(String movieId) {
+		return new CachedMovieEntity(movieId, "title", "poster", "멜로/로맨스", "20241010", "plot", "120", "actors",
+			"director", 0, 0, 0, 0);
+	}
+
+	@Test
+	@DisplayName("모든 영화를 영화 ID 순으로 나눠 읽어 장르 매핑을 등록한다.")
+	void backfillInChunks() {
+		List<CachedMovieEntity> first = List.of(movie("A-1"), movie("A-2"));
+		List<CachedMovieEntity> second = List.of(movie("A-3"));
+		when(movieRepository.findMoviesAfterMovieId(isNull(), eq(2))).thenReturn(first);
+		when(movieRepository.findMoviesAfterMovieId("A-2", 2)).thenReturn(second);
+
+		int total = backfill.backfill();
+
+		assertThat(total).isEqualTo(3);
+		verify(movieRepository).saveGenres(first);
+		verify(movieRepository).saveGenres(second);
+		verify(movieRepository, times(2)).findMoviesAfterMovieId(any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("끄면 시작 시 실행하지 않는다.")
+	void disabled() {
+		new MovieGenreBackfill(movieRepository, false, 2).backfillOnStartup();
+
+		verifyNoInteractions(movieRepository);
+	}
+
+	@Test
+	@DisplayName("'/' 로 묶은 장르도 나눈다.")
+	void splitSlash() {
+		assertThat(movie("A-1").genres()).containsExactly("멜로", "로맨스");
+	}
+}
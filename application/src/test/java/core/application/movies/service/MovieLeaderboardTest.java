@@ -0,0 +1,113 @@
+package core.application.movies.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.models.entities.CachedMovieEntity;
+
+public class MovieLeaderboardTest {
+
+	private static CachedMovieEntity movie(String movieId, long dibCount) {
+		return new CachedMovieEntity(movieId, "title", "poster", "genre", "20241010", "plot", "120", "actors",
+			"director", dibCount, 0, 0, 0);
+	}
+
+	// M-0 부터 찜 수가 10 씩 줄어드는 영화 count 개
+	private static List<CachedMovieEntity> descending(int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> movie("M-" + i, (count - i) * 10L))
+			.toList();
+	}
+
+	private static List<String> ids(List<CachedMovieEntity> movies) {
+		return movies.stream().map(CachedMovieEntity::getMovieId).toList();
+	}
+
+	private static MovieLeaderboard leaderboard(int k, int capacity) {
+		return new MovieLeaderboard(k, capacity, movie -> (double)movie.getDibCount());
+	}
+
+	@Test
+	@DisplayName("재구성하면 점수 내림차순 상위 k 개를 제공한다.")
+	void rebuild() {
+		MovieLeaderboard board = leaderboard(3, 10);
+		assertThat(board.needsRebuild()).isTrue();
+
+		board.rebuild(descending(10));
+
+		assertThat(ids(board.top())).containsExactly("M-0", "M-1", "M-2");
+		assertThat(board.needsRebuild()).isFalse();
+	}
+
+	@Test
+	@DisplayName("점수가 오른 영화는 순위에 반영되고, 같은 점수는 영화 ID 순으로 정렬한다.")
+	void update() {
+		MovieLeaderboard board = leaderboard(3, 10);
+		board.rebuild(descending(10));
+
+		board.update(movie("M-5", 95));
+		board.update(movie("M-9", 90));
+
+		assertThat(ids(board.top())).containsExactly("M-0", "M-5", "M-1");
+	}
+
+	@Test
+	@DisplayName("추적하지 않는 영화는 기준 점수 이상일 때만 반영한다.")
+	void updateUntracked() {
+		MovieLeaderboard board = leaderboard(3, 10);
+		board.rebuild(descending(10));
+
+		board.update(movie("NEW-1", 5));
+		board.update(movie("NEW-2", 200));
+
+		assertThat(ids(board.top())).containsExactly("NEW-2", "M-0", "M-1");
+	}
+
+	@Test
+	@DisplayName("상위 영화의 점수가 기준 점수보다 낮아지면 재구성이 필요하다.")
+	void needsRebuild() {
+		MovieLeaderboard board = leaderboard(3, 3);
+		board.rebuild(descending(3));
+
+		board.update(movie("M-2", 0));
+
+		assertThat(board.needsRebuild()).isTrue();
+	}
+
+	@Test
+	@DisplayName("전체 영화가 capacity 보다 적으면 재구성 없이 모든 변경을 반영한다.")
+	void smallerThanCapacity() {
+		MovieLeaderboard board = leaderboard(3, 10);
+		board.rebuild(descending(2));
+
+		board.update(movie("NEW-1", 0));
+		board.update(movie("M-0", 0));
+
+		assertThat(ids(board.top())).containsExactly("M-1", "M-0", "NEW-1");
+		assertThat(board.needsRebuild()).isFalse();
+	}
+
+	@Test
+	@DisplayName("추적 영화가 많아지면 하위 영화를 버리고 기준 점수를 올린다.")
+	void trim() {
+		MovieLeaderboard board = leaderboard(1, 2);
+		board.rebuild(List.of(movie("M-0", 20), movie("M-1", 10)));
+
+		board.update(movie("NEW-1", 30));
+		board.update(movie("NEW-2", 40));
+		board.update(movie("NEW-3", 50));
+
+		// 버려진 영화 중 가장 높은 점수(30) 보다 낮은 영화는 더 이상 반영되지 않는다.
+		board.update(movie("NEW-4", 10));
+		assertThat(ids(board.top())).containsExactly("NEW-3");
+
+		board.update(movie("NEW-3", 0));
+		assertThat(ids(board.top())).containsExactly("NEW-2");
+		assertThat(board.needsRebuild()).isFalse();
+	}
+}
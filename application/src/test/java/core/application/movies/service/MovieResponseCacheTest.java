@@ -0,0 +1,58 @@
+package core.application.movies.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import core.application.api.response.JsonResponseCache;
+import core.application.movies.constant.Genre;
+import core.application.movies.constant.MovieSearch;
+import core.application.movies.models.dto.response.MovieSearchRespDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MovieResponseCacheTest {
+
+	private GenrePageSnapshot snapshot;
+	private MovieResponseCache responseCache;
+
+	@BeforeEach
+	void init() {
+		JsonResponseCache jsonCache = new JsonResponseCache(new ObjectMapper(), 1024 * 1024, Duration.ofMinutes(1),
+			new SimpleMeterRegistry());
+		snapshot = new GenrePageSnapshot();
+		responseCache = new MovieResponseCache(jsonCache, mock(MovieCounterBuffer.class), snapshot);
+	}
+
+	private static Page<MovieSearchRespDTO> page(String title) {
+		return new PageImpl<>(List.of(new MovieSearchRespDTO("K-1", title, "poster", "2024")), PageRequest.of(0, 10),
+			1);
+	}
+
+	@Test
+	@DisplayName("미리 만들어 둔 장르 페이지는 재사용하고, 그 밖의 장르 페이지는 보관하지 않는다.")
+	void genrePage() {
+		Page<MovieSearchRespDTO> warmed = page("미리");
+		snapshot.replace(Map.of(new GenrePageSnapshot.Key(Genre.ACTION, MovieSearch.LATEST, 0), warmed));
+
+		JsonResponseCache.Entry first = responseCache.genrePage(Genre.ACTION, MovieSearch.LATEST, 0, warmed);
+		assertThat(first.getEtag()).isNotNull();
+		assertThat(responseCache.genrePage(Genre.ACTION, MovieSearch.LATEST, 0, warmed)).isSameAs(first);
+
+		JsonResponseCache.Entry other = responseCache.genrePage(Genre.ACTION, MovieSearch.LATEST, 5, page("요청"));
+		assertThat(other.getEtag()).isNull();
+		assertThat(other.getGzipBody()).isNull();
+		assertThat(responseCache.genrePage(Genre.ACTION, MovieSearch.LATEST, 0, page("미리"))).isNotSameAs(first);
+	}
+}
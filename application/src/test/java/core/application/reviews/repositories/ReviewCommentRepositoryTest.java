@@ -3,6 +3,7 @@ package core.application.reviews.repositories;
 import static java.util.Comparator.*;
 import static org.assertj.core.api.Assertions.*;
 
+import core.application.api.pagination.*;
 import core.application.movies.models.entities.*;
 import core.application.movies.repositories.movie.*;
 import core.application.reviews.models.entities.*;
@@ -397,6 +398,136 @@ class ReviewCommentRepositoryTest {
         log.info("-> findChildCommentsByGroupId");
     }
 
+    /**
+     * 첫 페이지부터 다음 cursor 가 없을 때까지 읽은 페이지들
+     */
+    private static <T> List<List<T>> readAllPages(Function<String, CursorSlice<T>> find) {
+        List<List<T>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSlice<T> slice = find.apply(cursor);
+            pages.add(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private static List<Long> commentIds(List<List<ReviewCommentEntity>> pages) {
+        return pages.stream().flatMap(List::stream).map(ReviewCommentEntity::getReviewCommentId).toList();
+    }
+
+    @Test
+    @DisplayName("어느 영화 리뷰의 부모 댓글을 cursor 로 끝까지 최신순으로 검색")
+    void findParentCommentByReviewIdOnDateDescendAfter() {
+        log.info("<- findParentCommentByReviewIdOnDateDescendAfter");
+
+        // DB 에 댓글 저장, ID 내림차순으로 가져옴
+        List<Long> expected = testParent.stream()
+                .map(t -> reviewCommentRepo.saveNewParentReviewComment(
+                        testReview.getReviewId(), testUser.getUserId(), t).getReviewCommentId())
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        List<List<ReviewCommentEntity>> pages = readAllPages(cursor -> reviewCommentRepo
+                .findParentCommentByReviewIdOnDateDescendAfter(testReview.getReviewId(), cursor, TEST_SIZE / 3));
+
+        // 페이지 수, 순서, 빠짐 / 중복 없는지 확인
+        assertThat(pages).hasSize(4);
+        assertThat(commentIds(pages)).containsExactlyElementsOf(expected);
+        pages.forEach(page -> page.forEach(r -> assertThat(r.getGroupId()).isNull()));
+
+        // 없을 땐 empty
+        long random = new Random().nextLong();
+        assertThat(reviewCommentRepo
+                .findParentCommentByReviewIdOnDateDescendAfter(random, null, TEST_SIZE).getContent())
+                .isEmpty();
+
+        log.info("-> findParentCommentByReviewIdOnDateDescendAfter");
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 같은 부모 댓글이 페이지 경계에 걸쳐도 ID 순으로 이어서 검색")
+    void findParentCommentByReviewIdOnLikeDescendAfter() {
+        log.info("<- findParentCommentByReviewIdOnLikeDescendAfter");
+
+        // DB 에 댓글 저장 후 좋아요 수가 겹치도록 수정
+        List<ReviewCommentEntity> saved = testParent.stream()
+                .map(t -> reviewCommentRepo.saveNewParentReviewComment(
+                        testReview.getReviewId(), testUser.getUserId(), t))
+                .toList();
+        List<Long> expected = IntStream.range(0, saved.size())
+                .mapToObj(i -> reviewCommentRepo.updateReviewCommentLikes(
+                        saved.get(i).getReviewCommentId(), i % 7).orElseThrow())
+                .sorted(likeDescend)
+                .map(ReviewCommentEntity::getReviewCommentId)
+                .toList();
+
+        List<List<ReviewCommentEntity>> pages = readAllPages(cursor -> reviewCommentRepo
+                .findParentCommentByReviewIdOnLikeDescendAfter(testReview.getReviewId(), cursor, TEST_SIZE / 3));
+
+        assertThat(pages).hasSize(4);
+        assertThat(commentIds(pages)).containsExactlyElementsOf(expected);
+
+        log.info("-> findParentCommentByReviewIdOnLikeDescendAfter");
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 int 최댓값인 부모 댓글도 첫 페이지에서 검색")
+    void findParentCommentByReviewIdOnLikeDescendAfterMaxLike() {
+        log.info("<- findParentCommentByReviewIdOnLikeDescendAfterMaxLike");
+
+        ReviewCommentEntity max = reviewCommentRepo.saveNewParentReviewComment(
+                testReview.getReviewId(), testUser.getUserId(),
+                genComment(null, null, null, null, 0));
+        reviewCommentRepo.updateReviewCommentLikes(max.getReviewCommentId(), Integer.MAX_VALUE);
+        reviewCommentRepo.saveNewParentReviewComment(
+                testReview.getReviewId(), testUser.getUserId(),
+                genComment(null, null, null, null, 0));
+
+        CursorSlice<ReviewCommentEntity> result = reviewCommentRepo
+                .findParentCommentByReviewIdOnLikeDescendAfter(testReview.getReviewId(), null, 1);
+
+        assertThat(result.getContent()).extracting(ReviewCommentEntity::getReviewCommentId)
+                .containsExactly(max.getReviewCommentId());
+        assertThat(result.getHasNext()).isTrue();
+
+        // 올바르지 않은 cursor 는 예외
+        assertThatIllegalArgumentException().isThrownBy(() -> reviewCommentRepo
+                .findParentCommentByReviewIdOnLikeDescendAfter(testReview.getReviewId(), "not a cursor!", 1));
+
+        log.info("-> findParentCommentByReviewIdOnLikeDescendAfterMaxLike");
+    }
+
+    @Test
+    @DisplayName("특정 부모 댓글의 자식 댓글을 cursor 로 끝까지 최신순으로 검색")
+    void findChildCommentsByGroupIdAfter() {
+        log.info("<- findChildCommentsByGroupIdAfter");
+
+        // DB 에 댓글 저장
+        Long testGroupId = reviewCommentRepo.saveNewParentReviewComment(
+                        testReview.getReviewId(), testUser.getUserId(),
+                        genComment(null, null, null, null, 0))
+                .getReviewCommentId();
+
+        List<Long> expected = testChild.stream()
+                .map(t -> reviewCommentRepo.saveNewChildReviewComment(
+                        testGroupId, testUser.getUserId(),
+                        genComment(null, testReview.getReviewId(),
+                                null, null, 0)
+                ).getReviewCommentId())
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        List<List<ReviewCommentEntity>> pages = readAllPages(cursor -> reviewCommentRepo
+                .findChildCommentsByGroupIdAfter(testGroupId, cursor, TEST_SIZE / 3));
+
+        assertThat(pages).hasSize(4);
+        assertThat(commentIds(pages)).containsExactlyElementsOf(expected);
+        pages.forEach(page -> page.forEach(r -> assertThat(r.getGroupId()).isEqualTo(testGroupId)));
+
+        log.info("-> findChildCommentsByGroupIdAfter");
+    }
+
     @Test
     @DisplayName("특정 댓글의 정보를 변경")
     void editReviewCommentInfo() {
@@ -3,6 +3,7 @@ package core.application.reviews.repositories;
 import static java.util.Comparator.*;
 import static org.assertj.core.api.Assertions.*;
 
+import core.application.api.pagination.*;
 import core.application.movies.models.entities.*;
 import core.application.movies.repositories.movie.*;
 import core.application.reviews.models.entities.*;
@@ -11,6 +12,7 @@ import core.application.users.repositories.*;
 import java.time.*;
 import java.time.temporal.*;
 import java.util.*;
+import java.util.function.*;
 import java.util.logging.*;
 import java.util.stream.*;
 import org.junit.jupiter.api.*;
@@ -243,6 +245,97 @@ private static CachedMovieEntity testMovie = new CachedMovieEntity(TESTING, TEST
         log.info("-> findByMovieIdOnLikeDescend");
     }
 
+    /**
+     * 첫 페이지부터 다음 cursor 가 없을 때까지 읽은 페이지들
+     */
+    private static <T> List<List<T>> readAllPages(Function<String, CursorSlice<T>> find) {
+        List<List<T>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSlice<T> slice = find.apply(cursor);
+            pages.add(slice.getContent());
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    @Test
+    @DisplayName("특정 영화에 달린 리뷰글을 cursor 로 끝까지 최신순으로 읽는다.")
+    void findByMovieIdOnDateDescendAfter() {
+        log.info("<- findByMovieIdOnDateDescendAfter");
+
+        // DB 에 리뷰글 저장, ID 내림차순으로 가져옴
+        List<Long> expected = testReviews.stream()
+                .map(t -> reviewRepo.saveNewReview(t.getMovieId(), t.getUserId(), t).getReviewId())
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        List<List<ReviewEntity>> pages = readAllPages(cursor -> reviewRepo.findByMovieIdOnDateDescendAfter(
+                testMovie.getMovieId(), cursor, TEST_SIZE / 3, false));
+
+        // 페이지 수, 순서, 빠짐 / 중복 없는지 확인
+        assertThat(pages).hasSize(4);
+        List<ReviewEntity> result = pages.stream().flatMap(List::stream).toList();
+        assertThat(result).extracting(ReviewEntity::getReviewId).containsExactlyElementsOf(expected);
+
+        // 본문 없이 가져왔는지 확인
+        result.forEach(r -> assertThat(r.getContent()).isNullOrEmpty());
+
+        // 없을 땐 empty
+        String random = "RANDOM RANDOM";
+        assertThat(reviewRepo.findByMovieIdOnDateDescendAfter(random, null, TEST_SIZE, true).getContent())
+                .isEmpty();
+
+        log.info("-> findByMovieIdOnDateDescendAfter");
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 같은 리뷰글이 페이지 경계에 걸쳐도 ID 순으로 이어서 읽는다.")
+    void findByMovieIdOnLikeDescendAfter() {
+        log.info("<- findByMovieIdOnLikeDescendAfter");
+
+        // 좋아요 수가 겹치도록 리뷰글 저장
+        List<Long> expected = IntStream.range(0, TEST_SIZE)
+                .mapToObj(i -> genReview(testUser.getUserId(), testMovie.getMovieId(), i % 7))
+                .map(t -> reviewRepo.saveNewReview(t.getMovieId(), t.getUserId(), t))
+                .sorted(likeDescend)
+                .map(ReviewEntity::getReviewId)
+                .toList();
+
+        List<List<ReviewEntity>> pages = readAllPages(cursor -> reviewRepo.findByMovieIdOnLikeDescendAfter(
+                testMovie.getMovieId(), cursor, TEST_SIZE / 3, true));
+
+        assertThat(pages).hasSize(4);
+        assertThat(pages.stream().flatMap(List::stream))
+                .extracting(ReviewEntity::getReviewId)
+                .containsExactlyElementsOf(expected);
+
+        log.info("-> findByMovieIdOnLikeDescendAfter");
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 int 최댓값인 리뷰글도 첫 페이지에서 읽는다.")
+    void findByMovieIdOnLikeDescendAfterMaxLike() {
+        log.info("<- findByMovieIdOnLikeDescendAfterMaxLike");
+
+        ReviewEntity max = reviewRepo.saveNewReview(testMovie.getMovieId(), testUser.getUserId(),
+                genReview(null, null, Integer.MAX_VALUE));
+        reviewRepo.saveNewReview(testMovie.getMovieId(), testUser.getUserId(), genReview(null, null, 0));
+
+        CursorSlice<ReviewEntity> result = reviewRepo.findByMovieIdOnLikeDescendAfter(
+                testMovie.getMovieId(), null, 1, true);
+
+        assertThat(result.getContent()).extracting(ReviewEntity::getReviewId)
+                .containsExactly(max.getReviewId());
+        assertThat(result.getHasNext()).isTrue();
+
+        // 올바르지 않은 cursor 는 예외
+        assertThatIllegalArgumentException().isThrownBy(() -> reviewRepo.findByMovieIdOnLikeDescendAfter(
+                testMovie.getMovieId(), "not a cursor!", 1, true));
+
+        log.info("-> findByMovieIdOnLikeDescendAfterMaxLike");
+    }
+
     @Test
     @DisplayName("특정 영화에 달린 리뷰글을 본문을 제외하고 불러온다.")
     void findByMovieIdWithoutContent() {
@@ -0,0 +1,54 @@
+package core.application.reviews.services;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.movies.service.MovieCounterBuffer;
+import core.application.reviews.models.events.ReviewChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ReviewCountUpdaterTest {
+
+	private MovieCounterBuffer counterBuffer;
+	private SimpleMeterRegistry registry;
+	private ReviewCountUpdater updater;
+
+	@BeforeEach
+	void init() {
+		counterBuffer = mock(MovieCounterBuffer.class);
+		registry = new SimpleMeterRegistry();
+		updater = new ReviewCountUpdater(counterBuffer, registry);
+	}
+
+	private static ReviewChangedEvent event(long reviewId, ReviewChangedEvent.Type type) {
+		return new ReviewChangedEvent(reviewId, "A", type);
+	}
+
+	@Test
+	@DisplayName("리뷰 작성 / 삭제 시 영화의 리뷰 수 변경량을 더한다.")
+	void applyDelta() {
+		updater.onReviewChanged(event(1L, ReviewChangedEvent.Type.CREATED));
+		updater.onReviewChanged(event(2L, ReviewChangedEvent.Type.CREATED));
+		updater.onReviewChanged(event(1L, ReviewChangedEvent.Type.DELETED));
+
+		verify(counterBuffer, times(2)).addReview("A", 1L);
+		verify(counterBuffer).addReview("A", -1L);
+	}
+
+	@Test
+	@DisplayName("같은 리뷰에 대한 이벤트는 한 번만 반영한다.")
+	void ignoreDuplicate() {
+		updater.onReviewChanged(event(1L, ReviewChangedEvent.Type.CREATED));
+		updater.onReviewChanged(event(1L, ReviewChangedEvent.Type.CREATED));
+		updater.onReviewChanged(event(1L, ReviewChangedEvent.Type.DELETED));
+		updater.onReviewChanged(event(1L, ReviewChangedEvent.Type.DELETED));
+
+		verify(counterBuffer).addReview("A", 1L);
+		verify(counterBuffer).addReview("A", -1L);
+		assertThat(registry.counter("review.count.event", "result", "duplicate").count()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,86 @@
+package core.application.users.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import core.application.users.models.dto.UserAliasDTO;
+import core.application.users.repositories.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class UserAliasServiceImplTest {
+
+	private final UUID kim = UUID.randomUUID();
+	private final UUID lee = UUID.randomUUID();
+
+	private UserRepository userRepository;
+	private UserAliasServiceImpl userAliasService;
+
+	@BeforeEach
+	void init() {
+		userRepository = mock(UserRepository.class);
+		userAliasService = new UserAliasServiceImpl(userRepository, 100, Duration.ofMinutes(1),
+			new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("보관되지 않은 유저들의 닉네임만 한 번에 불러온다.")
+	void getAliases() {
+		when(userRepository.findAliasesByIds(any())).thenReturn(List.of(new UserAliasDTO(kim, "kim")));
+		userAliasService.getAlias(kim);
+
+		when(userRepository.findAliasesByIds(any())).thenReturn(List.of(new UserAliasDTO(lee, "lee")));
+		Map<UUID, String> aliases = userAliasService.getAliases(Arrays.asList(kim, lee, lee, null));
+
+		assertThat(aliases).containsOnly(entry(kim, "kim"), entry(lee, "lee"));
+		verify(userRepository).findAliasesByIds(List.of(lee));
+		verify(userRepository, times(2)).findAliasesByIds(any());
+	}
+
+	@Test
+	@DisplayName("보관된 닉네임만 있으면 조회하지 않는다.")
+	void cached() {
+		when(userRepository.findAliasesByIds(any())).thenReturn(List.of(new UserAliasDTO(kim, "kim")));
+
+		userAliasService.getAlias(kim);
+		assertThat(userAliasService.getAliases(List.of(kim))).containsOnly(entry(kim, "kim"));
+		assertThat(userAliasService.getAliases(List.of())).isEmpty();
+
+		verify(userRepository, times(1)).findAliasesByIds(any());
+	}
+
+	@Test
+	@DisplayName("닉네임이 바뀌면 다시 불러온다.")
+	void evict() {
+		when(userRepository.findAliasesByIds(any()))
+			.thenReturn(List.of(new UserAliasDTO(kim, "kim")))
+			.thenReturn(List.of(new UserAliasDTO(kim, "kimkim")));
+		userAliasService.getAlias(kim);
+
+		userAliasService.evict(kim);
+
+		assertThat(userAliasService.getAlias(kim)).isEqualTo("kimkim");
+	}
+
+	@Test
+	@DisplayName("조회 중 지워진 닉네임은 보관하지 않는다.")
+	void evictDuringLoad() {
+		when(userRepository.findAliasesByIds(any())).thenAnswer(invocation -> {
+			userAliasService.evict(kim);
+			return List.of(new UserAliasDTO(kim, "kim"));
+		}).thenReturn(List.of(new UserAliasDTO(kim, "kimkim")));
+
+		assertThat(userAliasService.getAlias(kim)).isEqualTo("kim");
+		assertThat(userAliasService.getAlias(kim)).isEqualTo("kimkim");
+	}
+}
@@ -29,6 +29,9 @@ public class UserServiceImplTest {
     @Mock
     private AuthenticatedUserService authenticatedUserService;
 
+    @Mock
+    private UserAliasService userAliasService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -89,6 +92,7 @@ public class UserServiceImplTest {
         MessageResponseDTO messageResponseDTO = userService.updateUserInfo(userUpdateReqDTO);
 
         Assertions.assertThat(messageResponseDTO).isNotNull();
+        Mockito.verify(userAliasService).evict(userEntity.getUserId());
     }
 
     @Test
@@ -33,10 +33,35 @@ create table cached_movie_table
     dib_count     bigint default 0 not null comment '해당 영화가 찜으로 지정된 수',
     review_count  bigint default 0 not null comment '해당 영화에 달린 리뷰 포스팅 수',
     comment_count bigint default 0 not null comment '해당 영화에 달린 한줄평 수',
-    sum_of_rating bigint default 0 not null comment '해당 영화 한줄평의 평점 총 합'
+    sum_of_rating bigint default 0 not null comment '해당 영화 한줄평의 평점 총 합',
+    avg_rating    double           null comment '해당 영화 한줄평의 평균 평점 (소수점 첫째 자리 반올림), 한줄평이 없으면 null'
 )
     comment '캐시된 영화 목록들';
 
+-- 평점순 조회 (avg_rating desc, movie_id desc) 인덱스
+create index cached_movie_table_avg_rating_index
+    on cached_movie_table (avg_rating);
+
+-- 기존 테이블에 평균 평점 추가
+-- alter table cached_movie_table add avg_rating double null comment '해당 영화 한줄평의 평균 평점 (소수점 첫째 자리 반올림), 한줄평이 없으면 null';
+-- update cached_movie_table set avg_rating = round(sum_of_rating / comment_count, 1) where comment_count > 0;
+-- create index cached_movie_table_avg_rating_index on cached_movie_table (avg_rating);
+
+
+-- 영화 장르 매핑 테이블
+create table movie_genre_table
+(
+    genre    varchar(50) not null comment '장르 (cached_movie_table.genre 를 쉼표와 / 로 나눈 값)',
+    movie_id varchar(50) not null comment 'KMDB 영화 ID',
+    primary key (genre, movie_id),
+    constraint movie_genre_table_cached_movie_table_movie_id_fk
+        foreign key (movie_id) references cached_movie_table (movie_id)
+            on update cascade on delete cascade
+)
+    comment '영화 장르 매핑 테이블';
+
+-- 기존 영화의 장르 매핑은 movie.genre-backfill.enabled=true 로 한 서버를 한 번 시작해 MovieGenreBackfill 로 채운다.
+
 
 -- auto-generated definition
 -- 찜 목록 테이블
@@ -78,26 +103,48 @@ create table comment_table
 )
     comment '한줄평 테이블';
 
+-- 좋아요 / 싫어요 순 키셋 페이징 (movie_id, `like` desc, comment_id desc) 인덱스
+create index comment_table_movie_id_like_index
+    on comment_table (movie_id, `like`);
+create index comment_table_movie_id_dislike_index
+    on comment_table (movie_id, dislike);
+
 -- 한줄평 좋아요 로그 테이블
 create table comment_like_table
 (
     comment_like_id bigint auto_increment primary key,
     comment_id      bigint not null,
     user_id         binary(16),
+    constraint comment_like_table_comment_id_user_id_uk
+        unique (comment_id, user_id),
     constraint foreign key (comment_id) references comment_table (comment_id),
     constraint foreign key (user_id) references user_table (user_id)
 );
 
+-- 기존 테이블에 사용자별 반응 유니크 키 추가 (중복 반응 제거 후 한줄평 반응 수 재계산)
+-- delete t1 from comment_like_table t1 join comment_like_table t2
+--     on t1.comment_id = t2.comment_id and t1.user_id = t2.user_id and t1.comment_like_id > t2.comment_like_id;
+-- alter table comment_like_table add constraint comment_like_table_comment_id_user_id_uk unique (comment_id, user_id);
+-- update comment_table c set `like` = (select count(*) from comment_like_table l where l.comment_id = c.comment_id);
+
 -- 한줄평 싫어요 로그 테이블
 create table comment_dislike_table
 (
     comment_dislike_id bigint auto_increment primary key,
     comment_id         bigint not null,
     user_id            binary(16),
+    constraint comment_dislike_table_comment_id_user_id_uk
+        unique (comment_id, user_id),
     constraint foreign key (comment_id) references comment_table (comment_id),
     constraint foreign key (user_id) references user_table (user_id)
 );
 
+-- 기존 테이블에 사용자별 반응 유니크 키 추가 (중복 반응 제거 후 한줄평 반응 수 재계산)
+-- delete t1 from comment_dislike_table t1 join comment_dislike_table t2
+--     on t1.comment_id = t2.comment_id and t1.user_id = t2.user_id and t1.comment_dislike_id > t2.comment_dislike_id;
+-- alter table comment_dislike_table add constraint comment_dislike_table_comment_id_user_id_uk unique (comment_id, user_id);
+-- update comment_table c set dislike = (select count(*) from comment_dislike_table d where d.comment_id = c.comment_id);
+
 
 -- auto-generated definition
 -- 리뷰 테이블
@@ -121,6 +168,10 @@ create table review_table
 )
     comment '리뷰 테이블';
 
+-- 좋아요 순 키셋 페이징 (movie_id, `like` desc, review_id desc) 인덱스
+create index review_table_movie_id_like_index
+    on review_table (movie_id, `like`);
+
 
 -- auto-generated definition
 -- 리뷰 댓글 테이블
@@ -144,3 +195,10 @@ create table review_comment_table
             on update cascade on delete cascade
 )
     comment '리뷰 댓글 테이블';
+
+-- 부모 댓글 좋아요 순 키셋 페이징 (review_id, group_id is null, `like` desc, review_comment_id desc) 인덱스
+create index review_comment_table_review_id_group_id_like_index
+    on review_comment_table (review_id, group_id, `like`);
+-- 자식 댓글 조회 (group_id, review_comment_id desc) 인덱스
+create index review_comment_table_group_id_index
+    on review_comment_table (group_id);